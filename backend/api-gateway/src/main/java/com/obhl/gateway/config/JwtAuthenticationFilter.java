@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -24,10 +25,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Value("${internal.service.key}")
+    private String internalServiceKey;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        // Trusted backend-to-backend calls (e.g. game-service's outbox posting team standings after a
+        // game is finalized) have no end user's JWT to forward. They authenticate with the shared
+        // internal-service key and get ROLE_INTERNAL_SERVICE only -- enough for .authenticated()
+        // endpoints, never for anything behind an ADMIN/GM role check.
+        String internalKeyHeader = request.getHeader("X-Internal-Service-Key");
+        if (internalKeyHeader != null && !internalKeyHeader.isBlank()
+                && internalKeyHeader.equals(internalServiceKey)
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    "internal-service", null, java.util.List.of(new SimpleGrantedAuthority("ROLE_INTERNAL_SERVICE"))));
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         String authHeader = request.getHeader("Authorization");
         String token = null;
         String username = null;
@@ -46,6 +46,9 @@ public class SecurityConfig {
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         // Public read-only endpoints
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/v1/seasons", "/api/v1/seasons/**").permitAll()
+                        // Player stats rebuilds rewrite a season's stats and their job status lists
+                        // every correction: ADMIN-only, stated before the public games GET below.
+                        .requestMatchers("/api/v1/games/season/*/stats-rebuild", "/api/v1/games/stats-rebuild/**").hasRole("ADMIN")
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/v1/games", "/api/v1/games/**").permitAll()
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/v1/teams", "/api/v1/teams/**").permitAll()
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/v1/players", "/api/v1/players/**").permitAll()
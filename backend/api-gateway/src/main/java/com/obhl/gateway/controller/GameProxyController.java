@@ -65,6 +65,18 @@ public class GameProxyController {
                                 proxyHeaders.set("Authorization", authHeader);
                         }
 
+                        // Forward conditional-GET validators so game-service can answer a repeat
+                        // schedule/standings poll with 304. Its ETag, Last-Modified and
+                        // Cache-Control come back with the response headers below. If-Match
+                        // carries the version an absolute game or event write was read at.
+                        for (String validator : new String[] { HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE,
+                                        HttpHeaders.IF_MATCH }) {
+                                String value = request.getHeader(validator);
+                                if (value != null) {
+                                        proxyHeaders.set(validator, value);
+                                }
+                        }
+
                         HttpEntity<String> entity = new HttpEntity<>(body, proxyHeaders);
 
                         // Forward the request
@@ -0,0 +1,37 @@
+package com.obhl.gateway.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.obhl.gateway.service.LiveScoreRelay;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The live score stream for browsers. Mapped ahead of GameProxyController's catch-all, which
+ * buffers whole responses and so can't carry a stream.
+ */
+@RestController
+@RequestMapping("${api.v1.prefix}/games")
+@RequiredArgsConstructor
+public class LiveScoreProxyController {
+
+    private final LiveScoreRelay liveScoreRelay;
+
+    @GetMapping("/live")
+    public SseEmitter live(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(required = false) String lastEventId,
+            HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        // Tells nginx not to buffer the stream
+        response.setHeader("X-Accel-Buffering", "no");
+        return liveScoreRelay.subscribe(lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+}
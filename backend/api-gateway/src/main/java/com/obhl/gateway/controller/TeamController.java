@@ -76,13 +76,25 @@ public class TeamController {
         }
     }
 
+    /**
+     * Adds a standings delta to the team. With gameId and direction (how game-service's outbox
+     * sends them) the delta counts once per game and direction, however often it is delivered.
+     */
     @PostMapping("/{teamId}/stats")
     public ResponseEntity<Void> updateTeamStats(
             @PathVariable Long teamId,
+            @RequestParam(required = false) Long gameId,
+            @RequestParam(required = false) String direction,
             @RequestBody java.util.Map<String, Integer> statsUpdate) {
         try {
-            teamService.incrementTeamStats(teamId, statsUpdate);
+            if (gameId != null) {
+                teamService.applyGameStats(teamId, gameId, direction, statsUpdate);
+            } else {
+                teamService.incrementTeamStats(teamId, statsUpdate);
+            }
             return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -38,4 +38,6 @@ public class GameResponseDTO {
     private Long scorekeeperId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    /** game-service's optimistic-locking version; a PATCH of the game must send it back. */
+    private Long version;
 }
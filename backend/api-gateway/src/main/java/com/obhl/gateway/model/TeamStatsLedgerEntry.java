@@ -0,0 +1,48 @@
+package com.obhl.gateway.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row per (game, team) whose standings delta has been applied to the team row.
+ * {@code direction} is the last delta applied for that pair -- see migration 069. Written only by
+ * TeamStatsLedgerRepository#flip; the entity exists so the table is mapped alongside the rest.
+ */
+@Entity
+@Table(name = "team_stats_ledger",
+        uniqueConstraints = @UniqueConstraint(name = "uq_team_stats_ledger_game_team",
+                columnNames = { "game_id", "team_id" }))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamStatsLedgerEntry {
+
+    public static final String APPLY = "APPLY";
+    public static final String REVERT = "REVERT";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(nullable = false, length = 10)
+    private String direction;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+}
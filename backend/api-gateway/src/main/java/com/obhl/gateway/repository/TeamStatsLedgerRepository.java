@@ -0,0 +1,29 @@
+package com.obhl.gateway.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.obhl.gateway.model.TeamStatsLedgerEntry;
+
+@Repository
+public interface TeamStatsLedgerRepository extends JpaRepository<TeamStatsLedgerEntry, Long> {
+
+    /**
+     * Records {@code direction} as the last delta applied for the (game, team), unless it already
+     * is. The row lock taken here also queues a concurrent delivery of the same delta behind this
+     * transaction, which then finds nothing to flip.
+     *
+     * @return 1 if the direction flipped (or the pair is new) and the delta should be applied, 0 if
+     *         it is a repeat
+     */
+    @Modifying
+    @Query(value = "INSERT INTO team_stats_ledger (game_id, team_id, direction, recorded_at) "
+            + "VALUES (:gameId, :teamId, :direction, CURRENT_TIMESTAMP) "
+            + "ON CONFLICT (game_id, team_id) DO UPDATE "
+            + "SET direction = EXCLUDED.direction, recorded_at = EXCLUDED.recorded_at "
+            + "WHERE team_stats_ledger.direction <> EXCLUDED.direction", nativeQuery = true)
+    int flip(@Param("gameId") Long gameId, @Param("teamId") Long teamId, @Param("direction") String direction);
+}
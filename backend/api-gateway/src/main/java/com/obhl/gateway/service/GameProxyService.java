@@ -167,11 +167,16 @@ public class GameProxyService {
     /**
      * Patch a game's staff slot fields (e.g. goalie1Id, referee2Id). Only the keys
      * provided are changed; game-service ignores null fields. Used by coordinator publish.
+     *
+     * <p>game-service wants the version the patch is based on. The coordinator decides a slot
+     * from its own assignment tables, not from a copy of the game, so this reads the current
+     * version just before writing; a change landing in between still fails with a 409.
      */
     public void updateGameStaff(Long gameId, Map<String, Object> fields) {
         String url = gameServiceUrl + "/api/v1/games/" + gameId;
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setIfMatch("\"" + getGameById(gameId).getVersion() + "\"");
         restTemplate.exchange(url, HttpMethod.PATCH, new HttpEntity<>(fields, headers), Void.class);
     }
 }
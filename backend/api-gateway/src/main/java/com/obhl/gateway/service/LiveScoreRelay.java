@@ -0,0 +1,346 @@
+package com.obhl.gateway.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fans game-service's live score stream out to browsers.
+ *
+ * <p>However many viewers are connected, this gateway holds one upstream connection to
+ * {@code game-service /api/v1/games/live}, opened when the first viewer subscribes and dropped
+ * once the last one leaves. Each upstream event is relayed verbatim, id included, to every viewer.
+ * Because the ids are game-service's, a viewer's {@code Last-Event-ID} means the same thing here
+ * as upstream, and when the upstream connection itself drops it reconnects with the last id it saw
+ * and game-service replays the gap.
+ *
+ * <p>The last {@code live.replay-size} score events are kept so a reconnecting viewer gets what it
+ * missed; one too far behind gets a {@code reset} event and should refetch its scores. Viewers get
+ * a comment line every {@code live.heartbeat-ms}, and an upstream connection silent for three
+ * heartbeats is treated as dead and reopened.
+ *
+ * <p>Each event is serialized once and queued to every viewer; nothing here waits on a viewer's
+ * socket. Every viewer has its own bounded queue, drained by its own virtual thread, so a slow or
+ * stalled connection only delays itself. A viewer whose queue overflows is disconnected, and
+ * reconnects with its {@code Last-Event-ID} like after any other drop.
+ */
+@Service
+@Slf4j
+public class LiveScoreRelay {
+
+    private static final String SCORE_EVENT = "score";
+    private static final String RESET_EVENT = "reset";
+    private static final long EMITTER_TIMEOUT_MS = Duration.ofMinutes(30).toMillis();
+    private static final long RECONNECT_MS = 3_000;
+    private static final long MAX_BACKOFF_MS = 30_000;
+    /** Queue room per viewer beyond a full replay, before a viewer counts as fallen behind. */
+    private static final int VIEWER_BACKLOG = 64;
+
+    private record Event(String id, String name, String data) {
+    }
+
+    /** A connected viewer and the serialized events not yet written to it. */
+    private final class Viewer {
+        private final SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        private final BlockingQueue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(replaySize + VIEWER_BACKLOG);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        /** Queues {@code event} without blocking; a viewer with no room left is dropped. */
+        void offer(Set<DataWithMediaType> event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                log.info("Live score viewer fell {} events behind; disconnecting it", queue.size());
+                close();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                for (Set<DataWithMediaType> event; !closed && (event = queue.poll()) != null;) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The viewer went away; the container completes the request
+                forget();
+            } finally {
+                draining.set(false);
+            }
+            // An event queued after the last poll but before draining was cleared would otherwise wait
+            if (!closed && !queue.isEmpty() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        /** Stops relaying to the viewer once its connection is done, whoever ended it. */
+        void forget() {
+            closed = true;
+            subscribers.remove(this);
+            queue.clear();
+        }
+
+        void close() {
+            forget();
+            // complete() waits for a send in progress, so never on the relaying thread
+            sender.execute(emitter::complete);
+        }
+    }
+
+    private final String upstreamUrl;
+    private final int replaySize;
+    private final long heartbeatMs;
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("live-score-heartbeat").daemon().factory());
+    /** One virtual thread per viewer with events queued; a stalled socket parks only its own. */
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("live-score-send-", 0).factory());
+    private final Set<Viewer> subscribers = ConcurrentHashMap.newKeySet();
+
+    // Guarded by this
+    private final Deque<Event> recent = new ArrayDeque<>();
+    private String lastUpstreamId;
+    private Thread upstream;
+
+    private volatile InputStream upstreamBody;
+    private volatile long lastUpstreamActivity;
+
+    public LiveScoreRelay(
+            @Value("${game.service.url:http://localhost:8002}") String gameServiceUrl,
+            @Value("${live.replay-size:512}") int replaySize,
+            @Value("${live.heartbeat-ms:15000}") long heartbeatMs) {
+        this.upstreamUrl = gameServiceUrl + "/api/v1/games/live";
+        this.replaySize = replaySize;
+        this.heartbeatMs = heartbeatMs;
+    }
+
+    @PostConstruct
+    void startHeartbeat() {
+        timer.scheduleAtFixedRate(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timer.shutdownNow();
+        closeUpstream();
+        subscribers.forEach(Viewer::close);
+        sender.shutdown();
+    }
+
+    /**
+     * A new viewer, first replaying what a reconnecting one missed since {@code lastEventId}. Only
+     * queues; the replay is written by the viewer's own sender.
+     */
+    public synchronized SseEmitter subscribe(String lastEventId) {
+        Viewer viewer = new Viewer();
+        SseEmitter emitter = viewer.emitter;
+        emitter.onCompletion(viewer::forget);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> viewer.forget());
+
+        if (lastEventId == null || lastEventId.isBlank() || lastEventId.equals(lastUpstreamId)) {
+            // Nothing to catch up on; this just gets the response headers out now
+            viewer.offer(SseEmitter.event().comment("connected").reconnectTime(RECONNECT_MS).build());
+        } else if (recent.stream().anyMatch(e -> lastEventId.equals(e.id()))) {
+            viewer.offer(SseEmitter.event().comment("resumed").reconnectTime(RECONNECT_MS).build());
+            Iterator<Event> missed = recent.iterator();
+            while (!lastEventId.equals(missed.next().id())) {
+                // skip up to and including the viewer's last event
+            }
+            while (missed.hasNext()) {
+                viewer.offer(toSse(missed.next()).build());
+            }
+        } else {
+            viewer.offer(toSse(new Event(lastUpstreamId, RESET_EVENT, "{}")).reconnectTime(RECONNECT_MS).build());
+        }
+        subscribers.add(viewer);
+        if (upstream == null) {
+            upstream = Thread.ofPlatform().name("live-score-relay").daemon().start(this::pump);
+        }
+        return emitter;
+    }
+
+    /** Keeps the upstream connection open, with backoff between attempts, while anyone is watching. */
+    private void pump() {
+        long backoff = 1_000;
+        while (true) {
+            synchronized (this) {
+                if (subscribers.isEmpty()) {
+                    upstream = null;
+                    return;
+                }
+            }
+            try {
+                if (consume()) {
+                    backoff = 1_000;
+                }
+            } catch (IOException e) {
+                log.warn("Live score stream from game-service dropped: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                synchronized (this) {
+                    upstream = null;
+                }
+                return;
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                synchronized (this) {
+                    upstream = null;
+                }
+                return;
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+        }
+    }
+
+    /**
+     * Reads one upstream connection until it ends, relaying each event.
+     *
+     * @return whether the connection was established
+     */
+    private boolean consume() throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(upstreamUrl))
+                .header("Accept", "text/event-stream")
+                .GET();
+        synchronized (this) {
+            if (lastUpstreamId != null) {
+                request.header("Last-Event-ID", lastUpstreamId);
+            }
+        }
+        HttpResponse<InputStream> response = http.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() != 200) {
+            response.body().close();
+            throw new IOException("game-service answered " + response.statusCode());
+        }
+
+        upstreamBody = response.body();
+        lastUpstreamActivity = System.currentTimeMillis();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            String id = null;
+            String name = null;
+            StringBuilder data = new StringBuilder();
+            for (String line; (line = reader.readLine()) != null;) {
+                lastUpstreamActivity = System.currentTimeMillis();
+                if (line.isEmpty()) {
+                    if (name != null || !data.isEmpty()) {
+                        relay(new Event(id, name != null ? name : "message", data.toString()));
+                    }
+                    id = null;
+                    name = null;
+                    data.setLength(0);
+                } else if (line.startsWith(":")) {
+                    // Upstream heartbeat; viewers get this gateway's own
+                    if (subscribers.isEmpty()) {
+                        return true;
+                    }
+                } else {
+                    int colon = line.indexOf(':');
+                    String field = colon < 0 ? line : line.substring(0, colon);
+                    String value = colon < 0 ? "" : line.substring(colon + 1);
+                    if (value.startsWith(" ")) {
+                        value = value.substring(1);
+                    }
+                    switch (field) {
+                        case "id" -> id = value;
+                        case "event" -> name = value;
+                        case "data" -> data.append(data.isEmpty() ? "" : "\n").append(value);
+                        default -> {
+                            // retry: the gateway has its own reconnect policy
+                        }
+                    }
+                }
+            }
+        } finally {
+            upstreamBody = null;
+        }
+        return true;
+    }
+
+    /**
+     * Records the event and queues it, serialized once, to every viewer. Synchronized with
+     * {@link #subscribe} so a new viewer gets each event exactly once, from its replay or from here;
+     * nothing in it blocks.
+     */
+    private synchronized void relay(Event event) {
+        if (RESET_EVENT.equals(event.name())) {
+            // game-service could not replay from our last id (it restarted, or we were gone too
+            // long), so nothing held here can be resumed from either -- including that id, which
+            // must not be offered again on the next reconnect
+            recent.clear();
+            lastUpstreamId = event.id();
+        } else if (event.id() != null) {
+            lastUpstreamId = event.id();
+        }
+        if (SCORE_EVENT.equals(event.name())) {
+            recent.addLast(event);
+            if (recent.size() > replaySize) {
+                recent.removeFirst();
+            }
+        }
+        Set<DataWithMediaType> sse = toSse(event).build();
+        subscribers.forEach(viewer -> viewer.offer(sse));
+    }
+
+    private void heartbeat() {
+        Set<DataWithMediaType> comment = SseEmitter.event().comment("heartbeat").build();
+        subscribers.forEach(viewer -> viewer.offer(comment));
+        if (upstreamBody != null && System.currentTimeMillis() - lastUpstreamActivity > 3 * heartbeatMs) {
+            log.warn("Live score stream from game-service silent for {} ms; reconnecting",
+                    System.currentTimeMillis() - lastUpstreamActivity);
+            closeUpstream();
+        }
+    }
+
+    private void closeUpstream() {
+        InputStream body = upstreamBody;
+        if (body != null) {
+            try {
+                body.close();
+            } catch (IOException e) {
+                log.debug("Closing live score stream: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(Event event) {
+        SseEmitter.SseEventBuilder sse = SseEmitter.event().name(event.name()).data(event.data());
+        return event.id() != null ? sse.id(event.id()) : sse;
+    }
+}
@@ -11,7 +11,9 @@ import com.obhl.gateway.client.StatsClient;
 import com.obhl.gateway.dto.PlayerDto;
 import com.obhl.gateway.dto.TeamDto;
 import com.obhl.gateway.model.Team;
+import com.obhl.gateway.model.TeamStatsLedgerEntry;
 import com.obhl.gateway.repository.TeamRepository;
+import com.obhl.gateway.repository.TeamStatsLedgerRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -20,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 public class TeamService {
 
     private final TeamRepository teamRepository;
+    private final TeamStatsLedgerRepository teamStatsLedgerRepository;
     private final StatsClient statsClient;
 
     @Transactional(readOnly = true)
@@ -116,6 +119,26 @@ public class TeamService {
         teamRepository.delete(team);
     }
 
+    /**
+     * Applies one game's standings delta to the team unless this direction was the last one applied
+     * for the (game, team) -- see team_stats_ledger, migration 069. game-service's outbox delivers
+     * at least once, so a repeat must be a no-op.
+     *
+     * @param direction APPLY when the game was finalized, REVERT when it was unfinalized
+     * @return false when the delta was a repeat and nothing changed
+     */
+    @Transactional
+    public boolean applyGameStats(Long id, Long gameId, String direction, java.util.Map<String, Integer> statsUpdate) {
+        if (!TeamStatsLedgerEntry.APPLY.equals(direction) && !TeamStatsLedgerEntry.REVERT.equals(direction)) {
+            throw new IllegalArgumentException("direction must be APPLY or REVERT");
+        }
+        if (teamStatsLedgerRepository.flip(gameId, id, direction) == 0) {
+            return false;
+        }
+        incrementTeamStats(id, statsUpdate);
+        return true;
+    }
+
     @Transactional
     public void incrementTeamStats(Long id, java.util.Map<String, Integer> statsUpdate) {
         Team team = teamRepository.findById(id)
@@ -0,0 +1,44 @@
+package com.obhl.game;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Hand-rolled stand-ins for repositories and clients, so a benchmark can drive a service's pure
+ * path without Spring, a database or Mockito's per-call overhead in the numbers.
+ */
+public final class BenchmarkStubs {
+
+    private BenchmarkStubs() {
+    }
+
+    /**
+     * An implementation of {@code type} that answers the named methods from {@code answers} and
+     * everything else with null (or false / 0 for primitives).
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + " stub";
+                };
+            }
+            Class<?> returns = method.getReturnType();
+            if (returns == boolean.class) {
+                return false;
+            }
+            if (returns.isPrimitive() && returns != void.class) {
+                return 0;
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,144 @@
+package com.obhl.game.service;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.obhl.game.dto.GameSlot;
+
+/**
+ * Slot CSV parsing: {@link CsvParserService#readGameSlots} against the per-row parser it replaced
+ * (kept below as {@code legacy}, trimmed to its parsing path). The US-format file is the one that
+ * hurt -- every row's date and 12-hour time only parsed after the ISO and 24-hour formatters had
+ * each thrown. Run with {@code -prof gc} to compare allocation per file as well as time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class CsvParserBenchmark {
+
+    @Param({ "1000", "20000", "50000" })
+    int rows;
+
+    @Param({ "iso", "us" })
+    String format;
+
+    private final CsvParserService service = new CsvParserService();
+    private byte[] file;
+
+    @Setup
+    public void setUp() {
+        String[] times = "iso".equals(format)
+                ? new String[] { "18:00", "19:45", "21:00", "22:15" }
+                : new String[] { "6:00 PM", "7:45 PM", "9:00 PM", "10:15 PM" };
+        StringBuilder csv = new StringBuilder("Week,Date,Time,Home Team,Away Team,Rink\n");
+        LocalDate day = LocalDate.of(2020, 1, 6);
+        for (int r = 0; r < rows; r++) {
+            // Eight slots a night, one night a week; every row distinct
+            LocalDate date = day.plusWeeks(r / 8);
+            String dateText = "iso".equals(format)
+                    ? date.toString()
+                    : date.getMonthValue() + "/" + date.getDayOfMonth() + "/" + date.getYear();
+            csv.append(r / 8 + 1).append(',').append(dateText).append(',').append(times[r % 4])
+                    .append(",,,").append(r % 8 < 4 ? "Tubbs Rink" : "Cardinal Rink").append('\n');
+        }
+        file = csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void streaming(Blackhole bh) throws IOException {
+        bh.consume(service.readGameSlots(
+                new InputStreamReader(new ByteArrayInputStream(file), StandardCharsets.UTF_8), bh::consume));
+    }
+
+    @Benchmark
+    public List<GameSlot> legacy() throws IOException {
+        return Legacy.parse(new ByteArrayInputStream(file));
+    }
+
+    /** The parser as it was before streaming, minus logging and the MultipartFile wrapper. */
+    private static final class Legacy {
+
+        private static final List<DateTimeFormatter> DATE_FORMATTERS = List.of(
+                DateTimeFormatter.ofPattern("yyyy-MM-dd"),
+                DateTimeFormatter.ofPattern("M/d/yyyy"),
+                DateTimeFormatter.ofPattern("M/d/yy"));
+
+        private static final List<DateTimeFormatter> TIME_FORMATTERS = List.of(
+                DateTimeFormatter.ofPattern("HH:mm"),
+                DateTimeFormatter.ofPattern("h:mm a", Locale.ENGLISH),
+                DateTimeFormatter.ofPattern("hh:mm a", Locale.ENGLISH));
+
+        static List<GameSlot> parse(ByteArrayInputStream in) throws IOException {
+            List<GameSlot> slots = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line;
+                boolean header = true;
+                while ((line = reader.readLine()) != null) {
+                    if (line.trim().isEmpty()) {
+                        continue;
+                    }
+                    if (header) {
+                        header = false;
+                        continue;
+                    }
+                    String[] parts = line.split(",");
+                    int week = Integer.parseInt(parts[0].trim());
+                    LocalDate date = parseDate(parts[1].trim());
+                    LocalTime time = parseTime(parts[2].trim());
+                    String rink = parts[5].trim().toLowerCase().contains("cardinal") ? "Cardinal" : "Tubbs";
+                    slots.add(new GameSlot(week, date, time, rink));
+                }
+            }
+            return slots;
+        }
+
+        private static LocalDate parseDate(String value) {
+            for (DateTimeFormatter fmt : DATE_FORMATTERS) {
+                try {
+                    return LocalDate.parse(value, fmt);
+                } catch (Exception ignored) {
+                    // try the next format
+                }
+            }
+            throw new RuntimeException("Invalid date format: " + value);
+        }
+
+        private static LocalTime parseTime(String value) {
+            String cleaned = value.trim().replaceAll("\\s+", " ").toUpperCase(Locale.ENGLISH);
+            for (DateTimeFormatter fmt : TIME_FORMATTERS) {
+                try {
+                    return LocalTime.parse(cleaned, fmt);
+                } catch (Exception ignored) {
+                    // try the next format
+                }
+            }
+            throw new RuntimeException("Invalid time format: " + value);
+        }
+    }
+}
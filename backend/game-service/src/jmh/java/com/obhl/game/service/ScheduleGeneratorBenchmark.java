@@ -0,0 +1,78 @@
+package com.obhl.game.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.obhl.game.BenchmarkStubs;
+import com.obhl.game.dto.GameSlot;
+import com.obhl.game.model.Game;
+import com.obhl.game.repository.GameRepository;
+
+/**
+ * League schedule generation -- round robin, cycling and the early/late balancing pass -- through
+ * {@link ScheduleGeneratorService#generateSchedule}. One game per team per week, two rinks, from a
+ * single week up to a full 14-week season.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class ScheduleGeneratorBenchmark {
+
+    private static final LocalTime[] TIMES = { LocalTime.of(18, 0), LocalTime.of(19, 45), LocalTime.of(21, 0) };
+
+    @Param({ "4", "8", "16", "32", "64" })
+    int teamCount;
+
+    @Param({ "1", "7", "14" })
+    int weeks;
+
+    private ScheduleGeneratorService service;
+    private List<Long> teamIds;
+    private List<GameSlot> slots;
+
+    @Setup
+    public void setUp() {
+        GameRepository gameRepository = BenchmarkStubs.stub(GameRepository.class,
+                Map.of("existsBySeasonId", args -> false));
+        // Only generateSchedule is exercised, which never touches the caches
+        service = new ScheduleGeneratorService(gameRepository, null, null, null);
+
+        teamIds = new ArrayList<>();
+        for (long t = 1; t <= teamCount; t++) {
+            teamIds.add(t);
+        }
+        slots = new ArrayList<>();
+        LocalDate firstWeek = LocalDate.of(2026, 1, 6);
+        for (int week = 1; week <= weeks; week++) {
+            for (int g = 0; g < teamCount / 2; g++) {
+                // Spread games across early, mid and late ice on two rinks
+                slots.add(new GameSlot(week, firstWeek.plusWeeks(week - 1), TIMES[g % TIMES.length],
+                        g % 2 == 0 ? "A" : "B"));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Game> generateSchedule() {
+        return service.generateSchedule(1L, 1L, teamIds, slots, weeks);
+    }
+}
@@ -0,0 +1,65 @@
+package com.obhl.game.service.schedule;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.obhl.game.service.schedule.TournamentScheduleGenerator.Config;
+import com.obhl.game.service.schedule.TournamentScheduleGenerator.Plan;
+
+/**
+ * {@link TournamentScheduleGenerator#generate} for the three shapes organisers actually pick:
+ * one round robin, divisions feeding a bracket with placement and consolation, and a bare bracket.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class TournamentScheduleGeneratorBenchmark {
+
+    @Param({ "4", "8", "16", "32", "64" })
+    int teamCount;
+
+    private Config roundRobin;
+    private Config divisionsToBracket;
+    private Config singleElim;
+
+    @Setup
+    public void setUp() {
+        roundRobin = new Config(teamCount, TournamentScheduleGenerator.GROUP_ROUND_ROBIN, 1, 2,
+                TournamentScheduleGenerator.CHAMPIONSHIP_NONE, false, TournamentScheduleGenerator.CONSOLATION_NONE, 0);
+        int pools = Math.max(2, teamCount / 4);
+        divisionsToBracket = new Config(teamCount, TournamentScheduleGenerator.GROUP_DIVISIONS, pools, 2,
+                TournamentScheduleGenerator.CHAMPIONSHIP_SINGLE_ELIM, true,
+                TournamentScheduleGenerator.CONSOLATION_BRACKET, Math.max(2, teamCount / 2));
+        singleElim = new Config(teamCount, TournamentScheduleGenerator.GROUP_NONE, 1, 2,
+                TournamentScheduleGenerator.CHAMPIONSHIP_SINGLE_ELIM, false, TournamentScheduleGenerator.CONSOLATION_NONE, 0);
+    }
+
+    @Benchmark
+    public Plan roundRobin() {
+        return TournamentScheduleGenerator.generate(roundRobin);
+    }
+
+    @Benchmark
+    public Plan divisionsToBracket() {
+        return TournamentScheduleGenerator.generate(divisionsToBracket);
+    }
+
+    @Benchmark
+    public Plan singleElim() {
+        return TournamentScheduleGenerator.generate(singleElim);
+    }
+}
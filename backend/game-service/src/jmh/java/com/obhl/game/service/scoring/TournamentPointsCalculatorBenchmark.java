@@ -0,0 +1,77 @@
+package com.obhl.game.service.scoring;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.obhl.game.service.scoring.TournamentPointsCalculator.PeriodTally;
+
+/**
+ * {@link TournamentPointsCalculator#calculate} over a fixed batch of plausible games (seeded, so
+ * every run scores the same games). Reported per game.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class TournamentPointsCalculatorBenchmark {
+
+    private static final int GAMES = 1024;
+
+    @Param({ "2", "3" })
+    int periodCount;
+
+    private PeriodTally[] tallies;
+    private int[][] totals;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        tallies = new PeriodTally[GAMES];
+        totals = new int[GAMES][4];
+        for (int g = 0; g < GAMES; g++) {
+            PeriodTally tally = PeriodTally.ofSize(periodCount);
+            int homeScore = 0;
+            int awayScore = 0;
+            int homePenalties = 0;
+            int awayPenalties = 0;
+            for (int p = 0; p < periodCount; p++) {
+                tally.homeGoals()[p] = random.nextInt(4);
+                tally.awayGoals()[p] = random.nextInt(4);
+                tally.homePenalties()[p] = random.nextInt(3);
+                tally.awayPenalties()[p] = random.nextInt(3);
+                homeScore += tally.homeGoals()[p];
+                awayScore += tally.awayGoals()[p];
+                homePenalties += tally.homePenalties()[p];
+                awayPenalties += tally.awayPenalties()[p];
+            }
+            tallies[g] = tally;
+            totals[g] = new int[] { homeScore, awayScore, homePenalties, awayPenalties };
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public void calculate(Blackhole bh) {
+        for (int g = 0; g < GAMES; g++) {
+            int[] t = totals[g];
+            bh.consume(TournamentPointsCalculator.calculate(TournamentScoringProfile.CLASSIC_V1,
+                    periodCount, t[0], t[1], tallies[g], t[2], t[3]));
+        }
+    }
+}
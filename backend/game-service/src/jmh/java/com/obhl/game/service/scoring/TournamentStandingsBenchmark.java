@@ -0,0 +1,101 @@
+package com.obhl.game.service.scoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.obhl.game.BenchmarkStubs;
+import com.obhl.game.client.TeamClient;
+import com.obhl.game.model.Game;
+import com.obhl.game.model.GameEvent;
+import com.obhl.game.repository.GameEventRepository;
+import com.obhl.game.repository.GameRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Building and sorting a tournament table: {@link TournamentStandingsService#getStandings} with the
+ * cache evicted first, over a completed round robin served from in-memory stubs. Points are drawn
+ * from a narrow range so the head-to-head and goal-differential tiebreakers are exercised, not
+ * just the points comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class TournamentStandingsBenchmark {
+
+    private static final Long SEASON_ID = 1L;
+
+    @Param({ "4", "8", "16", "32", "64" })
+    int teamCount;
+
+    private TournamentStandingsService service;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Game> games = new ArrayList<>();
+        List<GameEvent> events = new ArrayList<>();
+        long gameId = 1;
+        for (long home = 1; home <= teamCount; home++) {
+            for (long away = home + 1; away <= teamCount; away++) {
+                Game game = new Game();
+                game.setId(gameId);
+                game.setSeasonId(SEASON_ID);
+                game.setHomeTeamId(home);
+                game.setAwayTeamId(away);
+                game.setStatus("completed");
+                game.setGameType("TOURNAMENT");
+                game.setTournamentStage("ROUND_ROBIN");
+                game.setPeriodCount((short) 2);
+                game.setHomeScore(random.nextInt(5));
+                game.setAwayScore(random.nextInt(5));
+                game.setHomeTeamPoints(random.nextInt(4));
+                game.setAwayTeamPoints(random.nextInt(4));
+                games.add(game);
+                for (int e = 0; e < 6; e++) {
+                    GameEvent event = new GameEvent();
+                    event.setGameId(gameId);
+                    event.setTeamId(random.nextBoolean() ? home : away);
+                    event.setEventType(random.nextInt(3) == 0 ? "penalty" : "goal");
+                    event.setPeriod(1 + random.nextInt(2));
+                    event.setPenaltyMinutes(2);
+                    events.add(event);
+                }
+                gameId++;
+            }
+        }
+
+        GameRepository gameRepository = BenchmarkStubs.stub(GameRepository.class,
+                Map.of("findBySeasonIdOrderByGameDate", args -> games));
+        GameEventRepository gameEventRepository = BenchmarkStubs.stub(GameEventRepository.class,
+                Map.of("findByCompletedGamesInSeason", args -> events));
+        TeamClient teamClient = BenchmarkStubs.stub(TeamClient.class, Map.of("getTeams", args -> List.of()));
+        service = new TournamentStandingsService(gameRepository, gameEventRepository, teamClient,
+                new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public List<TournamentStandingsService.TeamStanding> standings() {
+        // No transaction here, so the eviction is immediate and every call recomputes
+        service.evict(SEASON_ID);
+        return service.getStandings(SEASON_ID);
+    }
+}
@@ -9,8 +9,14 @@ import com.obhl.game.config.FeignClientConfig;
 @FeignClient(name = "api-gateway", url = "${application.config.api-gateway-url:http://localhost:8000}", configuration = FeignClientConfig.class)
 public interface TeamClient {
 
+        /**
+         * gameId and direction (APPLY or REVERT) make the delta count once per game and direction
+         * however often it is delivered -- api-gateway's team_stats_ledger, migration 069.
+         */
         @org.springframework.web.bind.annotation.PostMapping("/api/v1/teams/{teamId}/stats")
         void updateTeamStats(@org.springframework.web.bind.annotation.PathVariable("teamId") Long teamId,
+                        @org.springframework.web.bind.annotation.RequestParam(value = "gameId", required = false) Long gameId,
+                        @org.springframework.web.bind.annotation.RequestParam(value = "direction", required = false) String direction,
                         @org.springframework.web.bind.annotation.RequestBody Map<String, Integer> statsUpdate);
 
         @org.springframework.web.bind.annotation.GetMapping("/api/v1/teams")
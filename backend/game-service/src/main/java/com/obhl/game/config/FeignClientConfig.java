@@ -1,5 +1,6 @@
 package com.obhl.game.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -11,9 +12,17 @@ import jakarta.servlet.http.HttpServletRequest;
 @Configuration
 public class FeignClientConfig {
 
+    @Value("${internal.service.key:obhl-internal-service-key-change-in-production}")
+    private String internalServiceKey;
+
+    /**
+     * Forwards the end user's JWT when there is one. Always adds the internal-service key as well:
+     * the outbox dispatcher calls api-gateway from a background thread with no request to forward.
+     */
     @Bean
     public RequestInterceptor requestInterceptor() {
         return requestTemplate -> {
+            requestTemplate.header("X-Internal-Service-Key", internalServiceKey);
             ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder
                     .getRequestAttributes();
             if (attributes != null) {
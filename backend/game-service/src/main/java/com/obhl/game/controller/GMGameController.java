@@ -78,6 +78,7 @@ public class GMGameController {
             dto.setEndedInOT(game.getEndedInOT());
             dto.setCreatedAt(game.getCreatedAt());
             dto.setUpdatedAt(game.getUpdatedAt());
+            dto.setVersion(game.getVersion());
 
             // Populate Names
             TeamResponse homeTeam = finalTeamMap.get(game.getHomeTeamId());
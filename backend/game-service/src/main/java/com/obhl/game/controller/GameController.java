@@ -39,6 +39,10 @@ public class GameController {
     private final com.obhl.game.service.scoring.TournamentStandingsService tournamentStandingsService;
     private final com.obhl.game.service.scoring.TournamentAwardService tournamentAwardService;
     private final com.obhl.game.service.schedule.TournamentBracketService tournamentBracketService;
+    private final com.obhl.game.service.SeasonScheduleCache seasonScheduleCache;
+    private final com.obhl.game.service.boxscore.BoxScoreService boxScoreService;
+    private final com.obhl.game.service.OptimisticRetry optimisticRetry;
+    private final com.obhl.game.service.PlayerStatsRebuildService playerStatsRebuildService;
 
     @GetMapping
     public ResponseEntity<List<GameDto.Response>> getGames(
@@ -49,7 +53,14 @@ public class GameController {
         if (seasonId != null && teamId != null) {
             return ResponseEntity.ok(gameService.getGamesBySeasonAndTeam(seasonId, teamId));
         } else if (seasonId != null) {
-            return ResponseEntity.ok(gameService.getGamesBySeason(seasonId));
+            // Polled all game night: a repeat poll with a matching ETag is answered 304 by Spring
+            // without serializing the schedule again
+            var version = seasonScheduleCache.version(seasonId);
+            return ResponseEntity.ok()
+                    .cacheControl(org.springframework.http.CacheControl.noCache())
+                    .eTag(version.etag("schedule", seasonId))
+                    .lastModified(version.lastModified())
+                    .body(gameService.getGamesBySeason(seasonId));
         } else if (teamId != null) {
             return ResponseEntity.ok(gameService.getGamesByTeam(teamId));
         } else if (status != null) {
@@ -59,6 +70,27 @@ public class GameController {
         return ResponseEntity.ok(gameService.getAllGames());
     }
 
+    /**
+     * Cursor-paginated listing over (gameDate, id) with combinable filters, all applied in SQL.
+     * Use this instead of the unfiltered {@code GET /games}, which loads every game ever played.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<?> getGamesPage(
+            @RequestParam(required = false) Long seasonId,
+            @RequestParam(required = false) Long teamId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String gameType,
+            @RequestParam(required = false) Integer week,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(gameService.getGamesPage(
+                    seasonId, teamId, status, gameType, week, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/{gameId}")
     public ResponseEntity<GameDto.Response> getGame(@PathVariable Long gameId) {
         return gameService.getGameById(gameId)
@@ -72,13 +104,27 @@ public class GameController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /** Creates a batch of games in one transaction; all or none. The response is in request order. */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<GameDto.Response>> createGames(
+            @RequestBody List<GameDto.@Valid Create> gameDtos) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(gameService.createGames(gameDtos));
+    }
+
     @PatchMapping("/{gameId}")
     public ResponseEntity<?> updateGame(
             @PathVariable Long gameId,
+            @org.springframework.web.bind.annotation.RequestHeader(value = "If-Match", required = false) String ifMatch,
             @Valid @RequestBody GameDto.Update updateDto) {
+        updateDto.setVersion(expectedVersion(ifMatch, updateDto.getVersion()));
+        if (updateDto.getVersion() == null) {
+            return versionRequired();
+        }
         try {
             GameDto.Response updated = gameService.updateGame(gameId, updateDto);
             return ResponseEntity.ok(updated);
+        } catch (org.springframework.dao.OptimisticLockingFailureException e) {
+            return writeConflict("updateGame");
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -98,10 +144,17 @@ public class GameController {
     @PatchMapping("/{gameId}/score")
     public ResponseEntity<?> updateGameScore(
             @PathVariable Long gameId,
+            @org.springframework.web.bind.annotation.RequestHeader(value = "If-Match", required = false) String ifMatch,
             @RequestBody GameDto.ScoreUpdate scoreUpdate) {
+        scoreUpdate.setVersion(expectedVersion(ifMatch, scoreUpdate.getVersion()));
+        if (scoreUpdate.getVersion() == null) {
+            return versionRequired();
+        }
         try {
             GameDto.Response updated = gameService.updateGameScore(gameId, scoreUpdate);
             return ResponseEntity.ok(updated);
+        } catch (org.springframework.dao.OptimisticLockingFailureException e) {
+            return writeConflict("updateGameScore");
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -156,10 +209,20 @@ public class GameController {
      *
      * <p>Never read from the denormalised standings columns on the team row — those are
      * league-shaped and are deliberately not written for tournament games.
+     *
+     * <p>Conditional like the season schedule. The tag also folds in a hash of the table itself,
+     * because standings can change without a game write (a team moving pools, picked up when the
+     * standings cache expires).
      */
     @GetMapping("/tournament-standings")
     public ResponseEntity<?> tournamentStandings(@RequestParam Long seasonId) {
-        return ResponseEntity.ok(tournamentStandingsService.getStandings(seasonId));
+        var version = seasonScheduleCache.version(seasonId);
+        var standings = tournamentStandingsService.getStandings(seasonId);
+        return ResponseEntity.ok()
+                .cacheControl(org.springframework.http.CacheControl.noCache())
+                .eTag(version.etag("standings", seasonId, Integer.toHexString(standings.hashCode())))
+                .lastModified(version.lastModified())
+                .body(standings);
     }
 
     /**
@@ -220,10 +283,17 @@ public class GameController {
     @PostMapping("/{gameId}/finalize")
     public ResponseEntity<?> finalizeGame(
             @PathVariable Long gameId,
+            @org.springframework.web.bind.annotation.RequestHeader(value = "If-Match", required = false) String ifMatch,
             @RequestBody GameDto.FinalizeRequest finalizeRequest) {
+        finalizeRequest.setVersion(expectedVersion(ifMatch, finalizeRequest.getVersion()));
+        if (finalizeRequest.getVersion() == null) {
+            return versionRequired();
+        }
         try {
             GameDto.Response finalized = gameService.finalizeGame(gameId, finalizeRequest);
             return ResponseEntity.ok(finalized);
+        } catch (org.springframework.dao.OptimisticLockingFailureException e) {
+            return writeConflict("finalizeGame");
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -234,6 +304,8 @@ public class GameController {
         try {
             GameDto.Response started = gameService.startGame(gameId);
             return ResponseEntity.ok(started);
+        } catch (org.springframework.dao.OptimisticLockingFailureException e) {
+            return writeConflict("startGame");
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -244,6 +316,8 @@ public class GameController {
         try {
             GameDto.Response unfinalized = gameService.unfinalizeGame(gameId);
             return ResponseEntity.ok(unfinalized);
+        } catch (org.springframework.dao.OptimisticLockingFailureException e) {
+            return writeConflict("unfinalizeGame");
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -254,6 +328,8 @@ public class GameController {
         try {
             GameDto.Response reverted = gameService.revertToScheduled(gameId);
             return ResponseEntity.ok(reverted);
+        } catch (org.springframework.dao.OptimisticLockingFailureException e) {
+            return writeConflict("revertToScheduled");
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -263,6 +339,17 @@ public class GameController {
     public ResponseEntity<?> generateSchedule(@Valid @RequestBody com.obhl.game.dto.ScheduleGenerateRequest request) {
         try {
             int playoffWeeks = request.getPlayoffWeeks() != null ? request.getPlayoffWeeks() : 0;
+            if (Boolean.TRUE.equals(request.getOptimize())) {
+                int budgetMillis = request.getOptimizeMillis() != null ? request.getOptimizeMillis() : 3000;
+                return ResponseEntity.status(HttpStatus.CREATED).body(scheduleGeneratorService.generateOptimizedSchedule(
+                        request.getSeasonId(),
+                        request.getLeagueId(),
+                        request.getTeamIds(),
+                        request.getGameSlots(),
+                        request.getMaxWeeks(),
+                        playoffWeeks,
+                        java.time.Duration.ofMillis(budgetMillis)));
+            }
             java.util.List<com.obhl.game.model.Game> games = scheduleGeneratorService.generateSchedule(
                     request.getSeasonId(),
                     request.getLeagueId(),
@@ -287,6 +374,26 @@ public class GameController {
         }
     }
 
+    /**
+     * Recomputes the season's player stats from its game events and corrects stats-service where
+     * they differ. Runs in the background: poll the returned job at /stats-rebuild/{jobId}. Dry run
+     * unless told otherwise, so the first call only reports what would change.
+     */
+    @PostMapping("/season/{seasonId}/stats-rebuild")
+    public ResponseEntity<com.obhl.game.dto.PlayerStatsRebuildDto.Status> rebuildPlayerStats(
+            @PathVariable Long seasonId,
+            @RequestParam(defaultValue = "true") boolean dryRun) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(playerStatsRebuildService.start(seasonId, dryRun));
+    }
+
+    @GetMapping("/stats-rebuild/{jobId}")
+    public ResponseEntity<com.obhl.game.dto.PlayerStatsRebuildDto.Status> getPlayerStatsRebuild(
+            @PathVariable String jobId) {
+        return playerStatsRebuildService.status(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     /**
      * Initialize the playoff bracket for a season.
      * Assigns seeded team matchups to the first playoff round's game slots.
@@ -348,16 +455,71 @@ public class GameController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * Uploads events recorded offline in one call: applied in order, in one transaction, skipping
+     * client ids the game already has. Safe to resend after a timeout.
+     */
+    @PostMapping("/{gameId}/events/batch")
+    public ResponseEntity<?> syncGameEvents(
+            @PathVariable Long gameId,
+            @Valid @RequestBody GameEventDto.Batch batch) {
+        try {
+            return ResponseEntity.ok(gameEventService.syncEvents(gameId, batch.getEvents()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", e.getMessage()));
+        } catch (java.util.NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @GetMapping("/{gameId}/events")
     public ResponseEntity<List<GameEventDto.Response>> getGameEvents(@PathVariable Long gameId) {
         return ResponseEntity.ok(gameEventService.getEventsByGame(gameId));
     }
 
+    /**
+     * Events changed after version {@code since}, for clients that poll a live game: pass the
+     * previous response's {@code version} back and only the delta comes down, with deleted events
+     * as {@code deletedEventIds}. Start from 0.
+     */
+    @GetMapping("/{gameId}/events/changes")
+    public ResponseEntity<?> getGameEventChanges(
+            @PathVariable Long gameId,
+            @RequestParam(defaultValue = "0") long since) {
+        if (since < 0) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", "since must not be negative"));
+        }
+        try {
+            return ResponseEntity.ok(gameEventService.getEventChanges(gameId, since));
+        } catch (java.util.NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * The game's box score: goals per period, goal and penalty summaries, player points and awards.
+     * For a completed game this is the snapshot frozen at finalization; {@code frozen} is false when
+     * it was computed from the events instead.
+     */
+    @GetMapping("/{gameId}/box-score")
+    public ResponseEntity<?> getBoxScore(@PathVariable Long gameId) {
+        try {
+            return ResponseEntity.ok(boxScoreService.getBoxScore(gameId));
+        } catch (java.util.NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @PatchMapping("/{gameId}/events/{eventId}")
     public ResponseEntity<?> updateGameEvent(
             @PathVariable Long gameId,
             @PathVariable Long eventId,
+            @org.springframework.web.bind.annotation.RequestHeader(value = "If-Match", required = false) String ifMatch,
             @Valid @RequestBody GameEventDto.Update updateDto) {
+        updateDto.setVersion(expectedVersion(ifMatch, updateDto.getVersion()));
+        if (updateDto.getVersion() == null) {
+            return versionRequired();
+        }
         Optional<GameEventDto.Response> existing = gameEventService.getEventById(eventId);
         if (existing.isEmpty() || !existing.get().getGameId().equals(gameId)) {
             return ResponseEntity.notFound().build();
@@ -449,4 +611,49 @@ public class GameController {
         // TODO: Implement when player service is ready
         return ResponseEntity.ok(List.of());
     }
+
+    /**
+     * The version an absolute write was based on: the If-Match header (an ETag, quotes optional)
+     * or else the body's {@code version}. Null when the client sent neither, or a malformed tag.
+     */
+    private static Long expectedVersion(String ifMatch, Long bodyVersion) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return bodyVersion;
+        }
+        try {
+            return Long.valueOf(ifMatch.trim().replaceFirst("^W/", "").replace("\"", ""));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /** An absolute write that didn't say which version it replaces; it would overwrite blind. */
+    private static ResponseEntity<?> versionRequired() {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).body(java.util.Map.of("error",
+                "Send the version you last read, as If-Match or a \"version\" field."));
+    }
+
+    /**
+     * Someone else saved the game between this request's read and its write. Absolute writes are
+     * not retried: the client reloads and decides again.
+     */
+    private ResponseEntity<?> writeConflict(String operation) {
+        optimisticRetry.rejected(operation);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(java.util.Map.of("error",
+                "This game was just changed by someone else. Reload it and try again."));
+    }
+
+    /**
+     * An event write that still conflicted after OptimisticRetry's attempts, or an edit of an event
+     * changed since the client read it (both already counted there).
+     */
+    @org.springframework.web.bind.annotation.ExceptionHandler(org.springframework.dao.OptimisticLockingFailureException.class)
+    public ResponseEntity<?> eventWriteConflict(org.springframework.dao.OptimisticLockingFailureException e) {
+        if (e instanceof com.obhl.game.service.OptimisticRetry.StaleWrite) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(java.util.Map.of("error",
+                    "This event was just changed by someone else. Reload it and try again."));
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(java.util.Map.of("error",
+                "This game is being changed from another device. Try again."));
+    }
 }
@@ -2,6 +2,7 @@ package com.obhl.game.controller;
 
 import java.util.List;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -70,8 +71,17 @@ public class GameEventController {
         try {
             gameEventService.deleteEvent(eventId);
             return ResponseEntity.noContent().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
     }
+
+    /** An event write that still conflicted after OptimisticRetry's attempts. */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<?> writeConflict(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(java.util.Map.of("error",
+                "This game is being changed from another device. Try again."));
+    }
 }
@@ -0,0 +1,33 @@
+package com.obhl.game.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.obhl.game.service.live.LiveScoreHub;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("${api.v1.prefix}/games")
+@RequiredArgsConstructor
+public class LiveScoreController {
+
+    private final LiveScoreHub liveScoreHub;
+
+    /**
+     * Score, period and status changes as Server-Sent Events (see LiveScoreHub). The resume point
+     * is the standard {@code Last-Event-ID} header, or {@code lastEventId} for a client that has to
+     * pass it in the URL.
+     */
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter live(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(required = false) String lastEventId) {
+        return liveScoreHub.subscribe(lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+}
@@ -0,0 +1,123 @@
+package com.obhl.game.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A game's box score as served by {@code GET /games/{id}/box-score}. Players are referenced by id
+ * throughout; {@link Response#players} maps the ids to names once they are known.
+ */
+public class BoxScoreDto {
+
+    /** Everything the recap shows about a game, stored as-is in game_box_scores.document. */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Document {
+        private Long gameId;
+        private Long seasonId;
+        private Long homeTeamId;
+        private Long awayTeamId;
+        private Integer homeScore;
+        private Integer awayScore;
+        private Boolean endedInOT;
+        private Long forfeitTeamId;
+        private Integer homeTeamPoints;
+        private Integer awayTeamPoints;
+        /** Goals per period that had any, in period order. */
+        private List<Period> periods = new ArrayList<>();
+        private List<Goal> goals = new ArrayList<>();
+        private List<Penalty> penalties = new ArrayList<>();
+        /** One line per player who scored, assisted or took a penalty, most points first. */
+        private List<PlayerLine> points = new ArrayList<>();
+        private List<Award> awards = new ArrayList<>();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Period {
+        private Integer period;
+        private Integer homeGoals;
+        private Integer awayGoals;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Goal {
+        private Long eventId;
+        private Integer period;
+        private Integer timeMinutes;
+        private Integer timeSeconds;
+        private Long teamId;
+        private Long scorerId;
+        private Long assist1Id;
+        private Long assist2Id;
+        private String description;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Penalty {
+        private Long eventId;
+        private Integer period;
+        private Integer timeMinutes;
+        private Integer timeSeconds;
+        private Long teamId;
+        private Long playerId;
+        private Integer minutes;
+        private String description;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PlayerLine {
+        private Long playerId;
+        private Long teamId;
+        private Integer goals;
+        private Integer assists;
+        private Integer points;
+        private Integer penaltyMinutes;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Award {
+        private String awardType;
+        private Long playerId;
+        private Long teamId;
+        private Long awardedByTeamId;
+        private String note;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PlayerName {
+        private String firstName;
+        private String lastName;
+        private Integer jerseyNumber;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        /** False when the box score was computed just now: the game is not completed, or its snapshot was dropped. */
+        private boolean frozen;
+        private LocalDateTime frozenAt;
+        private Document boxScore;
+        /** Player id to name for every player in the box score; null until resolved, fall back to the rosters. */
+        private Map<Long, PlayerName> players;
+    }
+}
@@ -79,6 +79,8 @@ public class GameDto {
         private Long referee1Id;
         private Long referee2Id;
         private Long scorekeeperId;
+        /** The game's {@code version} this write was based on; or send it as If-Match. Required. */
+        private Long version;
     }
 
     @Data
@@ -88,6 +90,8 @@ public class GameDto {
         private Integer homeScore;
         private Integer awayScore;
         private Integer period;
+        /** The game's {@code version} this write was based on; or send it as If-Match. Required. */
+        private Long version;
     }
 
     @Data
@@ -102,6 +106,8 @@ public class GameDto {
         // If set, must equal this game's homeTeamId or awayTeamId. The opposing team
         // is recorded as the winner and homeScore/awayScore above are overridden to a 1-0 forfeit score.
         private Long forfeitTeamId;
+        /** The game's {@code version} this write was based on; or send it as If-Match. Required. */
+        private Long version;
     }
 
     @Data
@@ -159,5 +165,19 @@ public class GameDto {
         private Long referee1Id;
         private Long referee2Id;
         private Long scorekeeperId;
+        /** Optimistic-locking version; send it back with an update, score save or finalize. */
+        private Long version;
+    }
+
+    /**
+     * One page of a keyset listing. {@code nextCursor} is opaque; pass it back unchanged to get
+     * the following page. It is null on the last page.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Page {
+        private java.util.List<Response> items;
+        private String nextCursor;
     }
 }
@@ -1,7 +1,9 @@
 package com.obhl.game.dto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -53,6 +55,13 @@ public class GameEventDto {
 
         @Positive
         private Integer penaltyMinutes;
+
+        /**
+         * Optional id the client generated for this event. A create repeating a client id the game
+         * already has is a no-op that returns the existing event. Required in a {@link Batch}.
+         */
+        @Size(max = 64)
+        private String clientId;
     }
 
     @Data
@@ -91,6 +100,9 @@ public class GameEventDto {
 
         @Positive
         private Integer penaltyMinutes;
+
+        /** The event's {@code version} this edit was based on; or send it as If-Match. Required. */
+        private Long version;
     }
 
     @Data
@@ -109,6 +121,63 @@ public class GameEventDto {
         private Long assist1PlayerId;
         private Long assist2PlayerId;
         private Integer penaltyMinutes;
+        private String clientId;
+        /** Optimistic-locking version; send it back with an edit. */
+        private Long version;
+        /** The game event version of this event's last create or edit, as in {@link Changes}. */
+        private Long seq;
         private LocalDateTime createdAt;
     }
+
+    /** One call's worth of {@code GET /games/{gameId}/events/changes}. */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Changes {
+        private Long gameId;
+        /** Pass back as {@code since} on the next call. */
+        private Long version;
+        /** True when {@code since} was ahead of the game; drop everything held and apply this as a full list. */
+        private boolean reset;
+        /** Created or edited since {@code since}, oldest write first; replace any held copy by id. */
+        private List<Response> events;
+        /** Deleted since {@code since}. */
+        private List<Long> deletedEventIds;
+    }
+
+    /**
+     * {@code POST /games/{gameId}/events/batch}: events recorded while offline, in the order they
+     * were recorded. Every event needs a {@code clientId}.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Batch {
+        @NotNull
+        @Size(min = 1, max = 500)
+        private List<GameEventDto.@Valid Create> events;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchResult {
+        private Long gameId;
+        /** The game's event version after the batch, as in {@link Changes}. */
+        private Long version;
+        private Integer homeScore;
+        private Integer awayScore;
+        /** One per submitted event, in submission order. */
+        private List<BatchItem> results;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchItem {
+        private String clientId;
+        private Long eventId;
+        /** {@code created}, or {@code duplicate} when the game already had this client id. */
+        private String status;
+    }
 }
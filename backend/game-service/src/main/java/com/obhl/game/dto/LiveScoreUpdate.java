@@ -0,0 +1,28 @@
+package com.obhl.game.dto;
+
+import com.obhl.game.model.Game;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** The data of one {@code score} event on the live score stream: a game's scoreboard as committed. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveScoreUpdate {
+    private Long gameId;
+    private Long seasonId;
+    private Long homeTeamId;
+    private Long awayTeamId;
+    private Integer homeScore;
+    private Integer awayScore;
+    private Integer period;
+    private String status;
+    private Boolean endedInOT;
+
+    public static LiveScoreUpdate of(Game game) {
+        return new LiveScoreUpdate(game.getId(), game.getSeasonId(), game.getHomeTeamId(), game.getAwayTeamId(),
+                game.getHomeScore(), game.getAwayScore(), game.getPeriod(), game.getStatus(), game.getEndedInOT());
+    }
+}
@@ -0,0 +1,87 @@
+package com.obhl.game.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A season's player_stats rebuild from game events: the job's progress as served by
+ * {@code GET /games/stats-rebuild/{jobId}}, and the request/result exchanged with stats-service's
+ * {@code POST /stats/players/rebuild}.
+ */
+public class PlayerStatsRebuildDto {
+
+    /** Sent to stats-service; lines are one per (game, player), as finalizing each game would send them. */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        private Long seasonId;
+        private String ledgerMark;
+        private boolean dryRun;
+        private List<PlayerStatsUpdateDto> lines = new ArrayList<>();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Totals {
+        private int gamesPlayed;
+        private int goals;
+        private int assists;
+        private int points;
+        private int penaltyMinutes;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Correction {
+        private Long playerId;
+        private Long teamId;
+        /** Null when the player had no player_stats row for the season. */
+        private Totals before;
+        private Totals after;
+    }
+
+    /** stats-service's answer: what differed, and (unless dry-run) was overwritten. */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private Long seasonId;
+        private boolean dryRun;
+        private int gamesCovered;
+        private int playersChecked;
+        private int playersCorrected;
+        private List<Correction> corrections = new ArrayList<>();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Status {
+        private String jobId;
+        private Long seasonId;
+        private boolean dryRun;
+        /** SCANNING, APPLYING, DONE or FAILED. */
+        private String state;
+        /** 1 on the first pass; higher when a game was finalized mid-scan and the season was scanned again. */
+        private int attempt;
+        /** Completed games in the season when the scan started. */
+        private long gamesTotal;
+        private long gamesScanned;
+        /** Completed games left out because they were forfeits; forfeits never count toward player stats. */
+        private long forfeitsSkipped;
+        private long eventsScanned;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+        private String error;
+        /** Set once the job is DONE. */
+        private Result result;
+    }
+}
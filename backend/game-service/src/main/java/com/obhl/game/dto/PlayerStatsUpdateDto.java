@@ -16,4 +16,10 @@ public class PlayerStatsUpdateDto {
     private Integer points;
     private Integer penaltyMinutes;
     private Integer gamesPlayed;
+
+    /** With {@link #direction}, lets stats-service apply this game's line at most once. */
+    private Long gameId;
+
+    /** APPLY on finalize, REVERT on unfinalize. */
+    private String direction;
 }
@@ -2,6 +2,7 @@ package com.obhl.game.dto;
 
 import java.util.List;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
@@ -33,4 +34,13 @@ public class ScheduleGenerateRequest {
     // Number of playoff weeks to append after maxWeeks (default 0)
     // These slots will be created with gameType=PLAYOFF and TBD teams
     private Integer playoffWeeks = 0;
+
+    // Improve the greedy schedule with a parallel local search and return it with its objective
+    // breakdown (ScheduleGenerateResult) instead of the bare game list
+    private Boolean optimize = false;
+
+    // Wall-clock budget for the optimizer, in milliseconds (default 3000)
+    @Positive
+    @Max(30000)
+    private Integer optimizeMillis;
 }
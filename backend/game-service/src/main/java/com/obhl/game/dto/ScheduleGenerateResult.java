@@ -0,0 +1,27 @@
+package com.obhl.game.dto;
+
+import java.util.List;
+
+import com.obhl.game.model.Game;
+import com.obhl.game.service.schedule.LeagueScheduleOptimizer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response of /games/generate in optimizer mode: the draft games plus the objective breakdown of
+ * the greedy starting point and of the schedule returned (lower is better).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleGenerateResult {
+
+    private List<Game> games;
+    private LeagueScheduleOptimizer.Objective greedyObjective;
+    private LeagueScheduleOptimizer.Objective objective;
+    private long movesTried;
+    private int workers;
+    private long budgetMillis;
+}
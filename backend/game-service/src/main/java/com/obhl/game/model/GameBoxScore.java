@@ -0,0 +1,38 @@
+package com.obhl.game.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A completed game's box score, frozen when the game is finalized and removed when it is
+ * unfinalized. See migration 064 for when it may still change.
+ */
+@Entity
+@Table(name = "game_box_scores")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameBoxScore {
+
+    @Id
+    @Column(name = "game_id")
+    private Long gameId;
+
+    /** JSON: a BoxScoreDto.Document. */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String document;
+
+    /** JSON: player id to BoxScoreDto.PlayerName, or null until the outbox has resolved them. */
+    @Column(name = "player_names", columnDefinition = "TEXT")
+    private String playerNames;
+
+    @Column(name = "frozen_at", nullable = false)
+    private LocalDateTime frozenAt;
+
+    @Column(name = "names_resolved_at")
+    private LocalDateTime namesResolvedAt;
+}
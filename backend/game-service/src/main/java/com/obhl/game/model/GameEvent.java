@@ -53,6 +53,22 @@ public class GameEvent {
     @Column(name = "penalty_minutes")
     private Integer penaltyMinutes;
 
+    /**
+     * The game's event sequence value at this event's last create or edit; drives the change feed
+     * (see GameEventSequence).
+     */
+    @Column(name = "seq", nullable = false)
+    private Long seq = 0L;
+
+    /** Id the scorekeeper's device gave the event when recording it; unique per game. Null for older events. */
+    @Column(name = "client_id", length = 64)
+    private String clientId;
+
+    /** Optimistic-locking version (migration 066); a save over a stale copy fails. */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
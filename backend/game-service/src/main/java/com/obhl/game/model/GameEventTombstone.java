@@ -0,0 +1,39 @@
+package com.obhl.game.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Marks a deleted game event in the change feed, so a client that already has the event knows to
+ * drop it. Removed with the game.
+ */
+@Entity
+@Table(name = "game_event_tombstones")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameEventTombstone {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+
+    /** The game's event sequence value taken by the delete. */
+    @Column(name = "seq", nullable = false)
+    private Long seq;
+
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        deletedAt = LocalDateTime.now();
+    }
+}
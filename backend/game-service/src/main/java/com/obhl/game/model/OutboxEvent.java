@@ -0,0 +1,67 @@
+package com.obhl.game.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A side effect of finalizing or unfinalizing a game, written in the same transaction as the game
+ * and delivered afterwards by OutboxDispatcher. See migration 060 for the delivery rules.
+ */
+@Entity
+@Table(name = "game_outbox")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    public static final String TEAM_STATS = "TEAM_STATS";
+    public static final String PLAYER_STATS = "PLAYER_STATS";
+    /** Look up the player names for a frozen box score (migration 064). No payload. */
+    public static final String BOX_SCORE_NAMES = "BOX_SCORE_NAMES";
+
+    public static final String PENDING = "PENDING";
+    /** Claimed by a dispatcher; next_attempt_at is when the claim lapses (migration 069). */
+    public static final String IN_FLIGHT = "IN_FLIGHT";
+    public static final String DELIVERED = "DELIVERED";
+    public static final String DEAD = "DEAD";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+
+    @Column(name = "event_type", nullable = false, length = 20)
+    private String eventType;
+
+    /** TEAM_STATS: the team the delta applies to. Otherwise null. */
+    @Column(name = "target_id")
+    private Long targetId;
+
+    /** JSON: a TeamStatsUpdater.TeamDelta, the list of player stat lines for the game, or {} for BOX_SCORE_NAMES. */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false, length = 10)
+    private String status = PENDING;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+}
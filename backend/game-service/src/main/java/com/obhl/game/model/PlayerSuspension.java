@@ -0,0 +1,38 @@
+package com.obhl.game.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A pending one-game suspension. At most one per player; the row is removed once it has been
+ * served, or if the penalties that caused it are deleted.
+ */
+@Entity
+@Table(name = "player_suspension_index")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerSuspension {
+
+    @Id
+    @Column(name = "player_id")
+    private Long playerId;
+
+    @Column(name = "suspended_after_game_id", nullable = false)
+    private Long suspendedAfterGameId;
+
+    @Column(name = "penalty_total", nullable = false)
+    private Integer penaltyTotal;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
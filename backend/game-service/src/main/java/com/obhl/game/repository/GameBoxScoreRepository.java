@@ -0,0 +1,32 @@
+package com.obhl.game.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.obhl.game.model.GameBoxScore;
+
+@Repository
+public interface GameBoxScoreRepository extends JpaRepository<GameBoxScore, Long> {
+
+    /**
+     * Stores resolved player names, but only on the snapshot they were resolved for: the document
+     * must be unchanged and still without names. Its own short transaction, so the lookups that
+     * produced the names ran with nothing locked.
+     *
+     * @return 1 if written, 0 if the snapshot was replaced, changed or already named meanwhile
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE GameBoxScore b SET b.playerNames = :names, b.namesResolvedAt = :resolvedAt "
+            + "WHERE b.gameId = :gameId AND b.document = :document AND b.playerNames IS NULL")
+    int saveNames(@Param("gameId") Long gameId,
+            @Param("document") String document,
+            @Param("names") String names,
+            @Param("resolvedAt") LocalDateTime resolvedAt);
+}
@@ -3,6 +3,8 @@ package com.obhl.game.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.obhl.game.model.GameEvent;
@@ -12,11 +14,23 @@ public interface GameEventRepository extends JpaRepository<GameEvent, Long> {
 
     List<GameEvent> findByGameId(Long gameId);
 
+    List<GameEvent> findByGameIdIn(java.util.Collection<Long> gameIds);
+
     List<GameEvent> findByGameIdOrderByPeriodAscTimeMinutesAscTimeSecondsAsc(Long gameId);
 
+    /** The game's events created or edited after sequence value {@code since}, up to {@code upTo}. */
+    List<GameEvent> findByGameIdAndSeqGreaterThanAndSeqLessThanEqualOrderBySeqAsc(Long gameId, Long since, Long upTo);
+
+    List<GameEvent> findByGameIdAndClientIdIn(Long gameId, java.util.Collection<String> clientIds);
+
     List<GameEvent> findByGameIdAndEventType(Long gameId, String eventType);
 
     List<GameEvent> findByPlayerId(Long playerId);
 
     List<GameEvent> findByTeamId(Long teamId);
+
+    /** Every event of every completed game in a season, in one query -- for season-wide tallies. */
+    @Query("SELECT e FROM GameEvent e WHERE e.gameId IN "
+            + "(SELECT g.id FROM Game g WHERE g.seasonId = :seasonId AND g.status = 'completed')")
+    List<GameEvent> findByCompletedGamesInSeason(@Param("seasonId") Long seasonId);
 }
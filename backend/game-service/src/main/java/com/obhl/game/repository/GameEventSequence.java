@@ -0,0 +1,65 @@
+package com.obhl.game.repository;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Each game's event sequence, kept in {@code games.event_seq}: a counter that every event create,
+ * edit and delete advances by one, so "what changed since N" is a range scan.
+ *
+ * <p>{@link #next} increments the counter with an UPDATE, which holds the game row's lock until the
+ * writing transaction ends. Writers to one game therefore commit in sequence order, and once a
+ * reader sees {@code event_seq = V} every write numbered V or lower is already visible. That is
+ * what lets the change feed hand out V as a cursor without ever skipping a late commit.
+ *
+ * <p>The column is deliberately not mapped on {@code Game}: JPA updates of a game never write it,
+ * so they cannot put back a stale value.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GameEventSequence {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Advances the game's sequence and returns the new value. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long next(Long gameId) {
+        List<Long> seq = jdbcTemplate.queryForList(
+                "UPDATE games SET event_seq = event_seq + 1 WHERE id = ? RETURNING event_seq", Long.class, gameId);
+        if (seq.isEmpty()) {
+            throw new NoSuchElementException("Game not found: " + gameId);
+        }
+        return seq.get(0);
+    }
+
+    /**
+     * Reserves {@code count} consecutive values at once, for a batch of writes, and returns the
+     * last; the batch numbers its writes {@code last - count + 1} through {@code last}. Locks the
+     * game row like {@link #next}. A count of 0 only takes the lock.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long reserve(Long gameId, int count) {
+        List<Long> seq = jdbcTemplate.queryForList(
+                "UPDATE games SET event_seq = event_seq + ? WHERE id = ? RETURNING event_seq", Long.class, count, gameId);
+        if (seq.isEmpty()) {
+            throw new NoSuchElementException("Game not found: " + gameId);
+        }
+        return seq.get(0);
+    }
+
+    /** The game's current sequence value: the version of its latest event write, 0 if none. */
+    public long current(Long gameId) {
+        List<Long> seq = jdbcTemplate.queryForList("SELECT event_seq FROM games WHERE id = ?", Long.class, gameId);
+        if (seq.isEmpty()) {
+            throw new NoSuchElementException("Game not found: " + gameId);
+        }
+        return seq.get(0);
+    }
+}
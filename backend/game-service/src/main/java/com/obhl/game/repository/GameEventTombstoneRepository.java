@@ -0,0 +1,20 @@
+package com.obhl.game.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.obhl.game.model.GameEventTombstone;
+
+@Repository
+public interface GameEventTombstoneRepository extends JpaRepository<GameEventTombstone, Long> {
+
+    /** Ids of the game's events deleted after sequence value {@code since}, up to {@code upTo}. */
+    @Query("SELECT t.eventId FROM GameEventTombstone t WHERE t.gameId = :gameId "
+            + "AND t.seq > :since AND t.seq <= :upTo ORDER BY t.seq")
+    List<Long> findDeletedEventIds(@Param("gameId") Long gameId, @Param("since") long since,
+            @Param("upTo") long upTo);
+}
@@ -25,14 +25,96 @@ public interface GameRepository extends JpaRepository<Game, Long> {
 
     boolean existsBySeasonId(Long seasonId);
 
+    long countBySeasonIdAndStatus(Long seasonId, String status);
+
+    /** The season's completed games after {@code afterId}, in id order; page through with the last id seen. */
+    @org.springframework.data.jpa.repository.Query("SELECT g FROM Game g WHERE g.seasonId = :seasonId "
+            + "AND g.status = 'completed' AND g.id > :afterId ORDER BY g.id")
+    List<Game> findCompletedAfter(@org.springframework.data.repository.query.Param("seasonId") Long seasonId,
+            @org.springframework.data.repository.query.Param("afterId") Long afterId,
+            org.springframework.data.domain.Pageable pageable);
+
     @org.springframework.data.jpa.repository.Query("SELECT g FROM Game g WHERE g.seasonId = :seasonId AND (g.homeTeamId = :teamId OR g.awayTeamId = :teamId) ORDER BY g.gameDate")
     List<Game> findBySeasonIdAndTeam(@org.springframework.data.repository.query.Param("seasonId") Long seasonId,
             @org.springframework.data.repository.query.Param("teamId") Long teamId);
 
-    // Shift assignment queries
-    List<Game> findByGoalie1IdOrGoalie2Id(Long goalie1Id, Long goalie2Id);
+    /** The team's most recent game in the season before {@code before}; ask for a page of one. */
+    @org.springframework.data.jpa.repository.Query("SELECT g.id FROM Game g WHERE g.seasonId = :seasonId "
+            + "AND (g.homeTeamId = :teamId OR g.awayTeamId = :teamId) AND g.gameDate < :before "
+            + "ORDER BY g.gameDate DESC, g.id DESC")
+    List<Long> findPreviousGameIds(@org.springframework.data.repository.query.Param("seasonId") Long seasonId,
+            @org.springframework.data.repository.query.Param("teamId") Long teamId,
+            @org.springframework.data.repository.query.Param("before") LocalDateTime before,
+            org.springframework.data.domain.Pageable pageable);
+
+    /** The team's next game in the season after {@code after}; ask for a page of one. */
+    @org.springframework.data.jpa.repository.Query("SELECT g.id FROM Game g WHERE g.seasonId = :seasonId "
+            + "AND (g.homeTeamId = :teamId OR g.awayTeamId = :teamId) AND g.gameDate > :after "
+            + "ORDER BY g.gameDate ASC, g.id ASC")
+    List<Long> findNextGameIds(@org.springframework.data.repository.query.Param("seasonId") Long seasonId,
+            @org.springframework.data.repository.query.Param("teamId") Long teamId,
+            @org.springframework.data.repository.query.Param("after") LocalDateTime after,
+            org.springframework.data.domain.Pageable pageable);
+
+    // Read-only projections for list views (schedule, shift assignments, open shifts);
+    // see GameScheduleRow / GameStaffRow
+    List<GameScheduleRow> findScheduleRowsBySeasonIdOrderByGameDate(Long seasonId);
+
+    List<GameStaffRow> findStaffRowsByGoalie1IdOrGoalie2IdOrderByGameDate(Long goalie1Id, Long goalie2Id);
+
+    List<GameStaffRow> findStaffRowsByReferee1IdOrReferee2IdOrderByGameDate(Long referee1Id, Long referee2Id);
+
+    List<GameStaffRow> findStaffRowsByScorekeeperIdOrderByGameDate(Long scorekeeperId);
+
+    List<GameStaffRow> findStaffRowsBySeasonIdAndScorekeeperIdIsNullOrderByGameDate(Long seasonId);
+
+    @org.springframework.data.jpa.repository.Query("SELECT g.id AS id, g.seasonId AS seasonId, "
+            + "g.homeTeamId AS homeTeamId, g.awayTeamId AS awayTeamId, g.gameDate AS gameDate, "
+            + "g.status AS status, g.week AS week, g.rink AS rink, g.gameType AS gameType, "
+            + "g.goalie1Id AS goalie1Id, g.goalie2Id AS goalie2Id, g.referee1Id AS referee1Id, "
+            + "g.referee2Id AS referee2Id, g.scorekeeperId AS scorekeeperId, g.version AS version "
+            + "FROM Game g WHERE g.seasonId = :seasonId "
+            + "AND (g.referee1Id IS NULL OR g.referee2Id IS NULL) ORDER BY g.gameDate")
+    List<GameStaffRow> findStaffRowsNeedingReferee(
+            @org.springframework.data.repository.query.Param("seasonId") Long seasonId);
+
+    /**
+     * Keyset page over (gameDate, id), every filter optional. The page is everything strictly
+     * after the cursor, so a page boundary never skips or repeats a game however many share a
+     * start time. Served by idx_games_season_date_id / idx_games_date_id (migration 061).
+     */
+    @org.springframework.data.jpa.repository.Query("SELECT g FROM Game g WHERE "
+            + "(:seasonId IS NULL OR g.seasonId = :seasonId) "
+            + "AND (:teamId IS NULL OR g.homeTeamId = :teamId OR g.awayTeamId = :teamId) "
+            + "AND (:status IS NULL OR g.status = :status) "
+            + "AND (:gameType IS NULL OR g.gameType = :gameType) "
+            + "AND (:week IS NULL OR g.week = :week) "
+            + "AND (:afterDate IS NULL OR g.gameDate > :afterDate "
+            + "     OR (g.gameDate = :afterDate AND g.id > :afterId)) "
+            + "ORDER BY g.gameDate, g.id")
+    List<Game> findPage(@org.springframework.data.repository.query.Param("seasonId") Long seasonId,
+            @org.springframework.data.repository.query.Param("teamId") Long teamId,
+            @org.springframework.data.repository.query.Param("status") String status,
+            @org.springframework.data.repository.query.Param("gameType") String gameType,
+            @org.springframework.data.repository.query.Param("week") Integer week,
+            @org.springframework.data.repository.query.Param("afterDate") LocalDateTime afterDate,
+            @org.springframework.data.repository.query.Param("afterId") Long afterId,
+            org.springframework.data.domain.Pageable pageable);
 
-    List<Game> findByReferee1IdOrReferee2Id(Long referee1Id, Long referee2Id);
+    /**
+     * Games per calendar day in the league's time zone. game_date is stored as UTC wall time, so
+     * it is read as UTC and shifted to America/Chicago before taking the date -- in the query,
+     * so only one row per day leaves the database.
+     */
+    @org.springframework.data.jpa.repository.Query(value = "SELECT "
+            + "CAST((g.game_date AT TIME ZONE 'UTC') AT TIME ZONE 'America/Chicago' AS DATE) AS date, "
+            + "COUNT(*) AS gamesCount "
+            + "FROM games g WHERE g.season_id = :seasonId "
+            + "GROUP BY 1 ORDER BY 1", nativeQuery = true)
+    List<GameDayCount> countGamesPerDay(@org.springframework.data.repository.query.Param("seasonId") Long seasonId);
 
-    List<Game> findByScorekeeperId(Long scorekeeperId);
+    interface GameDayCount {
+        java.time.LocalDate getDate();
+        Long getGamesCount();
+    }
 }
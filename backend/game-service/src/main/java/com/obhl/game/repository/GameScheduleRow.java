@@ -0,0 +1,79 @@
+package com.obhl.game.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a game as shown on the season schedule.
+ *
+ * <p>Spring Data selects exactly these columns and hands back a tuple rather than a managed
+ * {@link com.obhl.game.model.Game}, so a schedule read builds no entities and leaves nothing in the
+ * persistence context to snapshot or dirty-check. {@code game_notes} (TEXT) and {@code created_at}
+ * are left out -- no schedule view shows them, and a single game still returns them via
+ * {@code GET /games/{id}}.
+ */
+public interface GameScheduleRow {
+
+    Long getId();
+
+    Long getSeasonId();
+
+    Long getLeagueId();
+
+    Long getHomeTeamId();
+
+    Long getAwayTeamId();
+
+    LocalDateTime getGameDate();
+
+    String getVenue();
+
+    String getStatus();
+
+    Integer getHomeScore();
+
+    Integer getAwayScore();
+
+    Boolean getOvertime();
+
+    Boolean getShootout();
+
+    Integer getPeriod();
+
+    Boolean getEndedInOT();
+
+    Long getForfeitTeamId();
+
+    Integer getHomeTeamPoints();
+
+    Integer getAwayTeamPoints();
+
+    Integer getWeek();
+
+    String getRink();
+
+    String getGameType();
+
+    String getPlayoffRound();
+
+    Integer getBracketPosition();
+
+    String getTournamentStage();
+
+    Short getPeriodCount();
+
+    Short getPeriodMinutes();
+
+    Long getGoalie1Id();
+
+    Long getGoalie2Id();
+
+    Long getReferee1Id();
+
+    Long getReferee2Id();
+
+    Long getScorekeeperId();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getVersion();
+}
@@ -0,0 +1,44 @@
+package com.obhl.game.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection for the staff views: a user's goalie/referee/scorekeeper assignments and
+ * the season's games still needing a referee or scorekeeper.
+ *
+ * <p>Those views (api-gateway's *ShiftService) only need when and who is playing, the status and
+ * who is already staffing the game, so scores, points, bracket and notes columns are never read.
+ * Like {@link GameScheduleRow} it is tuple-backed and bypasses the persistence context.
+ */
+public interface GameStaffRow {
+
+    Long getId();
+
+    Long getSeasonId();
+
+    Long getHomeTeamId();
+
+    Long getAwayTeamId();
+
+    LocalDateTime getGameDate();
+
+    String getStatus();
+
+    Integer getWeek();
+
+    String getRink();
+
+    String getGameType();
+
+    Long getGoalie1Id();
+
+    Long getGoalie2Id();
+
+    Long getReferee1Id();
+
+    Long getReferee2Id();
+
+    Long getScorekeeperId();
+
+    Long getVersion();
+}
@@ -0,0 +1,60 @@
+package com.obhl.game.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.obhl.game.model.OutboxEvent;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks the next due rows for delivery: pending rows whose retry time has come, and in-flight
+     * rows whose claim has lapsed (a dispatcher that died mid-delivery). SKIP LOCKED lets a second
+     * game-service instance take the next batch instead of waiting. A PLAYER_STATS row is only due once every earlier
+     * PLAYER_STATS row for the same game has been delivered -- an unfinalize's REVERT must never
+     * overtake the finalize's APPLY it undoes.
+     */
+    @Query(value = "SELECT o.* FROM game_outbox o "
+            + "WHERE o.status IN ('PENDING', 'IN_FLIGHT') AND o.next_attempt_at <= :now "
+            + "AND (o.event_type <> 'PLAYER_STATS' OR NOT EXISTS ("
+            + "  SELECT 1 FROM game_outbox e WHERE e.game_id = o.game_id "
+            + "  AND e.event_type = 'PLAYER_STATS' AND e.status <> 'DELIVERED' AND e.id < o.id)) "
+            + "ORDER BY o.id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> claimDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Records a delivery outcome, but only while the claim that produced it still holds the row:
+     * still IN_FLIGHT under the same lease expiry. A delivery that outlived its lease may have been
+     * re-claimed, or even finished, by another pass, and its stale outcome must not overwrite that.
+     *
+     * @return 1 if written, 0 if the row was re-claimed, completed or deleted meanwhile
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.status = :status, o.attempts = :attempts, "
+            + "o.nextAttemptAt = :nextAttemptAt, o.lastError = :lastError, o.deliveredAt = :deliveredAt "
+            + "WHERE o.id = :id AND o.status = 'IN_FLIGHT' AND o.nextAttemptAt = :leaseUntil")
+    int recordOutcome(@Param("id") Long id,
+            @Param("leaseUntil") LocalDateTime leaseUntil,
+            @Param("status") String status,
+            @Param("attempts") Integer attempts,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("lastError") String lastError,
+            @Param("deliveredAt") LocalDateTime deliveredAt);
+
+    long countByStatus(String status);
+
+    long countByStatusIn(List<String> statuses);
+
+    /** Drops the game's undelivered rows of one type, e.g. a box score name lookup the game no longer needs. */
+    long deleteByGameIdAndEventTypeAndStatus(Long gameId, String eventType, String status);
+
+    Optional<OutboxEvent> findFirstByStatusInOrderByIdAsc(List<String> statuses);
+}
@@ -0,0 +1,10 @@
+package com.obhl.game.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.obhl.game.model.PlayerSuspension;
+
+@Repository
+public interface PlayerSuspensionRepository extends JpaRepository<PlayerSuspension, Long> {
+}
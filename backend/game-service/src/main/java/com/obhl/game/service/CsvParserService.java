@@ -1,15 +1,25 @@
 package com.obhl.game.service;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -28,11 +38,52 @@ public class CsvParserService {
             DateTimeFormatter.ofPattern("M/d/yyyy"),
             DateTimeFormatter.ofPattern("M/d/yy"));
 
-    // Accept both 24-hour (19:00) and 12-hour (7:00 PM / 07:00 PM) clock times.
+    // Accept both 24-hour (19:00) and 12-hour (7:00 PM / 07:00 PM / 7:00 pm) clock times.
     private static final List<DateTimeFormatter> TIME_FORMATTERS = List.of(
             DateTimeFormatter.ofPattern("HH:mm"),
-            DateTimeFormatter.ofPattern("h:mm a", Locale.ENGLISH),
-            DateTimeFormatter.ofPattern("hh:mm a", Locale.ENGLISH));
+            new DateTimeFormatterBuilder().parseCaseInsensitive().appendPattern("h:mm a").toFormatter(Locale.ENGLISH),
+            new DateTimeFormatterBuilder().parseCaseInsensitive().appendPattern("hh:mm a").toFormatter(Locale.ENGLISH));
+
+    // Runs of spaces, tabs or non-breaking spaces (spreadsheet exports produce all three)
+    private static final Pattern WHITESPACE = Pattern.compile("[\\s\u00A0]+");
+
+    /**
+     * Distinct date and time strings remembered per file. A season has one date per game night and
+     * a handful of start times, so even a multi-season file stays far below this; it only bounds a
+     * pathological one.
+     */
+    private static final int MAX_REMEMBERED_VALUES = 10_000;
+
+    /** {@code parseWholeNumber}'s answer for text that is not a whole number; outside int range. */
+    private static final long NOT_A_NUMBER = Long.MIN_VALUE;
+
+    /** Row errors kept word for word in a report; past this only the count grows. */
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    /**
+     * Outcome of reading a slot file: how many data rows there were, how many became slots, and
+     * what was wrong with the rest ({@code errors} holds the first {@link #MAX_REPORTED_ERRORS}
+     * messages; {@code errorCount} counts them all).
+     */
+    public record SlotParseReport(int rowsRead, int slotsParsed, List<String> errors, int errorCount) {
+
+        public boolean hasErrors() {
+            return errorCount > 0;
+        }
+
+        /** Every reported error, one per line, under a count -- shown as-is by the upload screen. */
+        public String summary() {
+            StringBuilder text = new StringBuilder()
+                    .append(errorCount).append(" of ").append(rowsRead).append(" rows could not be read:");
+            for (String error : errors) {
+                text.append('\n').append(error);
+            }
+            if (errorCount > errors.size()) {
+                text.append("\n...and ").append(errorCount - errors.size()).append(" more");
+            }
+            return text.toString();
+        }
+    }
 
     /**
      * Parse a schedule CSV into ice-time GameSlots.
@@ -42,47 +93,96 @@ public class CsvParserService {
      * export ({@code Week,Date,Time,Home Team,Away Team,Rink}); any extra columns
      * (e.g. team matchups) are ignored — the Generate step assigns teams. If no
      * recognizable header is present the columns are read positionally as
-     * {@code week,date,time,rink}.
+     * {@code week,date,time,rink}. A field in double quotes may contain commas, and
+     * {@code ""} inside it is a literal quote; a quoted field cannot span lines.
+     * <p>
+     * The whole file is read before failing, so one upload reports every bad row rather
+     * than the first; the exception message is {@link SlotParseReport#summary()}.
      */
     public List<GameSlot> parseGameSlots(MultipartFile file) {
         List<GameSlot> slots = new ArrayList<>();
+        SlotParseReport report;
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            report = readGameSlots(reader, slots::add);
+        } catch (IOException e) {
+            log.error("Failed to read CSV file", e);
+            throw new RuntimeException("Failed to parse CSV file: " + e.getMessage());
+        }
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream()))) {
-            String line;
-            int lineNumber = 0;
-            Map<String, Integer> cols = null;
+        if (report.hasErrors()) {
+            log.info("Rejected slot CSV: {} of {} rows invalid", report.errorCount(), report.rowsRead());
+            throw new RuntimeException(report.summary());
+        }
+        log.info("Successfully parsed {} game slots from CSV", slots.size());
+        return slots;
+    }
 
-            while ((line = reader.readLine()) != null) {
-                lineNumber++;
+    /**
+     * Streams slot rows from {@code reader} into {@code sink}, one at a time, and returns what
+     * went wrong instead of stopping at the first bad row.
+     * <p>
+     * Memory stays flat however long the file is: one line is held at a time, fields are cut out
+     * of it without splitting the whole row, and the date and time formats are detected on the
+     * first row that has them and tried first from then on (other accepted formats are still
+     * tried, without exceptions, for a row that does not match). Each distinct date and time
+     * string is parsed once per file. Duplicate slots are reported
+     * against the line that first had them, which needs one entry per slot -- no more than the
+     * sink keeps anyway.
+     * <p>
+     * A missing required header column is a file-level problem and still throws.
+     */
+    public SlotParseReport readGameSlots(Reader reader, Consumer<GameSlot> sink) throws IOException {
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader, 64 * 1024);
+        List<String> errors = new ArrayList<>();
+        int errorCount = 0;
+        int rowsRead = 0;
+        int slotsParsed = 0;
+        Map<GameSlot, Integer> firstSeen = new HashMap<>();
+        RowParser parser = null;
+
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                // Excel writes a byte-order mark before the header
+                line = line.substring(1);
+            }
 
-                if (line.trim().isEmpty()) {
-                    continue;
-                }
+            if (line.isBlank()) {
+                continue;
+            }
 
-                // The first non-empty row establishes the column layout.
-                if (cols == null) {
-                    if (looksLikeHeader(line)) {
-                        cols = parseHeader(line);
-                        continue;
-                    }
-                    // No header — fall back to the documented positional order.
-                    cols = defaultColumns();
+            // The first non-empty row establishes the column layout.
+            if (parser == null) {
+                if (looksLikeHeader(line)) {
+                    parser = new RowParser(parseHeader(line));
+                    continue;
                 }
+                // No header — fall back to the documented positional order.
+                parser = new RowParser(defaultColumns());
+            }
 
-                try {
-                    slots.add(parseLine(line, cols));
-                } catch (Exception e) {
-                    throw new RuntimeException("Error parsing line " + lineNumber + ": " + e.getMessage());
+            rowsRead++;
+            GameSlot slot = parser.parse(line);
+            String error = parser.error;
+            if (slot != null) {
+                Integer duplicateOf = firstSeen.putIfAbsent(slot, lineNumber);
+                if (duplicateOf == null) {
+                    sink.accept(slot);
+                    slotsParsed++;
+                    continue;
                 }
+                error = "Duplicate of line " + duplicateOf + " (week " + slot.getWeek() + ", " + slot.getDate()
+                        + " " + slot.getTime() + " on " + slot.getRink() + ")";
+            }
+            errorCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("Line " + lineNumber + ": " + error);
             }
-
-            log.info("Successfully parsed {} game slots from CSV", slots.size());
-            return slots;
-
-        } catch (Exception e) {
-            log.error("Failed to parse CSV file", e);
-            throw new RuntimeException("Failed to parse CSV file: " + e.getMessage());
         }
+
+        return new SlotParseReport(rowsRead, slotsParsed, List.copyOf(errors), errorCount);
     }
 
     private boolean looksLikeHeader(String line) {
@@ -94,7 +194,11 @@ public class CsvParserService {
         String[] parts = line.split(",");
         Map<String, Integer> cols = new HashMap<>();
         for (int i = 0; i < parts.length; i++) {
-            cols.put(parts[i].trim().toLowerCase(), i);
+            String name = parts[i].trim();
+            if (name.length() >= 2 && name.startsWith("\"") && name.endsWith("\"")) {
+                name = name.substring(1, name.length() - 1).trim();
+            }
+            cols.put(name.toLowerCase(), i);
         }
         for (String required : new String[] { "week", "date", "time", "rink" }) {
             if (!cols.containsKey(required)) {
@@ -114,65 +218,251 @@ public class CsvParserService {
         return cols;
     }
 
-    private GameSlot parseLine(String line, Map<String, Integer> cols) {
-        String[] parts = line.split(",");
+    /**
+     * Parses rows of one file. Holds the column positions and the formats detected so far; a row
+     * that cannot be read yields null and leaves the reason in {@link #error}. Nothing here throws
+     * for a bad row.
+     */
+    private final class RowParser {
+
+        private final int weekCol;
+        private final int dateCol;
+        private final int timeCol;
+        private final int rinkCol;
+        private final int columnsNeeded;
+        /** Start and end offsets of each needed column in the current line, inside any quotes. */
+        private final int[] starts;
+        private final int[] ends;
+        /** Whether the column holds a {@code ""} that stands for one quote. */
+        private final boolean[] escapedQuotes;
+        private final ParsePosition position = new ParsePosition(0);
+
+        private DateTimeFormatter dateFormat;
+        private DateTimeFormatter timeFormat;
+        /** Values already parsed in this file; most rows repeat a date and time seen before. */
+        private final Map<String, LocalDate> knownDates = new HashMap<>();
+        private final Map<String, LocalTime> knownTimes = new HashMap<>();
+        String error;
+
+        RowParser(Map<String, Integer> cols) {
+            weekCol = cols.get("week");
+            dateCol = cols.get("date");
+            timeCol = cols.get("time");
+            rinkCol = cols.get("rink");
+            columnsNeeded = Math.max(Math.max(weekCol, dateCol), Math.max(timeCol, rinkCol)) + 1;
+            starts = new int[columnsNeeded];
+            ends = new int[columnsNeeded];
+            escapedQuotes = new boolean[columnsNeeded];
+        }
+
+        GameSlot parse(String line) {
+            error = null;
+            int found = cutColumns(line);
+            if (found < columnsNeeded) {
+                return fail("Expected at least " + columnsNeeded + " columns but found " + found);
+            }
 
-        int maxIndex = 0;
-        for (int idx : cols.values()) {
-            maxIndex = Math.max(maxIndex, idx);
+            String weekStr = field(line, weekCol);
+            long week = parseWholeNumber(weekStr);
+            if (week == NOT_A_NUMBER) {
+                return fail("Invalid week number: " + weekStr);
+            }
+            if (week <= 0) {
+                return fail("Week must be positive");
+            }
+
+            String dateStr = field(line, dateCol);
+            LocalDate date = knownDates.get(dateStr);
+            if (date == null) {
+                date = remember(knownDates, dateStr, parseDate(dateStr));
+            }
+            if (date == null) {
+                return fail(error != null ? error
+                        : "Invalid date format (expected e.g. 2026-06-04 or 6/4/2026): " + dateStr);
+            }
+
+            String timeStr = field(line, timeCol);
+            LocalTime time = knownTimes.get(timeStr);
+            if (time == null) {
+                time = remember(knownTimes, timeStr, parseTime(timeStr));
+            }
+            if (time == null) {
+                return fail("Invalid time format (expected e.g. 19:00 or 7:00 PM): " + timeStr);
+            }
+
+            String rinkStr = field(line, rinkCol);
+            String normalizedRink = normalizeRinkName(rinkStr);
+            if (normalizedRink == null) {
+                return fail("Rink must contain 'Tubbs' or 'Cardinal', found: " + rinkStr);
+            }
+
+            return new GameSlot((int) week, date, time, normalizedRink);
         }
-        if (parts.length <= maxIndex) {
-            throw new RuntimeException("Expected at least " + (maxIndex + 1) + " columns but found " + parts.length);
+
+        private <T> T remember(Map<String, T> known, String text, T value) {
+            if (value != null && known.size() < MAX_REMEMBERED_VALUES) {
+                known.put(text, value);
+            }
+            return value;
         }
 
-        String weekStr = parts[cols.get("week")].trim();
-        String dateStr = parts[cols.get("date")].trim();
-        String timeStr = parts[cols.get("time")].trim();
-        String rinkStr = parts[cols.get("rink")].trim();
+        private GameSlot fail(String message) {
+            error = message;
+            return null;
+        }
 
-        Integer week;
-        try {
-            week = Integer.parseInt(weekStr);
-        } catch (NumberFormatException e) {
-            throw new RuntimeException("Invalid week number: " + weekStr);
+        /** Records where each needed column starts and ends; returns how many columns the line has (capped). */
+        private int cutColumns(String line) {
+            int from = 0;
+            for (int col = 0; col < columnsNeeded; col++) {
+                if (from > line.length()) {
+                    return col;
+                }
+                int quote = from;
+                while (quote < line.length() && line.charAt(quote) == ' ') {
+                    quote++;
+                }
+                boolean quoted = quote < line.length() && line.charAt(quote) == '"';
+                escapedQuotes[col] = false;
+                int comma;
+                if (quoted) {
+                    // Up to the closing quote, stepping over "" pairs; unterminated runs to the end
+                    int close = quote + 1;
+                    while ((close = line.indexOf('"', close)) >= 0
+                            && close + 1 < line.length() && line.charAt(close + 1) == '"') {
+                        escapedQuotes[col] = true;
+                        close += 2;
+                    }
+                    starts[col] = quote + 1;
+                    ends[col] = close < 0 ? line.length() : close;
+                    comma = line.indexOf(',', ends[col]);
+                } else {
+                    comma = line.indexOf(',', from);
+                    starts[col] = from;
+                    ends[col] = comma < 0 ? line.length() : comma;
+                }
+                from = comma < 0 ? line.length() + 1 : comma + 1;
+            }
+            return columnsNeeded;
+        }
+
+        private String field(String line, int col) {
+            String value = line.substring(starts[col], ends[col]);
+            return (escapedQuotes[col] ? value.replace("\"\"", "\"") : value).trim();
+        }
+
+        /**
+         * The value as {@link Integer#parseInt} reads it, sign included, or {@link #NOT_A_NUMBER}.
+         * Without the exception parseInt throws for every bad row.
+         */
+        private long parseWholeNumber(String value) {
+            int i = 0;
+            boolean negative = false;
+            if (!value.isEmpty() && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+                negative = value.charAt(0) == '-';
+                i = 1;
+            }
+            if (i == value.length() || value.length() - i > 10) {
+                return NOT_A_NUMBER;
+            }
+            long result = 0;
+            for (; i < value.length(); i++) {
+                int digit = Character.digit(value.charAt(i), 10);
+                if (digit < 0) {
+                    return NOT_A_NUMBER;
+                }
+                result = result * 10 + digit;
+            }
+            result = negative ? -result : result;
+            return result < Integer.MIN_VALUE || result > Integer.MAX_VALUE ? NOT_A_NUMBER : result;
         }
-        if (week <= 0) {
-            throw new RuntimeException("Week must be positive");
+
+        private LocalDate parseDate(String value) {
+            TemporalAccessor parsed = parseWith(dateFormat, value);
+            if (parsed == null) {
+                DateTimeFormatter detected = detect(DATE_FORMATTERS, value);
+                if (detected == null) {
+                    return null;
+                }
+                if (dateFormat == null) {
+                    dateFormat = detected;
+                }
+                parsed = parseWith(detected, value);
+            }
+            try {
+                return LocalDate.of(parsed.get(ChronoField.YEAR_OF_ERA), parsed.get(ChronoField.MONTH_OF_YEAR),
+                        parsed.get(ChronoField.DAY_OF_MONTH));
+            } catch (DateTimeException e) {
+                // Well-formed but not a real day, e.g. 2/30/2026
+                error = "Invalid date: " + value;
+                return null;
+            }
         }
 
-        LocalDate date = parseDate(dateStr);
-        LocalTime time = parseTime(timeStr);
+        private LocalTime parseTime(String value) {
+            // Normalize whitespace so "06:30  PM" or non-breaking spaces still parse.
+            String cleaned = needsWhitespaceCleanup(value) ? WHITESPACE.matcher(value).replaceAll(" ") : value;
+            TemporalAccessor parsed = parseWith(timeFormat, cleaned);
+            if (parsed == null) {
+                DateTimeFormatter detected = detect(TIME_FORMATTERS, cleaned);
+                if (detected == null) {
+                    return null;
+                }
+                if (timeFormat == null) {
+                    timeFormat = detected;
+                }
+                parsed = parseWith(detected, cleaned);
+            }
 
-        String normalizedRink = normalizeRinkName(rinkStr);
-        if (normalizedRink == null) {
-            throw new RuntimeException("Rink must contain 'Tubbs' or 'Cardinal', found: " + rinkStr);
+            long hour;
+            if (parsed.isSupported(ChronoField.HOUR_OF_DAY)) {
+                hour = parsed.getLong(ChronoField.HOUR_OF_DAY);
+            } else {
+                long clockHour = parsed.getLong(ChronoField.CLOCK_HOUR_OF_AMPM);
+                if (clockHour < 1 || clockHour > 12) {
+                    return null;
+                }
+                hour = clockHour % 12 + 12 * parsed.getLong(ChronoField.AMPM_OF_DAY);
+            }
+            long minute = parsed.getLong(ChronoField.MINUTE_OF_HOUR);
+            if (hour > 23 || minute > 59) {
+                return null;
+            }
+            return LocalTime.of((int) hour, (int) minute);
         }
 
-        return new GameSlot(week, date, time, normalizedRink);
-    }
+        private boolean needsWhitespaceCleanup(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '\u00A0' || (Character.isWhitespace(c) && (c != ' '
+                        || (i + 1 < value.length() && Character.isWhitespace(value.charAt(i + 1)))))) {
+                    return true;
+                }
+            }
+            return false;
+        }
 
-    private LocalDate parseDate(String value) {
-        for (DateTimeFormatter fmt : DATE_FORMATTERS) {
-            try {
-                return LocalDate.parse(value, fmt);
-            } catch (Exception ignored) {
-                // try the next format
+        private DateTimeFormatter detect(List<DateTimeFormatter> formats, String value) {
+            for (DateTimeFormatter format : formats) {
+                if (parseWith(format, value) != null) {
+                    return format;
+                }
             }
+            return null;
         }
-        throw new RuntimeException("Invalid date format (expected e.g. 2026-06-04 or 6/4/2026): " + value);
-    }
 
-    private LocalTime parseTime(String value) {
-        // Normalize whitespace so "06:30  PM" or non-breaking spaces still parse.
-        String cleaned = value.trim().replaceAll("\s+", " ").toUpperCase(Locale.ENGLISH);
-        for (DateTimeFormatter fmt : TIME_FORMATTERS) {
-            try {
-                return LocalTime.parse(cleaned, fmt);
-            } catch (Exception ignored) {
-                // try the next format
+        /** The unresolved fields if {@code format} consumes the whole value, otherwise null. No exceptions. */
+        private TemporalAccessor parseWith(DateTimeFormatter format, String value) {
+            if (format == null) {
+                return null;
             }
+            position.setIndex(0);
+            position.setErrorIndex(-1);
+            TemporalAccessor parsed = format.parseUnresolved(value, position);
+            return parsed != null && position.getErrorIndex() < 0 && position.getIndex() == value.length()
+                    ? parsed
+                    : null;
         }
-        throw new RuntimeException("Invalid time format (expected e.g. 19:00 or 7:00 PM): " + value);
     }
 
     /**
@@ -201,18 +491,11 @@ public class CsvParserService {
         }
 
         // Check for duplicate slots (same week, date, time, rink)
-        for (int i = 0; i < slots.size(); i++) {
-            for (int j = i + 1; j < slots.size(); j++) {
-                GameSlot slot1 = slots.get(i);
-                GameSlot slot2 = slots.get(j);
-
-                if (slot1.getWeek().equals(slot2.getWeek()) &&
-                        slot1.getDate().equals(slot2.getDate()) &&
-                        slot1.getTime().equals(slot2.getTime()) &&
-                        slot1.getRink().equals(slot2.getRink())) {
-                    throw new RuntimeException("Duplicate slot found: Week " + slot1.getWeek() +
-                            ", " + slot1.getDate() + " " + slot1.getTime() + " on " + slot1.getRink());
-                }
+        java.util.Set<GameSlot> seen = new java.util.HashSet<>();
+        for (GameSlot slot : slots) {
+            if (!seen.add(slot)) {
+                throw new RuntimeException("Duplicate slot found: Week " + slot.getWeek() +
+                        ", " + slot.getDate() + " " + slot.getTime() + " on " + slot.getRink());
             }
         }
 
@@ -9,7 +9,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.obhl.game.dto.GameEventDto;
 import com.obhl.game.model.GameEvent;
+import com.obhl.game.model.GameEventTombstone;
 import com.obhl.game.repository.GameEventRepository;
+import com.obhl.game.repository.GameEventSequence;
+import com.obhl.game.repository.GameEventTombstoneRepository;
 import com.obhl.game.repository.GameRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -19,7 +22,16 @@ import lombok.RequiredArgsConstructor;
 public class GameEventService {
 
     private final GameEventRepository gameEventRepository;
+    private final GameEventSequence gameEventSequence;
+    private final GameEventTombstoneRepository gameEventTombstoneRepository;
     private final GameRepository gameRepository;
+    private final SeasonScheduleCache seasonScheduleCache;
+    private final GameRulesContextCache rulesContexts;
+    private final PenaltyIndex penaltyIndex;
+    private final com.obhl.game.service.live.LiveScoreHub liveScoreHub;
+    private final com.obhl.game.service.scoring.TournamentStandingsService tournamentStandingsService;
+    private final com.obhl.game.service.boxscore.BoxScoreService boxScoreService;
+    private final OptimisticRetry optimisticRetry;
 
     @Transactional(readOnly = true)
     public List<GameEventDto.Response> getEventsByGame(Long gameId) {
@@ -29,6 +41,40 @@ public class GameEventService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * The game's event changes after version {@code since}: events created or edited since then,
+     * in the order they were written, and the ids of events deleted since then. The returned
+     * version is the cursor for the next call. A client that has never synced passes 0 and gets
+     * every event and no tombstones; when nothing has changed this is a single-row lookup.
+     *
+     * <p>A {@code since} ahead of the game's version (the client synced against another database,
+     * or the game was recreated) is answered as if it were 0, with {@code reset} set so the client
+     * drops what it has.
+     *
+     * @throws java.util.NoSuchElementException if the game does not exist
+     */
+    @Transactional(readOnly = true)
+    public GameEventDto.Changes getEventChanges(Long gameId, long since) {
+        // Read the version first: everything numbered up to it is already committed (see
+        // GameEventSequence), and bounding both queries by it keeps the cursor exact
+        long version = gameEventSequence.current(gameId);
+        boolean reset = since > version;
+        long from = reset ? 0 : since;
+        if (from == version) {
+            return new GameEventDto.Changes(gameId, version, false, List.of(), List.of());
+        }
+
+        List<GameEventDto.Response> events = gameEventRepository
+                .findByGameIdAndSeqGreaterThanAndSeqLessThanEqualOrderBySeqAsc(gameId, from, version)
+                .stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+        List<Long> deleted = from == 0
+                ? List.of()
+                : gameEventTombstoneRepository.findDeletedEventIds(gameId, from, version);
+        return new GameEventDto.Changes(gameId, version, reset, events, deleted);
+    }
+
     @Transactional(readOnly = true)
     public List<GameEventDto.Response> getEventsByGameAndType(Long gameId, String eventType) {
         return gameEventRepository.findByGameIdAndEventType(gameId, eventType)
@@ -42,20 +88,27 @@ public class GameEventService {
         return gameEventRepository.findById(id).map(this::toResponse);
     }
 
-    @Transactional
+    /**
+     * Records an event and moves the score if it is a goal. Retried from the top if the game or a
+     * concurrent write to it wins an optimistic-locking race (see {@link OptimisticRetry}).
+     */
     public GameEventDto.Response createEvent(GameEventDto.Create dto) {
-        GameEvent event = new GameEvent();
-        event.setGameId(dto.getGameId());
-        event.setTeamId(dto.getTeamId());
-        event.setPlayerId(dto.getPlayerId());
-        event.setEventType(dto.getEventType());
-        event.setPeriod(dto.getPeriod());
-        event.setTimeMinutes(dto.getTimeMinutes());
-        event.setTimeSeconds(dto.getTimeSeconds());
-        event.setDescription(dto.getDescription());
-        event.setAssist1PlayerId(dto.getAssist1PlayerId());
-        event.setAssist2PlayerId(dto.getAssist2PlayerId());
-        event.setPenaltyMinutes(dto.getPenaltyMinutes());
+        return optimisticRetry.run("createEvent", () -> createEventOnce(dto));
+    }
+
+    private GameEventDto.Response createEventOnce(GameEventDto.Create dto) {
+        if (dto.getClientId() != null) {
+            // Lock the game before looking, so a retry racing its original waits for it and then
+            // finds it
+            gameEventSequence.reserve(dto.getGameId(), 0);
+            List<GameEvent> existing = gameEventRepository.findByGameIdAndClientIdIn(dto.getGameId(), List.of(dto.getClientId()));
+            if (!existing.isEmpty()) {
+                return toResponse(existing.get(0));
+            }
+        }
+        GameEvent event = toEntity(dto);
+        // Taken first: it locks the game row, so concurrent scoring on this game queues here
+        event.setSeq(gameEventSequence.next(dto.getGameId()));
 
         // Auto-set game status to in_progress when events are added and update score
         gameRepository.findById(dto.getGameId()).ifPresent(game -> {
@@ -78,18 +131,136 @@ public class GameEventService {
 
             if (updated) {
                 gameRepository.save(game);
+                liveScoreHub.gameChanged(game);
             }
+            evictSeasonCaches(game);
         });
 
-        return toResponse(gameEventRepository.save(event));
+        GameEvent saved = gameEventRepository.save(event);
+        if ("goal".equalsIgnoreCase(saved.getEventType())) {
+            TransactionCallbacks.afterCommit(() -> rulesContexts.goalAdded(saved.getGameId(), saved.getPlayerId()));
+        }
+        if ("penalty".equalsIgnoreCase(saved.getEventType())) {
+            penaltyIndex.penaltyAdded(saved);
+        }
+        return toResponse(saved);
+    }
+
+    /**
+     * Applies events a scorekeeper recorded offline, in the order given, as one transaction: the
+     * game is locked once, every new event is numbered from one reserved block of the game's event
+     * sequence, and the score and status are saved once for the whole batch rather than per goal.
+     *
+     * <p>Each event must carry a {@code clientId}. One the game already has -- the batch was sent
+     * before and the response was lost -- is skipped and reported as {@code duplicate}, so the
+     * client can resend a whole queue without double-counting; so is a repeat within the batch.
+     *
+     * @throws IllegalArgumentException if an event has no client id or names another game
+     * @throws java.util.NoSuchElementException if the game does not exist
+     */
+    public GameEventDto.BatchResult syncEvents(Long gameId, List<GameEventDto.Create> dtos) {
+        return optimisticRetry.run("syncEvents", () -> syncEventsOnce(gameId, dtos));
+    }
+
+    private GameEventDto.BatchResult syncEventsOnce(Long gameId, List<GameEventDto.Create> dtos) {
+        for (GameEventDto.Create dto : dtos) {
+            if (dto.getClientId() == null || dto.getClientId().isBlank()) {
+                throw new IllegalArgumentException("Every event in a batch needs a clientId");
+            }
+            if (dto.getGameId() != null && !dto.getGameId().equals(gameId)) {
+                throw new IllegalArgumentException("Event " + dto.getClientId() + " is for game " + dto.getGameId());
+            }
+            dto.setGameId(gameId);
+        }
+
+        // Lock the game before looking for duplicates: two uploads of the same queue then run one
+        // after the other, and the second finds everything the first wrote
+        gameEventSequence.reserve(gameId, 0);
+        com.obhl.game.model.Game game = gameRepository.findById(gameId)
+                .orElseThrow(() -> new java.util.NoSuchElementException("Game not found: " + gameId));
+
+        java.util.Map<String, GameEvent> byClientId = new java.util.HashMap<>();
+        gameEventRepository.findByGameIdAndClientIdIn(gameId,
+                dtos.stream().map(GameEventDto.Create::getClientId).collect(Collectors.toSet()))
+                .forEach(existing -> byClientId.put(existing.getClientId(), existing));
+
+        List<GameEvent> fresh = new java.util.ArrayList<>();
+        for (GameEventDto.Create dto : dtos) {
+            byClientId.computeIfAbsent(dto.getClientId(), clientId -> {
+                GameEvent event = toEntity(dto);
+                fresh.add(event);
+                return event;
+            });
+        }
+        long version = gameEventSequence.reserve(gameId, fresh.size());
+        long seq = version - fresh.size();
+        for (GameEvent event : fresh) {
+            event.setSeq(++seq);
+        }
+        gameEventRepository.saveAll(fresh);
+
+        int homeGoals = 0;
+        int awayGoals = 0;
+        for (GameEvent event : fresh) {
+            if ("goal".equalsIgnoreCase(event.getEventType())) {
+                if (event.getTeamId().equals(game.getHomeTeamId())) {
+                    homeGoals++;
+                } else if (event.getTeamId().equals(game.getAwayTeamId())) {
+                    awayGoals++;
+                }
+            } else if ("penalty".equalsIgnoreCase(event.getEventType())) {
+                penaltyIndex.penaltyAdded(event);
+            }
+        }
+        if (!fresh.isEmpty()) {
+            // Same bookkeeping as createEvent, once for the batch
+            if (!"completed".equals(game.getStatus())) {
+                game.setStatus("in_progress");
+            }
+            if (homeGoals > 0) {
+                game.setHomeScore((game.getHomeScore() == null ? 0 : game.getHomeScore()) + homeGoals);
+            }
+            if (awayGoals > 0) {
+                game.setAwayScore((game.getAwayScore() == null ? 0 : game.getAwayScore()) + awayGoals);
+            }
+            gameRepository.save(game);
+            liveScoreHub.gameChanged(game);
+            evictSeasonCaches(game);
+        }
+        if (fresh.stream().anyMatch(e -> "goal".equalsIgnoreCase(e.getEventType()))) {
+            TransactionCallbacks.afterCommit(() -> rulesContexts.goalsChanged(gameId));
+        }
+
+        java.util.Set<GameEvent> unreported = java.util.Collections.newSetFromMap(new java.util.IdentityHashMap<>());
+        unreported.addAll(fresh);
+        List<GameEventDto.BatchItem> results = dtos.stream()
+                .map(dto -> {
+                    GameEvent event = byClientId.get(dto.getClientId());
+                    return new GameEventDto.BatchItem(dto.getClientId(), event.getId(),
+                            unreported.remove(event) ? "created" : "duplicate");
+                })
+                .collect(Collectors.toList());
+        return new GameEventDto.BatchResult(gameId, version, game.getHomeScore(), game.getAwayScore(), results);
     }
 
-    @Transactional
+    /**
+     * Edits an event, replacing what the client saw -- so the event must still be at the client's
+     * {@code dto.version}, or the edit fails with {@link OptimisticRetry.StaleWrite}. A goal moved
+     * to the other team moves a goal on the score; that part is relative, and when only the game
+     * row lost a race it is retried and worked out again from the score as it is then.
+     */
     public GameEventDto.Response updateEvent(Long id, GameEventDto.Update dto) {
+        return optimisticRetry.run("updateEvent", () -> updateEventOnce(id, dto));
+    }
+
+    private GameEventDto.Response updateEventOnce(Long id, GameEventDto.Update dto) {
         GameEvent event = gameEventRepository.findById(id)
                 .orElseThrow(() -> new java.util.NoSuchElementException("Game event not found: " + id));
+        OptimisticRetry.expectVersion(GameEvent.class, id, dto.getVersion(), event.getVersion());
 
         Long oldTeamId = event.getTeamId();
+        Long oldPlayerId = event.getPlayerId();
+        event.setSeq(gameEventSequence.next(event.getGameId()));
 
         event.setTeamId(dto.getTeamId());
         event.setPlayerId(dto.getPlayerId());
@@ -119,18 +290,40 @@ public class GameEventService {
                 }
 
                 gameRepository.save(game);
+                liveScoreHub.gameChanged(game);
             });
         }
+        gameRepository.findById(saved.getGameId()).ifPresent(this::evictSeasonCaches);
+        if ("goal".equalsIgnoreCase(saved.getEventType())) {
+            // The scorer may have changed; recount rather than patch
+            TransactionCallbacks.afterCommit(() -> rulesContexts.goalsChanged(saved.getGameId()));
+        }
+        // A penalty moved to another player (or team) comes off the old one's count first
+        if ("penalty".equalsIgnoreCase(saved.getEventType())
+                && !(java.util.Objects.equals(oldPlayerId, saved.getPlayerId())
+                        && java.util.Objects.equals(oldTeamId, saved.getTeamId()))) {
+            GameEvent previous = new GameEvent();
+            previous.setGameId(saved.getGameId());
+            previous.setPlayerId(oldPlayerId);
+            previous.setTeamId(oldTeamId);
+            penaltyIndex.penaltyRemoved(previous);
+            penaltyIndex.penaltyAdded(saved);
+        }
 
         return toResponse(saved);
     }
 
-    @Transactional
     public void deleteEvent(Long id) {
+        optimisticRetry.run("deleteEvent", () -> deleteEventOnce(id));
+    }
+
+    private void deleteEventOnce(Long id) {
         GameEvent event = gameEventRepository.findById(id)
                 .orElseThrow(() -> new java.util.NoSuchElementException("Game event not found: " + id));
 
         gameEventRepository.deleteById(id);
+        gameEventTombstoneRepository.save(new GameEventTombstone(
+                id, event.getGameId(), gameEventSequence.next(event.getGameId()), null));
 
         // Mirror createEvent's score bookkeeping so the game score stays consistent after a goal is removed
         if ("goal".equalsIgnoreCase(event.getEventType())) {
@@ -142,8 +335,46 @@ public class GameEventService {
                     game.setAwayScore(game.getAwayScore() - 1);
                     gameRepository.save(game);
                 }
+                liveScoreHub.gameChanged(game);
             });
         }
+        gameRepository.findById(event.getGameId()).ifPresent(this::evictSeasonCaches);
+        if ("goal".equalsIgnoreCase(event.getEventType())) {
+            TransactionCallbacks.afterCommit(() -> rulesContexts.goalsChanged(event.getGameId()));
+        }
+        if ("penalty".equalsIgnoreCase(event.getEventType())) {
+            penaltyIndex.penaltyRemoved(event);
+        }
+    }
+
+    /**
+     * Events move the game's score on the season schedule and feed the tournament standings
+     * tallies, so every event write drops both of the season's cached views (after commit). An
+     * edit to a completed game also drops its frozen box score, which no longer matches.
+     */
+    private void evictSeasonCaches(com.obhl.game.model.Game game) {
+        seasonScheduleCache.evict(game.getSeasonId());
+        tournamentStandingsService.evict(game.getSeasonId());
+        if ("completed".equals(game.getStatus())) {
+            boxScoreService.discard(game.getId());
+        }
+    }
+
+    private GameEvent toEntity(GameEventDto.Create dto) {
+        GameEvent event = new GameEvent();
+        event.setGameId(dto.getGameId());
+        event.setTeamId(dto.getTeamId());
+        event.setPlayerId(dto.getPlayerId());
+        event.setEventType(dto.getEventType());
+        event.setPeriod(dto.getPeriod());
+        event.setTimeMinutes(dto.getTimeMinutes());
+        event.setTimeSeconds(dto.getTimeSeconds());
+        event.setDescription(dto.getDescription());
+        event.setAssist1PlayerId(dto.getAssist1PlayerId());
+        event.setAssist2PlayerId(dto.getAssist2PlayerId());
+        event.setPenaltyMinutes(dto.getPenaltyMinutes());
+        event.setClientId(dto.getClientId());
+        return event;
     }
 
     private GameEventDto.Response toResponse(GameEvent event) {
@@ -160,6 +391,9 @@ public class GameEventService {
         dto.setAssist1PlayerId(event.getAssist1PlayerId());
         dto.setAssist2PlayerId(event.getAssist2PlayerId());
         dto.setPenaltyMinutes(event.getPenaltyMinutes());
+        dto.setClientId(event.getClientId());
+        dto.setVersion(event.getVersion());
+        dto.setSeq(event.getSeq());
         dto.setCreatedAt(event.getCreatedAt());
         return dto;
     }
@@ -0,0 +1,219 @@
+package com.obhl.game.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.obhl.game.model.Game;
+import com.obhl.game.model.GameEvent;
+import com.obhl.game.repository.GameEventRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-game state the live-scoring rules read on every goal: both rosters' skill ratings and each
+ * player's goals so far.
+ *
+ * <p>Loaded once per game -- when the game is started, or on the first goal validation if it
+ * wasn't -- with one stats-service call per team and one query for the game's goals. After that
+ * {@link GoalLimitValidator} is an in-memory lookup. Goal counts are kept current by
+ * GameEventService: an added goal increments them after commit, an edited or deleted goal drops
+ * them to be recounted on the next validation.
+ *
+ * <p>A player missing from the roster snapshot (added mid-game) is fetched on their own and
+ * remembered. A failed fetch is not remembered, so the next goal retries it. Contexts expire 30
+ * minutes after loading, which bounds how stale a rating edited mid-game can get.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GameRulesContextCache {
+
+    /** Used when stats-service cannot say; matches the validator's long-standing default. */
+    static final int DEFAULT_SKILL_RATING = 5;
+
+    private final GameEventRepository gameEventRepository;
+    private final RestTemplate restTemplate;
+
+    private final Cache<Long, GameRulesContext> contexts = Caffeine.newBuilder()
+            .maximumSize(256)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .build();
+
+    @Value("${stats.service.url}")
+    private String statsServiceUrl;
+
+    // skillRating is masked for anyone but staff or an internal service call
+    @Value("${internal.service.key:obhl-internal-service-key-change-in-production}")
+    private String internalServiceKey;
+
+    /** The game's context, loading the rosters on first use. */
+    public GameRulesContext forGame(Game game) {
+        return contexts.get(game.getId(), id -> loadRosters(game));
+    }
+
+    /** Warms the context ahead of the first goal. Never throws: scoring must not depend on it. */
+    public void preload(Game game) {
+        try {
+            forGame(game);
+        } catch (RuntimeException e) {
+            log.warn("Could not preload rules context for game {}: {}", game.getId(), e.getMessage());
+        }
+    }
+
+    /** A goal was recorded for {@code playerId}. Call after commit. */
+    public void goalAdded(Long gameId, Long playerId) {
+        GameRulesContext context = contexts.getIfPresent(gameId);
+        if (context != null) {
+            context.goalAdded(playerId);
+        }
+    }
+
+    /** A goal was edited or removed; recount on next use. Call after commit. */
+    public void goalsChanged(Long gameId) {
+        GameRulesContext context = contexts.getIfPresent(gameId);
+        if (context != null) {
+            context.invalidateGoals();
+        }
+    }
+
+    /** Skill rating for a player, from the roster snapshot or a one-off fetch. */
+    int skillRating(GameRulesContext context, Long playerId) {
+        Integer known = context.skillRatings.get(playerId);
+        if (known != null) {
+            return known;
+        }
+        Integer fetched = fetchSkillRating(playerId);
+        if (fetched == null) {
+            return DEFAULT_SKILL_RATING;
+        }
+        context.skillRatings.put(playerId, fetched);
+        return fetched;
+    }
+
+    /** Goals {@code playerId} has scored in the context's game, recounting from the database if needed. */
+    int goals(GameRulesContext context, Long playerId) {
+        Integer known = context.goalsFor(playerId);
+        if (known != null) {
+            return known;
+        }
+        long generation = context.generation();
+        Map<Long, Integer> counted = new HashMap<>();
+        for (GameEvent goal : gameEventRepository.findByGameIdAndEventType(context.gameId, "goal")) {
+            if (goal.getPlayerId() != null) {
+                counted.merge(goal.getPlayerId(), 1, Integer::sum);
+            }
+        }
+        context.installGoals(counted, generation);
+        return counted.getOrDefault(playerId, 0);
+    }
+
+    private GameRulesContext loadRosters(Game game) {
+        GameRulesContext context = new GameRulesContext(game.getId());
+        for (Long teamId : new Long[] { game.getHomeTeamId(), game.getAwayTeamId() }) {
+            if (teamId == null) {
+                continue;
+            }
+            try {
+                String url = statsServiceUrl + "/players?seasonId=" + game.getSeasonId() + "&teamId=" + teamId;
+                List<Map<String, Object>> roster = restTemplate.exchange(url, HttpMethod.GET,
+                        new HttpEntity<>(internalHeaders()),
+                        new ParameterizedTypeReference<List<Map<String, Object>>>() {
+                        }).getBody();
+                if (roster != null) {
+                    for (Map<String, Object> player : roster) {
+                        Integer rating = ratingOf(player);
+                        if (player.get("id") instanceof Number id && rating != null) {
+                            context.skillRatings.put(id.longValue(), rating);
+                        }
+                    }
+                }
+            } catch (RestClientException e) {
+                // Not fatal: players missing from the snapshot are fetched one at a time
+                log.warn("Could not load roster for team {} (game {}): {}", teamId, game.getId(), e.getMessage());
+            }
+        }
+        log.debug("Loaded rules context for game {}: {} rated players", game.getId(), context.skillRatings.size());
+        return context;
+    }
+
+    private Integer fetchSkillRating(Long playerId) {
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> player = restTemplate.exchange(statsServiceUrl + "/players/" + playerId,
+                    HttpMethod.GET, new HttpEntity<>(internalHeaders()), Map.class).getBody();
+            return player != null ? ratingOf(player) : null;
+        } catch (RestClientException e) {
+            log.warn("Could not fetch player details for ID {}: {}", playerId, e.getMessage());
+            return null;
+        }
+    }
+
+    private HttpHeaders internalHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Internal-Service-Key", internalServiceKey);
+        return headers;
+    }
+
+    private static Integer ratingOf(Map<String, Object> player) {
+        return player.get("skillRating") instanceof Number n ? n.intValue() : null;
+    }
+
+    /**
+     * One game's rosters and goal tallies. Goal counts are swapped under the object's lock with a
+     * generation check, so a recount that raced a goal being added is thrown away rather than
+     * installed one short.
+     */
+    public static final class GameRulesContext {
+
+        private final Long gameId;
+        private final Map<Long, Integer> skillRatings = new ConcurrentHashMap<>();
+        private Map<Long, Integer> goals;
+        private long generation;
+
+        GameRulesContext(Long gameId) {
+            this.gameId = gameId;
+        }
+
+        /** Null until the game's goals have been counted. */
+        private synchronized Integer goalsFor(Long playerId) {
+            return goals == null ? null : goals.getOrDefault(playerId, 0);
+        }
+
+        private synchronized long generation() {
+            return generation;
+        }
+
+        private synchronized void installGoals(Map<Long, Integer> counted, long countedAt) {
+            if (generation == countedAt) {
+                goals = counted;
+            }
+        }
+
+        private synchronized void goalAdded(Long playerId) {
+            generation++;
+            if (goals != null && playerId != null) {
+                goals.merge(playerId, 1, Integer::sum);
+            }
+        }
+
+        private synchronized void invalidateGoals() {
+            generation++;
+            goals = null;
+        }
+    }
+}
@@ -22,10 +22,16 @@ import lombok.extern.slf4j.Slf4j;
 public class GameService {
 
     private final GameRepository gameRepository;
+    private final com.obhl.game.repository.GameBatchWriter gameBatchWriter;
     private final com.obhl.game.service.scoring.GamePointsPolicyResolver pointsPolicyResolver;
     private final com.obhl.game.service.schedule.TournamentBracketService tournamentBracketService;
-    private final TeamStatsUpdater teamStatsUpdater;
-    private final PlayerStatsAggregator playerStatsAggregator;
+    private final com.obhl.game.service.scoring.TournamentStandingsService tournamentStandingsService;
+    private final com.obhl.game.service.outbox.OutboxService outboxService;
+    private final com.obhl.game.service.boxscore.BoxScoreService boxScoreService;
+    private final SeasonScheduleCache seasonScheduleCache;
+    private final GameRulesContextCache rulesContexts;
+    private final PenaltyIndex penaltyIndex;
+    private final com.obhl.game.service.live.LiveScoreHub liveScoreHub;
 
     @Transactional(readOnly = true)
     public List<GameDto.Response> getAllGames() {
@@ -35,12 +41,72 @@ public class GameService {
                 .collect(Collectors.toList());
     }
 
+    /** Served from {@link SeasonScheduleCache}; the returned list is shared, so don't modify it. */
     @Transactional(readOnly = true)
     public List<GameDto.Response> getGamesBySeason(Long seasonId) {
-        return gameRepository.findBySeasonIdOrderByGameDate(seasonId)
+        return seasonScheduleCache.get(seasonId, id -> gameRepository.findScheduleRowsBySeasonIdOrderByGameDate(id)
                 .stream()
                 .map(this::toResponse)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+    }
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
+    /**
+     * A keyset page of games ordered by (gameDate, id). Every filter is optional and applied in
+     * SQL; {@code cursor} is the previous page's {@code nextCursor}, or null for the first page.
+     * Unlike {@link #getAllGames} this never loads more than one page, however much history there
+     * is.
+     *
+     * @throws IllegalArgumentException for a malformed cursor
+     */
+    @Transactional(readOnly = true)
+    public GameDto.Page getGamesPage(Long seasonId, Long teamId, String status, String gameType,
+            Integer week, String cursor, Integer limit) {
+        int size = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        java.time.LocalDateTime afterDate = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            afterDate = java.time.LocalDateTime.parse(parts[0]);
+            afterId = Long.parseLong(parts[1]);
+        }
+
+        // One extra row tells us whether there is a next page without a count query
+        List<Game> rows = gameRepository.findPage(seasonId, teamId, status, gameType, week,
+                afterDate, afterId, org.springframework.data.domain.PageRequest.of(0, size + 1));
+        boolean more = rows.size() > size;
+        List<Game> page = more ? rows.subList(0, size) : rows;
+
+        String next = null;
+        if (more) {
+            Game last = page.get(page.size() - 1);
+            next = encodeCursor(last.getGameDate(), last.getId());
+        }
+        return new GameDto.Page(page.stream().map(this::toResponse).collect(Collectors.toList()), next);
+    }
+
+    private static String encodeCursor(java.time.LocalDateTime gameDate, Long id) {
+        String raw = gameDate + "|" + id;
+        return java.util.Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(java.util.Base64.getUrlDecoder().decode(cursor),
+                    java.nio.charset.StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            java.time.LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
     }
 
     @Transactional(readOnly = true)
@@ -74,6 +140,28 @@ public class GameService {
 
     @Transactional
     public GameDto.Response createGame(GameDto.Create dto) {
+        Game game = toEntity(dto);
+
+        evictSeasonCaches(game.getSeasonId());
+        penaltyIndex.scheduleChanged();
+        return toResponse(gameRepository.save(game));
+    }
+
+    /**
+     * Creates all of {@code dtos} in one transaction, as JDBC batches through
+     * {@link com.obhl.game.repository.GameBatchWriter} -- the schedule manager's save, which used to
+     * be one request per game. Returns the games in request order.
+     */
+    @Transactional
+    public List<GameDto.Response> createGames(List<GameDto.Create> dtos) {
+        List<Game> games = gameBatchWriter.insertAll(dtos.stream().map(this::toEntity).collect(Collectors.toList()));
+
+        games.stream().map(Game::getSeasonId).distinct().forEach(this::evictSeasonCaches);
+        penaltyIndex.scheduleChanged();
+        return games.stream().map(this::toResponse).collect(Collectors.toList());
+    }
+
+    private Game toEntity(GameDto.Create dto) {
         Game game = new Game();
         game.setSeasonId(dto.getSeasonId());
         game.setLeagueId(dto.getLeagueId());
@@ -99,14 +187,16 @@ public class GameService {
         game.setReferee1Id(dto.getReferee1Id());
         game.setReferee2Id(dto.getReferee2Id());
         game.setScorekeeperId(dto.getScorekeeperId());
-
-        return toResponse(gameRepository.save(game));
+        return game;
     }
 
     @Transactional
     public GameDto.Response updateGame(Long id, GameDto.Update dto) {
         Game game = gameRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Game not found"));
+        OptimisticRetry.expectVersion(Game.class, id, dto.getVersion(), game.getVersion());
+        // A game moved between seasons leaves both seasons' cached views stale
+        evictSeasonCaches(game.getSeasonId());
 
         if (dto.getSeasonId() != null)
             game.setSeasonId(dto.getSeasonId());
@@ -155,11 +245,22 @@ public class GameService {
         if (dto.getScorekeeperId() != null)
             game.setScorekeeperId(dto.getScorekeeperId() == -1 ? null : dto.getScorekeeperId());
 
+        if (dto.getSeasonId() != null)
+            evictSeasonCaches(dto.getSeasonId());
+        // Which game came before which, per team, decides the two-game suspension rule
+        if (dto.getSeasonId() != null || dto.getGameDate() != null
+                || dto.getHomeTeamId() != null || dto.getAwayTeamId() != null)
+            penaltyIndex.scheduleChanged();
+        if (dto.getStatus() != null || dto.getHomeScore() != null || dto.getAwayScore() != null
+                || dto.getPeriod() != null)
+            liveScoreHub.gameChanged(game);
         return toResponse(gameRepository.save(game));
     }
 
     @Transactional
     public void deleteGame(Long id) {
+        gameRepository.findById(id).ifPresent(game -> evictSeasonCaches(game.getSeasonId()));
+        penaltyIndex.scheduleChanged();
         gameRepository.deleteById(id);
     }
 
@@ -167,6 +268,7 @@ public class GameService {
     public GameDto.Response updateGameScore(Long id, GameDto.ScoreUpdate scoreUpdate) {
         Game game = gameRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Game not found"));
+        OptimisticRetry.expectVersion(Game.class, id, scoreUpdate.getVersion(), game.getVersion());
 
         game.setHomeScore(scoreUpdate.getHomeScore());
         game.setAwayScore(scoreUpdate.getAwayScore());
@@ -179,6 +281,8 @@ public class GameService {
             game.setStatus("in_progress");
         }
 
+        evictSeasonCaches(game.getSeasonId());
+        liveScoreHub.gameChanged(game);
         return toResponse(gameRepository.save(game));
     }
 
@@ -192,8 +296,14 @@ public class GameService {
         if ("scheduled".equals(game.getStatus())) {
             game.setStatus("in_progress");
             game = gameRepository.save(game);
+            evictSeasonCaches(game.getSeasonId());
+            liveScoreHub.gameChanged(game);
         }
 
+        // Load both rosters' skill ratings now, so the first goal of the game validates from memory
+        Game started = game;
+        TransactionCallbacks.afterCommit(() -> rulesContexts.preload(started));
+
         return toResponse(game);
     }
 
@@ -201,6 +311,7 @@ public class GameService {
     public GameDto.Response finalizeGame(Long id, GameDto.FinalizeRequest finalizeRequest) {
         Game game = gameRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Game not found"));
+        OptimisticRetry.expectVersion(Game.class, id, finalizeRequest.getVersion(), game.getVersion());
 
         Long forfeitTeamId = finalizeRequest.getForfeitTeamId();
         if (forfeitTeamId != null && !forfeitTeamId.equals(game.getHomeTeamId())
@@ -229,13 +340,14 @@ public class GameService {
         // Save game first
         Game savedGame = gameRepository.save(game);
 
-        // Update team standings (skips PLAYOFF games automatically)
-        teamStatsUpdater.updateTeamStats(savedGame);
-
-        // Aggregate and update player stats — skipped for forfeits since the game wasn't actually played
-        if (forfeitTeamId == null) {
-            playerStatsAggregator.aggregateAndUpdateStats(savedGame);
-        }
+        // Team standings (regular season only) and player stats are queued in this transaction and
+        // delivered by the outbox dispatcher after commit, so finalizing never waits on api-gateway or
+        // stats-service. Player stats are skipped for forfeits since the game wasn't actually played.
+        outboxService.enqueueFinalized(savedGame, forfeitTeamId == null);
+        // Freeze the box score from the same events, so a completed game's recap is one row
+        boxScoreService.freeze(savedGame);
+        evictSeasonCaches(savedGame.getSeasonId());
+        liveScoreHub.gameChanged(savedGame);
 
         // Auto-advance the playoff bracket if this was a playoff game
         if ("PLAYOFF".equals(savedGame.getGameType())) {
@@ -261,11 +373,10 @@ public class GameService {
             throw new RuntimeException("Game is not completed");
         }
 
-        // Revert stats first using the OLD completed values
-        teamStatsUpdater.revertTeamStats(game);
-        if (game.getForfeitTeamId() == null) {
-            playerStatsAggregator.revertPlayerStats(game);
-        }
+        // Queue the stats reversion first, computed from the OLD completed values
+        outboxService.enqueueUnfinalized(game, game.getForfeitTeamId() == null);
+        boxScoreService.discard(game.getId());
+        evictSeasonCaches(game.getSeasonId());
 
         // Reset points and status
         game.setHomeTeamPoints(0);
@@ -275,6 +386,7 @@ public class GameService {
         // show as live on the public schedule until someone actively resumes scoring it
         // (adding/editing an event or saving a score sets it back to in_progress then).
         game.setStatus("scheduled");
+        liveScoreHub.gameChanged(game);
 
         return toResponse(gameRepository.save(game));
     }
@@ -290,10 +402,21 @@ public class GameService {
 
         // Leave scores/events as is, so they can be edited or left alone
         game.setStatus("scheduled");
+        evictSeasonCaches(game.getSeasonId());
+        liveScoreHub.gameChanged(game);
 
         return toResponse(gameRepository.save(game));
     }
 
+    /**
+     * Season-scoped read caches that a write to one of the season's games can invalidate. Eviction
+     * is deferred to after commit.
+     */
+    private void evictSeasonCaches(Long seasonId) {
+        seasonScheduleCache.evict(seasonId);
+        tournamentStandingsService.evict(seasonId);
+    }
+
     private GameDto.Response toResponse(Game game) {
         GameDto.Response dto = new GameDto.Response();
         dto.setId(game.getId());
@@ -329,6 +452,69 @@ public class GameService {
         dto.setScorekeeperId(game.getScorekeeperId());
         dto.setCreatedAt(game.getCreatedAt());
         dto.setUpdatedAt(game.getUpdatedAt());
+        dto.setVersion(game.getVersion());
+        return dto;
+    }
+
+    /** Schedule rows carry every field the schedule views read; notes and createdAt stay null. */
+    private GameDto.Response toResponse(com.obhl.game.repository.GameScheduleRow row) {
+        GameDto.Response dto = new GameDto.Response();
+        dto.setId(row.getId());
+        dto.setSeasonId(row.getSeasonId());
+        dto.setLeagueId(row.getLeagueId());
+        dto.setHomeTeamId(row.getHomeTeamId());
+        dto.setAwayTeamId(row.getAwayTeamId());
+        dto.setGameDate(row.getGameDate());
+        dto.setVenue(row.getVenue());
+        dto.setStatus(row.getStatus());
+        dto.setHomeScore(row.getHomeScore());
+        dto.setAwayScore(row.getAwayScore());
+        dto.setOvertime(row.getOvertime());
+        dto.setShootout(row.getShootout());
+        dto.setPeriod(row.getPeriod());
+        dto.setEndedInOT(row.getEndedInOT());
+        dto.setForfeitTeamId(row.getForfeitTeamId());
+        dto.setHomeTeamPoints(row.getHomeTeamPoints());
+        dto.setAwayTeamPoints(row.getAwayTeamPoints());
+        dto.setWeek(row.getWeek());
+        dto.setRink(row.getRink());
+        dto.setGameType(row.getGameType());
+        dto.setPlayoffRound(row.getPlayoffRound());
+        dto.setTournamentStage(row.getTournamentStage());
+        dto.setPeriodCount(row.getPeriodCount());
+        dto.setPeriodMinutes(row.getPeriodMinutes());
+        dto.setBracketPosition(row.getBracketPosition());
+        dto.setGoalie1Id(row.getGoalie1Id());
+        dto.setGoalie2Id(row.getGoalie2Id());
+        dto.setReferee1Id(row.getReferee1Id());
+        dto.setReferee2Id(row.getReferee2Id());
+        dto.setScorekeeperId(row.getScorekeeperId());
+        dto.setUpdatedAt(row.getUpdatedAt());
+        dto.setVersion(row.getVersion());
+        return dto;
+    }
+
+    /**
+     * Staff rows fill only what api-gateway's shift services read (when, who, status, staffing);
+     * the response shape is unchanged, the other fields are null.
+     */
+    private GameDto.Response toResponse(com.obhl.game.repository.GameStaffRow row) {
+        GameDto.Response dto = new GameDto.Response();
+        dto.setId(row.getId());
+        dto.setSeasonId(row.getSeasonId());
+        dto.setHomeTeamId(row.getHomeTeamId());
+        dto.setAwayTeamId(row.getAwayTeamId());
+        dto.setGameDate(row.getGameDate());
+        dto.setStatus(row.getStatus());
+        dto.setWeek(row.getWeek());
+        dto.setRink(row.getRink());
+        dto.setGameType(row.getGameType());
+        dto.setGoalie1Id(row.getGoalie1Id());
+        dto.setGoalie2Id(row.getGoalie2Id());
+        dto.setReferee1Id(row.getReferee1Id());
+        dto.setReferee2Id(row.getReferee2Id());
+        dto.setScorekeeperId(row.getScorekeeperId());
+        dto.setVersion(row.getVersion());
         return dto;
     }
 
@@ -422,6 +608,7 @@ public class GameService {
             }
         }
 
+        evictSeasonCaches(seasonId);
         log.info("Seeded playoff bracket for season {}: {} bracket teams, {} first-round games",
                 seasonId, bracketTeams, roundGames);
         return updated.stream().map(this::toResponse).collect(Collectors.toList());
@@ -439,6 +626,7 @@ public class GameService {
         if (!"PLAYOFF".equals(g.getGameType())) {
             throw new RuntimeException("Only playoff-week games can be designated");
         }
+        evictSeasonCaches(g.getSeasonId());
         if (round == null || round.isBlank()) {
             // Demoting a bracket slot to consolation would leave the round a game short, so hand
             // its role to a consolation slot in the same week instead. The round always keeps
@@ -566,6 +754,7 @@ public class GameService {
                         nextGame.setAwayTeamId(winnerId);
                     }
                     gameRepository.save(nextGame);
+                    evictSeasonCaches(nextGame.getSeasonId());
                     log.info("Advanced bracket: {} winner {} → {} pos {} slot {}",
                             currentRound, winnerId, nextRound, nextPos,
                             isHomeSlot ? "home" : "away");
@@ -574,24 +763,16 @@ public class GameService {
 
     @Transactional(readOnly = true)
     public List<com.obhl.game.dto.GameDayDTO> getGameDaysBySeason(Long seasonId) {
-        java.time.ZoneId utcZone = java.time.ZoneId.of("UTC");
-        java.time.ZoneId centralZone = java.time.ZoneId.of("America/Chicago");
-
-        java.util.Map<java.time.LocalDate, Long> gamesPerDay = gameRepository.findBySeasonIdOrderByGameDate(seasonId)
-                .stream()
-                .collect(Collectors.groupingBy(
-                        game -> game.getGameDate().atZone(utcZone).withZoneSameInstant(centralZone).toLocalDate(),
-                        Collectors.counting()));
-
-        return gamesPerDay.entrySet().stream()
-                .map(entry -> new com.obhl.game.dto.GameDayDTO(entry.getKey(), entry.getValue().intValue()))
-                .sorted(java.util.Comparator.comparing(com.obhl.game.dto.GameDayDTO::getDate))
-                .collect(Collectors.toList());
+        // Grouped and converted to league-local dates by the database; cached per season and
+        // dropped with the schedule on every game write
+        return seasonScheduleCache.getGameDays(seasonId, id -> gameRepository.countGamesPerDay(id).stream()
+                .map(day -> new com.obhl.game.dto.GameDayDTO(day.getDate(), day.getGamesCount().intValue()))
+                .collect(Collectors.toList()));
     }
 
     @Transactional(readOnly = true)
     public List<GameDto.Response> getGoalieAssignments(Long userId) {
-        return gameRepository.findByGoalie1IdOrGoalie2Id(userId, userId)
+        return gameRepository.findStaffRowsByGoalie1IdOrGoalie2IdOrderByGameDate(userId, userId)
                 .stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
@@ -599,7 +780,7 @@ public class GameService {
 
     @Transactional(readOnly = true)
     public List<GameDto.Response> getRefereeAssignments(Long userId) {
-        return gameRepository.findByReferee1IdOrReferee2Id(userId, userId)
+        return gameRepository.findStaffRowsByReferee1IdOrReferee2IdOrderByGameDate(userId, userId)
                 .stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
@@ -607,7 +788,7 @@ public class GameService {
 
     @Transactional(readOnly = true)
     public List<GameDto.Response> getScorekeeperAssignments(Long userId) {
-        return gameRepository.findByScorekeeperId(userId)
+        return gameRepository.findStaffRowsByScorekeeperIdOrderByGameDate(userId)
                 .stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
@@ -615,18 +796,16 @@ public class GameService {
 
     @Transactional(readOnly = true)
     public List<GameDto.Response> getAvailableRefereeGames(Long seasonId) {
-        return gameRepository.findBySeasonIdOrderByGameDate(seasonId)
+        return gameRepository.findStaffRowsNeedingReferee(seasonId)
                 .stream()
-                .filter(game -> game.getReferee1Id() == null || game.getReferee2Id() == null)
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<GameDto.Response> getAvailableScorekeeperGames(Long seasonId) {
-        return gameRepository.findBySeasonIdOrderByGameDate(seasonId)
+        return gameRepository.findStaffRowsBySeasonIdAndScorekeeperIdIsNullOrderByGameDate(seasonId)
                 .stream()
-                .filter(game -> game.getScorekeeperId() == null)
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
@@ -645,6 +824,7 @@ public class GameService {
         }
 
         gameRepository.save(game);
+        evictSeasonCaches(game.getSeasonId());
     }
 
     @Transactional
@@ -659,6 +839,7 @@ public class GameService {
         }
 
         gameRepository.save(game);
+        evictSeasonCaches(game.getSeasonId());
     }
 
     @Transactional
@@ -672,6 +853,7 @@ public class GameService {
 
         game.setScorekeeperId(userId);
         gameRepository.save(game);
+        evictSeasonCaches(game.getSeasonId());
     }
 
     @Transactional
@@ -684,5 +866,6 @@ public class GameService {
         }
 
         gameRepository.save(game);
+        evictSeasonCaches(game.getSeasonId());
     }
 }
@@ -1,22 +1,12 @@
 package com.obhl.game.service;
 
-import java.util.List;
-import java.util.Map;
-
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import com.obhl.game.dto.GoalValidationRequest;
 import com.obhl.game.dto.GoalValidationResponse;
 import com.obhl.game.model.Game;
-import com.obhl.game.model.GameEvent;
-import com.obhl.game.repository.GameEventRepository;
 import com.obhl.game.repository.GameRepository;
 
 @Service
@@ -25,21 +15,7 @@ import com.obhl.game.repository.GameRepository;
 public class GoalLimitValidator {
 
     private final GameRepository gameRepository;
-    private final GameEventRepository gameEventRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
-
-    // Was hardcoded to http://localhost:8003 — inside a Docker container that never
-    // reaches the stats-service container (each has its own "localhost"), silently
-    // failing every call (caught below, defaulting to skillRating=5). Use the same
-    // configured URL every other stats-service caller in this app uses.
-    @Value("${stats.service.url}")
-    private String statsServiceUrl;
-
-    // stats-service now masks skillRating unless the caller is staff or a trusted
-    // internal service call — this rule engine needs the real value to enforce the
-    // 2-goal limit, so it authenticates as an internal service.
-    @Value("${internal.service.key:obhl-internal-service-key-change-in-production}")
-    private String internalServiceKey;
+    private final GameRulesContextCache rulesContexts;
 
     /**
      * Validates if a player can score a goal based on:
@@ -53,15 +29,16 @@ public class GoalLimitValidator {
             Game game = gameRepository.findById(request.getGameId())
                     .orElseThrow(() -> new RuntimeException("Game not found"));
 
-            // Get player details (including skill rating)
-            Map<String, Object> player = getPlayerDetails(request.getPlayerId());
-            int skillRating = (Integer) player.getOrDefault("skillRating", 5);
+            // Skill rating and goals so far come from the game's rules context: loaded once per
+            // game, then kept in memory while the game is scored
+            GameRulesContextCache.GameRulesContext context = rulesContexts.forGame(game);
+            int skillRating = rulesContexts.skillRating(context, request.getPlayerId());
 
             // Determine goal limit based on skill rating
             int goalLimit = (skillRating >= 9) ? 2 : 3;
 
             // Count goals scored by this player in this game
-            int goalsScored = countPlayerGoalsInGame(request.getGameId(), request.getPlayerId());
+            int goalsScored = rulesContexts.goals(context, request.getPlayerId());
 
             // Check mercy rule
             boolean mercyRuleActive = isMercyRuleActive(game, request.getTeamId());
@@ -129,32 +106,4 @@ public class GoalLimitValidator {
 
         return isLosingTeam;
     }
-
-    /**
-     * Counts how many goals a player has scored in a specific game
-     */
-    private int countPlayerGoalsInGame(Long gameId, Long playerId) {
-        List<GameEvent> goals = gameEventRepository.findByGameIdAndEventType(gameId, "goal");
-        return (int) goals.stream()
-                .filter(event -> playerId.equals(event.getPlayerId()))
-                .count();
-    }
-
-    /**
-     * Fetches player details from Stats Service
-     */
-    private Map<String, Object> getPlayerDetails(Long playerId) {
-        try {
-            String url = statsServiceUrl + "/players/" + playerId;
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("X-Internal-Service-Key", internalServiceKey);
-            @SuppressWarnings("unchecked")
-            Map<String, Object> player = restTemplate.exchange(
-                    url, org.springframework.http.HttpMethod.GET, new HttpEntity<>(headers), Map.class).getBody();
-            return player != null ? player : Map.of("skillRating", 5);
-        } catch (RestClientException e) {
-            log.warn("Could not fetch player details for ID {}: {}", playerId, e.getMessage());
-            return Map.of("skillRating", 5);
-        }
-    }
 }
@@ -0,0 +1,130 @@
+package com.obhl.game.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs a game write in its own transaction and, when it loses an optimistic-locking race on
+ * {@code Game} or {@code GameEvent} (migration 066), runs it again from the top.
+ *
+ * <p>Only for writes that are relative to what they read -- a goal adds one to whatever the score
+ * now is, an event edit moves a goal from the team the event is on now. Re-running such a write
+ * against the fresh rows merges it with the one that won; nothing either device entered is lost.
+ * Absolute writes (a manual score, finalizing with given scores, an event edit) must not be retried
+ * blindly: the client sends the version it read, {@link #expectVersion} fails the write with a
+ * {@link StaleWrite} if that is no longer current, and the conflict goes back as a 409 recorded
+ * with {@link #rejected}.
+ *
+ * <p>Every conflict is counted as {@code game.write.conflicts}, tagged with the operation and
+ * {@code outcome=retried|rejected}. A steady trickle of retries on a game night is expected; a
+ * rising count of rejections means scorekeepers are seeing "someone else changed this game".
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptimisticRetry {
+
+    /** Attempts in all, including the first. Two devices on one game rarely collide twice running. */
+    static final int MAX_ATTEMPTS = 4;
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Runs {@code write} in a new transaction, retrying it on an optimistic-locking conflict.
+     * {@code write} must be safe to run more than once: everything it did in a failed attempt is
+     * rolled back, and after-commit callbacks of that attempt never fire.
+     *
+     * <p>Called inside an existing transaction it just runs {@code write} in it -- a conflict dooms
+     * the outer transaction, so only its owner could retry.
+     *
+     * @throws OptimisticLockingFailureException once {@value #MAX_ATTEMPTS} attempts have all conflicted
+     */
+    public <T> T run(String operation, Supplier<T> write) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return write.get();
+        }
+        for (int attempt = 1;; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> write.get());
+            } catch (StaleWrite e) {
+                // Re-running would find the same newer version; only the client can decide again
+                rejected(operation);
+                throw e;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    rejected(operation);
+                    log.warn("{} still conflicting after {} attempts: {}", operation, attempt, e.getMessage());
+                    throw e;
+                }
+                conflicts(operation, "retried").increment();
+                log.debug("{} conflicted (attempt {}), retrying: {}", operation, attempt, e.getMessage());
+                backOff(attempt);
+            }
+        }
+    }
+
+    /** Like {@link #run(String, Supplier)}, for a write with no result. */
+    public void run(String operation, Runnable write) {
+        run(operation, () -> {
+            write.run();
+            return null;
+        });
+    }
+
+    /**
+     * Fails an absolute write whose client read an older version than {@code current}. The save
+     * itself still checks the version, which catches a write that lands between this check and
+     * the commit.
+     *
+     * @throws StaleWrite if {@code expected} is not {@code current}
+     */
+    public static void expectVersion(Class<?> type, Object id, Long expected, Long current) {
+        if (!java.util.Objects.equals(expected, current)) {
+            throw new StaleWrite(type, id, expected, current);
+        }
+    }
+
+    /** Counts a conflict that went back to the client instead of being retried. */
+    public void rejected(String operation) {
+        conflicts(operation, "rejected").increment();
+    }
+
+    private Counter conflicts(String operation, String outcome) {
+        return Counter.builder("game.write.conflicts")
+                .description("Game and game event writes that lost an optimistic-locking race")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /** The client's copy is older than the row; {@link #run} never retries this. */
+    public static class StaleWrite extends ObjectOptimisticLockingFailureException {
+
+        StaleWrite(Class<?> type, Object id, Long expected, Long current) {
+            super(type, id, "Expected version " + expected + " of " + type.getSimpleName() + " " + id
+                    + " but it is at " + current, null);
+        }
+    }
+
+    /** A few jittered milliseconds, so two devices that collided don't collide again in step. */
+    private static void backOff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(5, 25) * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying a game write", e);
+        }
+    }
+}
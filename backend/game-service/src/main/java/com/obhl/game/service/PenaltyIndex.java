@@ -0,0 +1,227 @@
+package com.obhl.game.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.obhl.game.model.GameEvent;
+import com.obhl.game.model.PenaltyTracking;
+import com.obhl.game.model.PlayerSuspension;
+import com.obhl.game.repository.GameRepository;
+import com.obhl.game.repository.PenaltyTrackingRepository;
+import com.obhl.game.repository.PlayerSuspensionRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-player penalty counts and pending suspensions, maintained from penalty events.
+ *
+ * <p>Two tables back it: penalty_tracking (penalties per player per game) and
+ * player_suspension_index (one row per suspended player). GameEventService calls
+ * {@link #penaltyAdded} / {@link #penaltyRemoved} in the same transaction as the event write, so
+ * the counts can never disagree with the events the way they could when validation itself
+ * incremented them. Reads go through in-memory caches -- counts per (player, game), each team's
+ * previous game, and the suspended flag -- which writes evict after commit, so while penalties are
+ * being entered live a validation or suspension check is a map lookup.
+ *
+ * <p>The rules are unchanged: 3 penalties in a game is an ejection; 4 across this game and the
+ * team's previous game is an ejection plus a one-game suspension. The 3-penalty rule is checked
+ * first, as it always was, so a suspension is only ever triggered by the 1st or 2nd penalty of a
+ * game -- {@link #triggersSuspension} expresses that without replaying the sequence. Because the
+ * total spans two games, a change to one game's count also re-judges the player's next game.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PenaltyIndex {
+
+    static final int EJECTION_PENALTIES = 3;
+    static final int SUSPENSION_PENALTIES = 4;
+
+    private final PenaltyTrackingRepository penaltyTrackingRepository;
+    private final PlayerSuspensionRepository playerSuspensionRepository;
+    private final GameRepository gameRepository;
+
+    private record PlayerGame(Long playerId, Long gameId) {
+    }
+
+    private record TeamGame(Long gameId, Long teamId) {
+    }
+
+    private final Cache<PlayerGame, Integer> counts = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofHours(6))
+            .build();
+
+    /** Empty when the team has no earlier game this season. */
+    private final Cache<TeamGame, Optional<Long>> previousGames = Caffeine.newBuilder()
+            .maximumSize(2_000)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .build();
+
+    private final Cache<Long, Boolean> suspended = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofHours(6))
+            .build();
+
+    /** Penalties the player has in the game, as recorded by saved events. */
+    public int penaltyCount(Long playerId, Long gameId) {
+        if (!TransactionCallbacks.isCacheableRead()) {
+            return loadCount(new PlayerGame(playerId, gameId));
+        }
+        return counts.get(new PlayerGame(playerId, gameId), this::loadCount);
+    }
+
+    /** The team's game immediately before {@code gameId} in the same season, if any. */
+    public Optional<Long> previousGame(Long gameId, Long teamId) {
+        return previousGames.get(new TeamGame(gameId, teamId), key -> gameRepository.findById(key.gameId())
+                .map(game -> gameRepository.findPreviousGameIds(game.getSeasonId(), key.teamId(),
+                        game.getGameDate(), PageRequest.of(0, 1)))
+                .flatMap(ids -> ids.stream().findFirst()));
+    }
+
+    public boolean isSuspended(Long playerId) {
+        return suspended.get(playerId, playerSuspensionRepository::existsById);
+    }
+
+    /** Whether {@code current} penalties in a game, after {@code previous} in the last one, earn a suspension. */
+    static boolean triggersSuspension(int current, int previous) {
+        return current > 0 && Math.min(current, EJECTION_PENALTIES - 1) + previous >= SUSPENSION_PENALTIES;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void penaltyAdded(GameEvent event) {
+        apply(event.getPlayerId(), event.getGameId(), event.getTeamId(), 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void penaltyRemoved(GameEvent event) {
+        apply(event.getPlayerId(), event.getGameId(), event.getTeamId(), -1);
+    }
+
+    /** Marks the player's pending suspension as served. */
+    @Transactional
+    public void clearSuspension(Long playerId) {
+        playerSuspensionRepository.findById(playerId).ifPresent(s -> {
+            playerSuspensionRepository.delete(s);
+            penaltyTrackingRepository.findByPlayerIdAndGameId(playerId, s.getSuspendedAfterGameId())
+                    .ifPresent(t -> t.setIsSuspendedNextGame(false));
+        });
+        TransactionCallbacks.afterCommit(() -> suspended.invalidate(playerId));
+    }
+
+    private void apply(Long playerId, Long gameId, Long teamId, int delta) {
+        if (playerId == null) {
+            return;
+        }
+        PenaltyTracking tracking = penaltyTrackingRepository.findByPlayerIdAndGameId(playerId, gameId)
+                .orElseGet(() -> {
+                    PenaltyTracking t = new PenaltyTracking();
+                    t.setPlayerId(playerId);
+                    t.setGameId(gameId);
+                    t.setPenaltyCount(0);
+                    return t;
+                });
+        int before = tracking.getPenaltyCount();
+        int count = Math.max(0, before + delta);
+        tracking.setPenaltyCount(count);
+
+        int previous = 0;
+        Long previousGameId = teamId == null ? null : previousGame(gameId, teamId).orElse(null);
+        if (previousGameId != null) {
+            previous = penaltyTrackingRepository.findByPlayerIdAndGameId(playerId, previousGameId)
+                    .map(PenaltyTracking::getPenaltyCount)
+                    .orElse(0);
+        }
+
+        boolean suspends = triggersSuspension(count, previous);
+        tracking.setIsEjected(count >= EJECTION_PENALTIES || suspends);
+        tracking.setIsSuspendedNextGame(suspends);
+        penaltyTrackingRepository.save(tracking);
+
+        Optional<PlayerSuspension> pending = playerSuspensionRepository.findById(playerId);
+        if (suspends) {
+            PlayerSuspension s = pending.orElseGet(PlayerSuspension::new);
+            s.setPlayerId(playerId);
+            s.setSuspendedAfterGameId(gameId);
+            s.setPenaltyTotal(count + previous);
+            playerSuspensionRepository.save(s);
+        } else if (pending.isPresent() && gameId.equals(pending.get().getSuspendedAfterGameId())) {
+            // The penalty that caused it was removed
+            playerSuspensionRepository.delete(pending.get());
+        }
+
+        if (teamId != null && count != before) {
+            followingGameChanged(playerId, gameId, teamId, before, count);
+        }
+
+        TransactionCallbacks.afterCommit(() -> {
+            counts.invalidate(new PlayerGame(playerId, gameId));
+            suspended.invalidate(playerId);
+        });
+        log.debug("Penalty index: player {} game {} now {} (previous game {}), suspended={}",
+                playerId, gameId, count, previous, suspends);
+    }
+
+    /**
+     * Re-judges the player's next game for the team after this game's count moved from
+     * {@code before} to {@code after}: that game's two-game total includes this one. Penalties are
+     * often entered after the fact, so the later game may already have its own.
+     *
+     * <p>Acts only when the rule's answer for that game flips. An unchanged answer leaves its row
+     * alone, which keeps a suspension already served (cleared by {@link #clearSuspension}) from
+     * being handed out again.
+     */
+    private void followingGameChanged(Long playerId, Long gameId, Long teamId, int before, int after) {
+        Optional<PenaltyTracking> next = gameRepository.findById(gameId)
+                .flatMap(game -> gameRepository.findNextGameIds(game.getSeasonId(), teamId, game.getGameDate(),
+                        PageRequest.of(0, 1)).stream().findFirst())
+                .flatMap(nextGameId -> penaltyTrackingRepository.findByPlayerIdAndGameId(playerId, nextGameId))
+                .filter(t -> t.getPenaltyCount() > 0);
+        if (next.isEmpty()) {
+            return;
+        }
+        PenaltyTracking tracking = next.get();
+        int count = tracking.getPenaltyCount();
+        boolean suspendedBefore = triggersSuspension(count, before);
+        boolean suspends = triggersSuspension(count, after);
+        if (suspendedBefore == suspends) {
+            return;
+        }
+
+        tracking.setIsEjected(count >= EJECTION_PENALTIES || suspends);
+        tracking.setIsSuspendedNextGame(suspends);
+        penaltyTrackingRepository.save(tracking);
+
+        Optional<PlayerSuspension> pending = playerSuspensionRepository.findById(playerId);
+        if (suspends) {
+            PlayerSuspension s = pending.orElseGet(PlayerSuspension::new);
+            s.setPlayerId(playerId);
+            s.setSuspendedAfterGameId(tracking.getGameId());
+            s.setPenaltyTotal(count + after);
+            playerSuspensionRepository.save(s);
+        } else if (pending.isPresent() && tracking.getGameId().equals(pending.get().getSuspendedAfterGameId())) {
+            playerSuspensionRepository.delete(pending.get());
+        }
+        log.debug("Penalty index: player {} game {} re-judged after game {} went {} -> {}, suspended={}",
+                playerId, tracking.getGameId(), gameId, before, after, suspends);
+    }
+
+    /** Drops every cached previous-game answer after commit; a game was added, removed or moved. */
+    public void scheduleChanged() {
+        TransactionCallbacks.afterCommit(previousGames::invalidateAll);
+    }
+
+    private int loadCount(PlayerGame key) {
+        return penaltyTrackingRepository.findByPlayerIdAndGameId(key.playerId(), key.gameId())
+                .map(PenaltyTracking::getPenaltyCount)
+                .orElse(0);
+    }
+}
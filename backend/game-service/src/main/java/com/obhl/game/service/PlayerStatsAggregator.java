@@ -1,5 +1,6 @@
 package com.obhl.game.service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +24,13 @@ public class PlayerStatsAggregator {
 
     private static final Logger logger = LoggerFactory.getLogger(PlayerStatsAggregator.class);
 
+    /**
+     * Ledger directions understood by stats-service. Each player's line is keyed by
+     * (gameId, playerId, direction), so a retried or duplicated call is a no-op there.
+     */
+    private static final String DIRECTION_APPLY = "APPLY";
+    private static final String DIRECTION_REVERT = "REVERT";
+
     private final GameEventRepository gameEventRepository;
     private final RestTemplate restTemplate;
 
@@ -30,9 +38,11 @@ public class PlayerStatsAggregator {
     private String statsServiceUrl;
 
     /**
-     * Aggregates game events into player stats and updates the stats service
+     * Aggregates game events into the per-player stat lines a finalize applies. Computed inside the
+     * finalize transaction and handed to the outbox, so later event edits cannot change what gets
+     * sent.
      */
-    public void aggregateAndUpdateStats(Game game) {
+    public List<PlayerStatsUpdateDto> buildStatsUpdates(Game game) {
         logger.info("Aggregating stats for game {}", game.getId());
 
         // Fetch all events for this game
@@ -40,9 +50,19 @@ public class PlayerStatsAggregator {
 
         if (events.isEmpty()) {
             logger.info("No events found for game {}, skipping stats aggregation", game.getId());
-            return;
+            return List.of();
         }
 
+        List<PlayerStatsUpdateDto> lines = aggregate(game, events);
+        logger.info("Stats aggregation complete for game {}. {} players", game.getId(), lines.size());
+        return lines;
+    }
+
+    /**
+     * The APPLY lines of one game from the given events -- what finalizing it sends. Also used by
+     * PlayerStatsRebuildService, which loads events for many games at once.
+     */
+    public List<PlayerStatsUpdateDto> aggregate(Game game, List<GameEvent> events) {
         // Map to store aggregated stats per player: playerId -> stats
         Map<Long, PlayerStatsUpdateDto> playerStatsMap = new HashMap<>();
 
@@ -72,25 +92,23 @@ public class PlayerStatsAggregator {
             }
         }
 
-        // Send updates to stats service
         for (PlayerStatsUpdateDto stats : playerStatsMap.values()) {
-            updatePlayerStats(stats);
+            stats.setDirection(DIRECTION_APPLY);
         }
-
-        logger.info("Stats aggregation complete for game {}. Updated {} players", game.getId(), playerStatsMap.size());
+        return new ArrayList<>(playerStatsMap.values());
     }
 
     /**
-     * Reverts aggregated stats for a game when unfinalizing
+     * The stat lines that take a finalized game back out of player stats when unfinalizing
      */
-    public void revertPlayerStats(Game game) {
+    public List<PlayerStatsUpdateDto> buildStatsReversion(Game game) {
         logger.info("Reverting stats for game {}", game.getId());
 
         List<GameEvent> events = gameEventRepository.findByGameId(game.getId());
 
         if (events.isEmpty()) {
             logger.info("No events found for game {}, skipping stats reversion", game.getId());
-            return;
+            return List.of();
         }
 
         Map<Long, PlayerStatsUpdateDto> playerStatsMap = new HashMap<>();
@@ -118,10 +136,10 @@ public class PlayerStatsAggregator {
 
         for (PlayerStatsUpdateDto stats : playerStatsMap.values()) {
             stats.setGamesPlayed(-1);
-            updatePlayerStats(stats);
+            stats.setDirection(DIRECTION_REVERT);
         }
-
-        logger.info("Stats reversion complete for game {}. Reverted {} players", game.getId(), playerStatsMap.size());
+        logger.info("Stats reversion complete for game {}. {} players", game.getId(), playerStatsMap.size());
+        return new ArrayList<>(playerStatsMap.values());
     }
 
     /**
@@ -138,6 +156,7 @@ public class PlayerStatsAggregator {
             dto.setAssists(0);
             dto.setPoints(0);
             dto.setPenaltyMinutes(0);
+            dto.setGameId(game.getId());
             return dto;
         });
 
@@ -148,18 +167,17 @@ public class PlayerStatsAggregator {
     }
 
     /**
-     * Sends stats update to stats service via REST call
+     * Sends player stat lines -- one or more games' worth -- to stats service in one REST call;
+     * stats service applies them in a single transaction, so they land all-or-nothing. Throws on
+     * failure so the outbox retries; lines carry gameId/direction, so a retry is never
+     * double-counted.
      */
-    private void updatePlayerStats(PlayerStatsUpdateDto stats) {
-        try {
-            String url = statsServiceUrl + "/stats/players/increment";
-            restTemplate.postForObject(url, stats, Void.class);
-            logger.debug("Updated stats for player {}: G:{} A:{} P:{} PM:{}",
-                    stats.getPlayerId(), stats.getGoals(), stats.getAssists(),
-                    stats.getPoints(), stats.getPenaltyMinutes());
-        } catch (Exception e) {
-            logger.error("Failed to update stats for player {}: {}", stats.getPlayerId(), e.getMessage());
-            // Continue processing other players even if one fails
+    public void sendBatch(List<PlayerStatsUpdateDto> batch) {
+        if (batch.isEmpty()) {
+            return;
         }
+        String url = statsServiceUrl + "/stats/players/increment/batch";
+        restTemplate.postForObject(url, batch, Map.class);
+        logger.debug("Sent {} player stat updates", batch.size());
     }
 }
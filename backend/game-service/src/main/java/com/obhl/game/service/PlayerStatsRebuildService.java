@@ -0,0 +1,240 @@
+package com.obhl.game.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.obhl.game.dto.PlayerStatsRebuildDto;
+import com.obhl.game.dto.PlayerStatsUpdateDto;
+import com.obhl.game.model.Game;
+import com.obhl.game.model.GameEvent;
+import com.obhl.game.repository.GameEventRepository;
+import com.obhl.game.repository.GameRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rebuilds a season's player_stats from its game events, for when the deltas PlayerStatsAggregator
+ * sends have drifted (a delivery lost before the outbox existed, a goal edited after its game was
+ * finalized). Runs in the background; {@link #status} reports progress.
+ *
+ * <p>The job takes a ledger mark from stats-service, then walks the season's completed games in id
+ * order, {@value #BATCH_SIZE} at a time with one event query per batch, and computes each game's
+ * lines exactly as finalizing it would. Forfeits are skipped, as on finalize. stats-service diffs
+ * the lines against player_stats and, unless dry-run, overwrites what differs in one transaction.
+ * If a game was finalized or unfinalized while the season was being scanned, stats-service refuses
+ * with 409 and the job scans again, up to {@value #MAX_ATTEMPTS} times.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlayerStatsRebuildService {
+
+    static final int BATCH_SIZE = 200;
+    static final int MAX_ATTEMPTS = 3;
+    /** Finished jobs kept for status lookups. */
+    private static final int MAX_JOBS_KEPT = 20;
+
+    private final GameRepository gameRepository;
+    private final GameEventRepository gameEventRepository;
+    private final PlayerStatsAggregator playerStatsAggregator;
+    private final RestTemplate restTemplate;
+
+    @Value("${stats.service.url:http://localhost:8003/api/v1}")
+    private String statsServiceUrl;
+
+    @Value("${internal.service.key:obhl-internal-service-key-change-in-production}")
+    private String internalServiceKey;
+
+    /** One rebuild at a time: each one locks stats-service's ledger while it writes. */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "player-stats-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, Job> jobs = new LinkedHashMap<>();
+
+    /**
+     * Starts a rebuild of the season, or returns the one already queued or running for it.
+     */
+    public synchronized PlayerStatsRebuildDto.Status start(Long seasonId, boolean dryRun) {
+        for (Job job : jobs.values()) {
+            if (job.seasonId.equals(seasonId) && !job.isFinished()) {
+                return job.snapshot();
+            }
+        }
+        Job job = new Job(UUID.randomUUID().toString(), seasonId, dryRun);
+        jobs.put(job.id, job);
+        if (jobs.size() > MAX_JOBS_KEPT) {
+            jobs.values().removeIf(old -> old.isFinished() && jobs.size() > MAX_JOBS_KEPT);
+        }
+        executor.execute(() -> run(job));
+        return job.snapshot();
+    }
+
+    public synchronized Optional<PlayerStatsRebuildDto.Status> status(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::snapshot);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(Job job) {
+        try {
+            for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+                job.begin(attempt);
+                String ledgerMark = job.dryRun ? null : ledgerMark();
+                List<PlayerStatsUpdateDto> lines = scan(job);
+                job.applying();
+                try {
+                    PlayerStatsRebuildDto.Result result = send(
+                            new PlayerStatsRebuildDto.Request(job.seasonId, ledgerMark, job.dryRun, lines));
+                    job.done(result);
+                    log.info("Player stats rebuild {} for season {} done{}: {} of {} players differed", job.id,
+                            job.seasonId, job.dryRun ? " (dry run)" : "", result.getPlayersCorrected(),
+                            result.getPlayersChecked());
+                    return;
+                } catch (HttpClientErrorException.Conflict e) {
+                    log.info("Season {} changed during player stats rebuild {} (attempt {}), scanning again",
+                            job.seasonId, job.id, attempt);
+                }
+            }
+            job.failed("Games kept being finalized or unfinalized while the season was scanned; try again later");
+        } catch (RuntimeException e) {
+            log.warn("Player stats rebuild {} for season {} failed", job.id, job.seasonId, e);
+            job.failed(e.getMessage());
+        }
+    }
+
+    /** Every completed, non-forfeit game's lines, a batch of games and their events at a time. */
+    private List<PlayerStatsUpdateDto> scan(Job job) {
+        job.gamesTotal(gameRepository.countBySeasonIdAndStatus(job.seasonId, "completed"));
+        List<PlayerStatsUpdateDto> lines = new ArrayList<>();
+        long afterId = 0;
+        while (true) {
+            List<Game> games = gameRepository.findCompletedAfter(job.seasonId, afterId, PageRequest.of(0, BATCH_SIZE));
+            if (games.isEmpty()) {
+                return lines;
+            }
+            List<Game> played = games.stream().filter(g -> g.getForfeitTeamId() == null).toList();
+            Map<Long, List<GameEvent>> eventsByGame = played.isEmpty() ? Map.of()
+                    : gameEventRepository.findByGameIdIn(played.stream().map(Game::getId).toList()).stream()
+                            .collect(Collectors.groupingBy(GameEvent::getGameId));
+            for (Game game : played) {
+                lines.addAll(playerStatsAggregator.aggregate(game, eventsByGame.getOrDefault(game.getId(), List.of())));
+            }
+            job.scanned(games.size(), games.size() - played.size(),
+                    eventsByGame.values().stream().mapToLong(List::size).sum());
+            afterId = games.get(games.size() - 1).getId();
+        }
+    }
+
+    private String ledgerMark() {
+        @SuppressWarnings("unchecked")
+        Map<String, String> body = restTemplate.exchange(statsServiceUrl + "/stats/players/rebuild/mark",
+                HttpMethod.GET, new HttpEntity<>(internalHeaders()), Map.class).getBody();
+        if (body == null || body.get("ledgerMark") == null) {
+            throw new IllegalStateException("stats-service returned no ledger mark");
+        }
+        return body.get("ledgerMark");
+    }
+
+    private PlayerStatsRebuildDto.Result send(PlayerStatsRebuildDto.Request request) {
+        return restTemplate.exchange(statsServiceUrl + "/stats/players/rebuild", HttpMethod.POST,
+                new HttpEntity<>(request, internalHeaders()), PlayerStatsRebuildDto.Result.class).getBody();
+    }
+
+    private HttpHeaders internalHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Internal-Service-Key", internalServiceKey);
+        return headers;
+    }
+
+    /** A job's mutable progress; written by the rebuild thread, read through {@link #snapshot}. */
+    private static final class Job {
+        final String id;
+        final Long seasonId;
+        final boolean dryRun;
+        final LocalDateTime startedAt = LocalDateTime.now();
+        private String state = "SCANNING";
+        private int attempt;
+        private long gamesTotal;
+        private long gamesScanned;
+        private long forfeitsSkipped;
+        private long eventsScanned;
+        private LocalDateTime finishedAt;
+        private String error;
+        private PlayerStatsRebuildDto.Result result;
+
+        Job(String id, Long seasonId, boolean dryRun) {
+            this.id = id;
+            this.seasonId = seasonId;
+            this.dryRun = dryRun;
+        }
+
+        synchronized void begin(int attempt) {
+            this.attempt = attempt;
+            state = "SCANNING";
+            gamesTotal = 0;
+            gamesScanned = 0;
+            forfeitsSkipped = 0;
+            eventsScanned = 0;
+        }
+
+        synchronized void gamesTotal(long total) {
+            gamesTotal = total;
+        }
+
+        synchronized void scanned(int games, int forfeits, long events) {
+            gamesScanned += games;
+            forfeitsSkipped += forfeits;
+            eventsScanned += events;
+        }
+
+        synchronized void applying() {
+            state = "APPLYING";
+        }
+
+        synchronized void done(PlayerStatsRebuildDto.Result result) {
+            this.result = result;
+            state = "DONE";
+            finishedAt = LocalDateTime.now();
+        }
+
+        synchronized void failed(String error) {
+            this.error = error;
+            state = "FAILED";
+            finishedAt = LocalDateTime.now();
+        }
+
+        synchronized boolean isFinished() {
+            return finishedAt != null;
+        }
+
+        synchronized PlayerStatsRebuildDto.Status snapshot() {
+            return new PlayerStatsRebuildDto.Status(id, seasonId, dryRun, state, attempt, gamesTotal, gamesScanned,
+                    forfeitsSkipped, eventsScanned, startedAt, finishedAt, error, result);
+        }
+    }
+}
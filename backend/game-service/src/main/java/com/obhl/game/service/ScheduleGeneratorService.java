@@ -1,5 +1,6 @@
 package com.obhl.game.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
@@ -13,10 +14,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.obhl.game.dto.GameSlot;
+import com.obhl.game.dto.ScheduleGenerateResult;
 import com.obhl.game.dto.TimeSlotStats;
 import com.obhl.game.model.Game;
 import com.obhl.game.repository.GameRepository;
+import com.obhl.game.service.schedule.LeagueScheduleOptimizer;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,6 +30,27 @@ import lombok.extern.slf4j.Slf4j;
 public class ScheduleGeneratorService {
 
     private final GameRepository gameRepository;
+    private final SeasonScheduleCache seasonScheduleCache;
+    private final PenaltyIndex penaltyIndex;
+    private final com.obhl.game.service.scoring.TournamentStandingsService tournamentStandingsService;
+
+    /** Cap on optimizer threads, so one generate request cannot take every core. */
+    private static final int MAX_OPTIMIZER_WORKERS = 8;
+
+    /**
+     * Runs every request's optimizer searches, so concurrent generate requests share at most
+     * {@value #MAX_OPTIMIZER_WORKERS} threads instead of each starting a pool. Searches past the
+     * queue are rejected: they would only start once their budget had run out waiting.
+     */
+    private final java.util.concurrent.ExecutorService optimizerExecutor = new java.util.concurrent.ThreadPoolExecutor(
+            MAX_OPTIMIZER_WORKERS, MAX_OPTIMIZER_WORKERS, 0L, java.util.concurrent.TimeUnit.MILLISECONDS,
+            new java.util.concurrent.ArrayBlockingQueue<>(MAX_OPTIMIZER_WORKERS * 2),
+            Thread.ofPlatform().name("schedule-optimizer-", 0).daemon(true).factory());
+
+    private static final Map<String, Integer> CATEGORY_INDEX = Map.of(
+            "early", LeagueScheduleOptimizer.EARLY,
+            "mid", LeagueScheduleOptimizer.MID,
+            "late", LeagueScheduleOptimizer.LATE);
 
     /**
      * Generate round-robin schedule for a season
@@ -47,6 +72,76 @@ public class ScheduleGeneratorService {
     public List<Game> generateSchedule(Long seasonId, Long leagueId, List<Long> teamIds,
             List<GameSlot> slots, Integer maxWeeks, Integer playoffWeeks) {
 
+        List<Placement> placements = planRegularSeason(seasonId, teamIds, slots, maxWeeks);
+        List<Game> games = new ArrayList<>();
+        for (Placement placement : placements) {
+            games.add(createGame(seasonId, leagueId, placement.matchup(), placement.slot()));
+        }
+
+        // Return games WITHOUT saving - this is a preview/draft
+        // Games will be saved when user explicitly clicks "Save Schedule"
+        log.info("Successfully generated {} draft games (not saved to database)", games.size());
+
+        addPlayoffSlots(games, seasonId, leagueId, slots, maxWeeks, playoffWeeks);
+        return games;
+    }
+
+    /**
+     * Same draft as {@link #generateSchedule}, then improved by {@link LeagueScheduleOptimizer}:
+     * parallel local search over the greedy schedule for up to {@code budget}, scoring early/mid/late
+     * balance, repeat matchups in consecutive weeks, back-to-back late games and rink spread.
+     * Returns the best schedule found with the objective before and after.
+     *
+     * <p>Deliberately not transactional: the search runs for seconds and needs no database, so it
+     * should not hold a connection. The only query is the existing-schedule check.
+     */
+    public ScheduleGenerateResult generateOptimizedSchedule(Long seasonId, Long leagueId, List<Long> teamIds,
+            List<GameSlot> slots, Integer maxWeeks, Integer playoffWeeks, Duration budget) {
+
+        List<Placement> placements = planRegularSeason(seasonId, teamIds, slots, maxWeeks);
+
+        List<LeagueScheduleOptimizer.Slot> optimizerSlots = new ArrayList<>();
+        List<LeagueScheduleOptimizer.Pairing> pairings = new ArrayList<>();
+        int[] slotOfPairing = new int[placements.size()];
+        for (int i = 0; i < placements.size(); i++) {
+            GameSlot slot = placements.get(i).slot();
+            Matchup matchup = placements.get(i).matchup();
+            optimizerSlots.add(new LeagueScheduleOptimizer.Slot(slot.getWeek(),
+                    CATEGORY_INDEX.get(categorizeTimeSlot(slot.getTime())), slot.getRink()));
+            pairings.add(new LeagueScheduleOptimizer.Pairing(matchup.homeTeamId, matchup.awayTeamId));
+            slotOfPairing[i] = i;
+        }
+
+        int workers = Math.min(Runtime.getRuntime().availableProcessors(), MAX_OPTIMIZER_WORKERS);
+        long started = System.currentTimeMillis();
+        LeagueScheduleOptimizer.Result result = LeagueScheduleOptimizer.optimize(optimizerSlots, pairings,
+                slotOfPairing, budget, workers, seasonId, optimizerExecutor);
+
+        List<Game> games = new ArrayList<>();
+        for (int p = 0; p < placements.size(); p++) {
+            GameSlot slot = placements.get(result.slotOfPairing()[p]).slot();
+            games.add(createGame(seasonId, leagueId, placements.get(p).matchup(), slot));
+        }
+        games.sort(java.util.Comparator.comparing(Game::getGameDate));
+
+        log.info("Optimized schedule for season {}: objective {} -> {} ({} moves, {} workers, {} ms)",
+                seasonId, result.initial().total(), result.best().total(), result.movesTried(),
+                result.workers(), System.currentTimeMillis() - started);
+
+        addPlayoffSlots(games, seasonId, leagueId, slots, maxWeeks, playoffWeeks);
+        return new ScheduleGenerateResult(games, result.initial(), result.best(),
+                result.movesTried(), result.workers(), budget.toMillis());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        optimizerExecutor.shutdownNow();
+    }
+
+    /** Validates the request and builds the greedy, time-balanced regular season. */
+    private List<Placement> planRegularSeason(Long seasonId, List<Long> teamIds,
+            List<GameSlot> slots, Integer maxWeeks) {
+
         log.info("Generating schedule for season {} with {} teams and {} slots",
                 seasonId, teamIds.size(), slots.size());
 
@@ -80,20 +175,17 @@ public class ScheduleGeneratorService {
         List<Matchup> cycledMatchups = cycleMatchups(matchups, filteredSlots.size());
 
         // Assign matchups to slots with time balancing
-        List<Game> games = assignSlotsWithBalancing(seasonId, leagueId, teamIds, cycledMatchups, filteredSlots);
-
-        // Return games WITHOUT saving - this is a preview/draft
-        // Games will be saved when user explicitly clicks "Save Schedule"
-        log.info("Successfully generated {} draft games (not saved to database)", games.size());
+        return assignSlotsWithBalancing(teamIds, cycledMatchups, filteredSlots);
+    }
 
-        // Generate playoff week placeholders if requested
+    /** Appends playoff week placeholders if requested. */
+    private void addPlayoffSlots(List<Game> games, Long seasonId, Long leagueId,
+            List<GameSlot> slots, Integer maxWeeks, Integer playoffWeeks) {
         if (playoffWeeks != null && playoffWeeks > 0) {
             List<Game> playoffGames = generatePlayoffSlots(seasonId, leagueId, slots, maxWeeks, playoffWeeks);
             games.addAll(playoffGames);
             log.info("Added {} playoff placeholder games", playoffGames.size());
         }
-
-        return games;
     }
 
     /**
@@ -255,7 +347,10 @@ public class ScheduleGeneratorService {
     @Transactional
     public void resetSchedule(Long seasonId) {
         List<Game> games = gameRepository.findBySeasonIdOrderByGameDate(seasonId);
-        gameRepository.deleteAll(games);
+        gameRepository.deleteAllByIdInBatch(games.stream().map(Game::getId).toList());
+        seasonScheduleCache.evict(seasonId);
+        tournamentStandingsService.evict(seasonId);
+        penaltyIndex.scheduleChanged();
         log.info("Deleted {} games for season {}", games.size(), seasonId);
     }
 
@@ -267,7 +362,7 @@ public class ScheduleGeneratorService {
      * pushed to the later slots that week, and vice versa. This creates a natural
      * rotation so no team is stuck with predominantly early or late games all season.
      */
-    private List<Game> assignSlotsWithBalancing(Long seasonId, Long leagueId, List<Long> teamIds,
+    private List<Placement> assignSlotsWithBalancing(List<Long> teamIds,
             List<Matchup> matchups, List<GameSlot> slots) {
 
         // Initialize stats tracking for each team
@@ -282,7 +377,7 @@ public class ScheduleGeneratorService {
             slotsByWeek.computeIfAbsent(slot.getWeek(), k -> new ArrayList<>()).add(slot);
         }
 
-        List<Game> games = new ArrayList<>();
+        List<Placement> games = new ArrayList<>();
         int matchupIndex = 0;
 
         // Process each week
@@ -324,8 +419,7 @@ public class ScheduleGeneratorService {
                 Matchup matchup = weekMatchups.get(i);
                 GameSlot slot = weekSlots.get(slotIdx);
 
-                Game game = createGame(seasonId, leagueId, matchup, slot);
-                games.add(game);
+                games.add(new Placement(matchup, slot));
 
                 // Update stats so future weeks factor in this week's assignment
                 String category = categorizeTimeSlot(slot.getTime());
@@ -391,6 +485,10 @@ public class ScheduleGeneratorService {
         }
     }
 
+    /** A matchup placed in a slot; becomes a Game once the schedule is settled. */
+    private record Placement(Matchup matchup, GameSlot slot) {
+    }
+
     /**
      * Inner class to represent a matchup
      */
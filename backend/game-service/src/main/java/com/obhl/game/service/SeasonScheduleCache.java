@@ -0,0 +1,152 @@
+package com.obhl.game.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.obhl.game.dto.GameDayDTO;
+import com.obhl.game.dto.GameDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * The season schedule as served by {@code GET /games?seasonId=}, cached per season, along with
+ * the season's games-per-day calendar ({@code GET /games/season/{id}/game-days}).
+ *
+ * <p>Every public schedule view, dashboard and coordinator screen reads the whole season, and on a
+ * game night that is the same list many times a minute. Anything that writes a game -- GameService,
+ * event scoring, bracket advancement, tournament schedule saves, schedule resets -- calls
+ * {@link #evict} for the game's season; the eviction lands after commit. The expiry is only a
+ * backstop for a writer that forgets.
+ *
+ * <p>Hits, misses and size/expiry evictions are published by Micrometer as {@code cache.gets},
+ * {@code cache.evictions} etc. tagged {@code cache=seasonSchedule} (and {@code seasonGameDays});
+ * write-driven invalidations are
+ * counted separately as {@code game.cache.invalidations}. All of them show under
+ * {@code /actuator/metrics}.
+ *
+ * <p>The same evictions bump a per-season write {@link Version}, which backs the ETag /
+ * Last-Modified validators on the schedule and standings endpoints. Versions live in memory, so
+ * each tag also carries this instance's start time: after a restart, or behind a second instance,
+ * old tags simply stop matching and the client refetches once -- they can never match new data.
+ */
+@Component
+public class SeasonScheduleCache {
+
+    static final String NAME = "seasonSchedule";
+    static final String GAME_DAYS_NAME = "seasonGameDays";
+
+    private final Cache<Long, List<GameDto.Response>> cache = Caffeine.newBuilder()
+            .maximumSize(128)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .recordStats()
+            .build();
+
+    /** Games per calendar day, for the goalie and staff availability screens. */
+    private final Cache<Long, List<GameDayDTO>> gameDays = Caffeine.newBuilder()
+            .maximumSize(128)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .recordStats()
+            .build();
+
+    private final Counter invalidations;
+    private final Counter gameDayInvalidations;
+
+    /** Instance start, in whole seconds since HTTP dates carry no more precision. */
+    private final long startedAt = System.currentTimeMillis() / 1000 * 1000;
+    private final Map<Long, Version> versions = new ConcurrentHashMap<>();
+
+    /**
+     * How many committed writes this instance has seen for a season, and when the last one landed.
+     *
+     * @param lastModified epoch millis; the instance start time until the first write, then
+     *                     strictly later on every write -- a second write within the same second
+     *                     moves it a second past the wall clock, so If-Modified-Since can't hide it
+     */
+    public record Version(long startedAt, long counter, long lastModified) {
+
+        /** A strong ETag for one view of the season, e.g. {@code "schedule-12-m3k1x0-7"}. */
+        public String etag(String view, Long seasonId) {
+            return etag(view, seasonId, null);
+        }
+
+        /** As {@link #etag(String, Long)}, with {@code detail} appended when it is not null. */
+        public String etag(String view, Long seasonId, String detail) {
+            return "\"" + view + "-" + seasonId + "-" + Long.toString(startedAt, 36) + "-" + counter
+                    + (detail != null ? "-" + detail : "") + "\"";
+        }
+    }
+
+    public SeasonScheduleCache(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, gameDays, GAME_DAYS_NAME);
+        this.invalidations = Counter.builder("game.cache.invalidations")
+                .description("Cache entries dropped because a game in that season was written")
+                .tag("cache", NAME)
+                .register(meterRegistry);
+        this.gameDayInvalidations = Counter.builder("game.cache.invalidations")
+                .description("Cache entries dropped because a game in that season was written")
+                .tag("cache", GAME_DAYS_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * The season's schedule, loaded through {@code loader} on a miss. Reads that could see
+     * uncommitted rows bypass the cache entirely. The list is shared with the cache: read it, don't
+     * modify it or its elements.
+     */
+    public List<GameDto.Response> get(Long seasonId, Function<Long, List<GameDto.Response>> loader) {
+        if (!TransactionCallbacks.isCacheableRead()) {
+            return loader.apply(seasonId);
+        }
+        return cache.get(seasonId, id -> List.copyOf(loader.apply(id)));
+    }
+
+    /** The season's game days, loaded through {@code loader} on a miss; same rules as {@link #get}. */
+    public List<GameDayDTO> getGameDays(Long seasonId, Function<Long, List<GameDayDTO>> loader) {
+        if (!TransactionCallbacks.isCacheableRead()) {
+            return loader.apply(seasonId);
+        }
+        return gameDays.get(seasonId, id -> List.copyOf(loader.apply(id)));
+    }
+
+    /**
+     * Drops the season's cached schedule and game days and bumps its version once the current
+     * transaction commits.
+     */
+    public void evict(Long seasonId) {
+        if (seasonId != null) {
+            TransactionCallbacks.afterCommit(() -> {
+                if (cache.asMap().remove(seasonId) != null) {
+                    invalidations.increment();
+                }
+                if (gameDays.asMap().remove(seasonId) != null) {
+                    gameDayInvalidations.increment();
+                }
+                // Bumped after the entry is gone, so a reader that sees the new version can't be
+                // served the old list under it
+                long now = System.currentTimeMillis() / 1000 * 1000;
+                versions.merge(seasonId, new Version(startedAt, 1, Math.max(now, startedAt + 1000)),
+                        (old, first) -> new Version(startedAt, old.counter() + 1,
+                                Math.max(now, old.lastModified() + 1000)));
+            });
+        }
+    }
+
+    /**
+     * The season's current write version. Read it <em>before</em> loading the data it validates:
+     * a write landing in between then yields fresh data under an old tag, which only costs the
+     * client one extra fetch, never a stale 304.
+     */
+    public Version version(Long seasonId) {
+        return versions.getOrDefault(seasonId, new Version(startedAt, 0, startedAt));
+    }
+}
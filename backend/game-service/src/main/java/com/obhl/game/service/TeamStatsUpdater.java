@@ -1,6 +1,7 @@
 package com.obhl.game.service;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.springframework.stereotype.Service;
@@ -16,6 +17,15 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class TeamStatsUpdater {
 
+    /** The delta finalizes the game into the standings. */
+    public static final String APPLY = "APPLY";
+    /** The delta takes an unfinalized game back out. */
+    public static final String REVERT = "REVERT";
+
+    /** A TEAM_STATS outbox payload: one team's delta and which way it moves the game. */
+    public record TeamDelta(String direction, Map<String, Integer> delta) {
+    }
+
     private final TeamClient teamClient;
 
     /**
@@ -33,140 +43,94 @@ public class TeamStatsUpdater {
     }
 
     /**
-     * Update team standings after a game is finalized
-     * This increments the team stats based on the game outcome
+     * Standings deltas for a finalized game, keyed by team id (home first).
+     * Empty when the game does not affect league standings.
      */
-    public void updateTeamStats(Game game) {
-        log.info("Updating team stats for game {}", game.getId());
-
+    public Map<Long, Map<String, Integer>> updateDeltas(Game game) {
         if (!affectsLeagueStandings(game)) {
             log.info("Skipping standings update for {} game {}", game.getGameType(), game.getId());
-            return;
-        }
-
-        int homeScore = game.getHomeScore();
-        int awayScore = game.getAwayScore();
-        boolean endedInOT = game.getEndedInOT() != null && game.getEndedInOT();
-
-        // Calculate stats for home team
-        Map<String, Integer> homeStats = new HashMap<>();
-        homeStats.put("goalsFor", homeScore);
-        homeStats.put("goalsAgainst", awayScore);
-        homeStats.put("points", game.getHomeTeamPoints());
-
-        // Calculate stats for away team
-        Map<String, Integer> awayStats = new HashMap<>();
-        awayStats.put("goalsFor", awayScore);
-        awayStats.put("goalsAgainst", homeScore);
-        awayStats.put("points", game.getAwayTeamPoints());
-
-        // Determine win/loss/tie/OT stats
-        if (homeScore > awayScore) {
-            // Home team wins
-            if (endedInOT) {
-                homeStats.put("overtimeWins", 1);
-                awayStats.put("overtimeLosses", 1);
-            } else {
-                homeStats.put("wins", 1);
-                awayStats.put("losses", 1);
-            }
-        } else if (awayScore > homeScore) {
-            // Away team wins
-            if (endedInOT) {
-                awayStats.put("overtimeWins", 1);
-                homeStats.put("overtimeLosses", 1);
-            } else {
-                awayStats.put("wins", 1);
-                homeStats.put("losses", 1);
-            }
-        } else {
-            // Tie game
-            homeStats.put("ties", 1);
-            awayStats.put("ties", 1);
+            return Map.of();
         }
+        return deltas(game, 1);
+    }
 
-        // Update both teams via API
-        try {
-            teamClient.updateTeamStats(game.getHomeTeamId(), homeStats);
-            log.info("Updated home team {} stats", game.getHomeTeamId());
-        } catch (Exception e) {
-            log.error("Failed to update home team {} stats: {}", game.getHomeTeamId(), e.getMessage());
-            throw new RuntimeException("Failed to update home team stats", e);
+    /**
+     * Standings deltas that undo {@link #updateDeltas} when a game is unfinalized.
+     */
+    public Map<Long, Map<String, Integer>> revertDeltas(Game game) {
+        // Must mirror updateDeltas exactly: anything never applied has nothing to revert, and a
+        // mismatch between the two guards would corrupt standings in one direction only.
+        if (!affectsLeagueStandings(game)) {
+            log.info("Skipping standings revert for {} game {}", game.getGameType(), game.getId());
+            return Map.of();
         }
+        return deltas(game, -1);
+    }
 
+    /**
+     * Sends one team's standings delta to api-gateway. Throws on failure so the outbox retries.
+     * api-gateway applies it at most once per (game, team, direction), so a retry of a call that
+     * did land is harmless. Outbox rows queued before directions were recorded pass null for both
+     * and are applied unconditionally, as they always were.
+     */
+    public void applyTeamDelta(Long teamId, Long gameId, String direction, Map<String, Integer> delta) {
         try {
-            teamClient.updateTeamStats(game.getAwayTeamId(), awayStats);
-            log.info("Updated away team {} stats", game.getAwayTeamId());
+            teamClient.updateTeamStats(teamId, gameId, direction, delta);
+            log.info("Updated team {} stats", teamId);
         } catch (Exception e) {
-            log.error("Failed to update away team {} stats: {}", game.getAwayTeamId(), e.getMessage());
-            throw new RuntimeException("Failed to update away team stats", e);
+            log.error("Failed to update team {} stats: {}", teamId, e.getMessage());
+            throw new RuntimeException("Failed to update team stats", e);
         }
     }
 
     /**
-     * Revert team standings when a game is unfinalized
-     * This decrements the team stats based on the game outcome
+     * @param sign 1 to apply the game's outcome, -1 to take it back out
      */
-    public void revertTeamStats(Game game) {
-        log.info("Reverting team stats for game {}", game.getId());
-
-        // Must mirror updateTeamStats exactly: anything never applied has nothing to revert, and a
-        // mismatch between the two guards would corrupt standings in one direction only.
-        if (!affectsLeagueStandings(game)) {
-            log.info("Skipping standings revert for {} game {}", game.getGameType(), game.getId());
-            return;
-        }
-
+    private Map<Long, Map<String, Integer>> deltas(Game game, int sign) {
         int homeScore = game.getHomeScore();
         int awayScore = game.getAwayScore();
         boolean endedInOT = game.getEndedInOT() != null && game.getEndedInOT();
 
-
+        // Calculate stats for home team
         Map<String, Integer> homeStats = new HashMap<>();
-        homeStats.put("goalsFor", -homeScore);
-        homeStats.put("goalsAgainst", -awayScore);
-        homeStats.put("points", -game.getHomeTeamPoints());
+        homeStats.put("goalsFor", sign * homeScore);
+        homeStats.put("goalsAgainst", sign * awayScore);
+        homeStats.put("points", sign * game.getHomeTeamPoints());
 
+        // Calculate stats for away team
         Map<String, Integer> awayStats = new HashMap<>();
-        awayStats.put("goalsFor", -awayScore);
-        awayStats.put("goalsAgainst", -homeScore);
-        awayStats.put("points", -game.getAwayTeamPoints());
+        awayStats.put("goalsFor", sign * awayScore);
+        awayStats.put("goalsAgainst", sign * homeScore);
+        awayStats.put("points", sign * game.getAwayTeamPoints());
 
+        // Determine win/loss/tie/OT stats
         if (homeScore > awayScore) {
+            // Home team wins
             if (endedInOT) {
-                homeStats.put("overtimeWins", -1);
-                awayStats.put("overtimeLosses", -1);
+                homeStats.put("overtimeWins", sign);
+                awayStats.put("overtimeLosses", sign);
             } else {
-                homeStats.put("wins", -1);
-                awayStats.put("losses", -1);
+                homeStats.put("wins", sign);
+                awayStats.put("losses", sign);
             }
         } else if (awayScore > homeScore) {
+            // Away team wins
             if (endedInOT) {
-                awayStats.put("overtimeWins", -1);
-                homeStats.put("overtimeLosses", -1);
+                awayStats.put("overtimeWins", sign);
+                homeStats.put("overtimeLosses", sign);
             } else {
-                awayStats.put("wins", -1);
-                homeStats.put("losses", -1);
+                awayStats.put("wins", sign);
+                homeStats.put("losses", sign);
             }
         } else {
-            homeStats.put("ties", -1);
-            awayStats.put("ties", -1);
-        }
-
-        try {
-            teamClient.updateTeamStats(game.getHomeTeamId(), homeStats);
-            log.info("Reverted home team {} stats", game.getHomeTeamId());
-        } catch (Exception e) {
-            log.error("Failed to revert home team {} stats: {}", game.getHomeTeamId(), e.getMessage());
-            throw new RuntimeException("Failed to revert home team stats", e);
+            // Tie game
+            homeStats.put("ties", sign);
+            awayStats.put("ties", sign);
         }
 
-        try {
-            teamClient.updateTeamStats(game.getAwayTeamId(), awayStats);
-            log.info("Reverted away team {} stats", game.getAwayTeamId());
-        } catch (Exception e) {
-            log.error("Failed to revert away team {} stats: {}", game.getAwayTeamId(), e.getMessage());
-            throw new RuntimeException("Failed to revert away team stats", e);
-        }
+        Map<Long, Map<String, Integer>> byTeam = new LinkedHashMap<>();
+        byTeam.put(game.getHomeTeamId(), homeStats);
+        byTeam.put(game.getAwayTeamId(), awayStats);
+        return byTeam;
     }
 }
@@ -0,0 +1,40 @@
+package com.obhl.game.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Small helpers for keeping in-process read caches honest around transactions.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * Runs {@code action} once the current transaction commits, or right away when there is none.
+     * Cache evictions go through here: evicting before commit lets a concurrent reader re-cache the
+     * old rows in the gap, and evicting on a rollback is harmless but pointless.
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * True when a result read now may be cached: outside any transaction, or in a read-only one.
+     * A read inside a write transaction can see uncommitted rows, which must never reach a cache.
+     */
+    public static boolean isCacheableRead() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,288 @@
+package com.obhl.game.service.boxscore;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.obhl.game.dto.BoxScoreDto;
+import com.obhl.game.model.Game;
+import com.obhl.game.model.GameBoxScore;
+import com.obhl.game.model.GameEvent;
+import com.obhl.game.model.TournamentAward;
+import com.obhl.game.repository.GameBoxScoreRepository;
+import com.obhl.game.repository.GameEventRepository;
+import com.obhl.game.repository.GameRepository;
+import com.obhl.game.repository.TournamentAwardRepository;
+import com.obhl.game.service.outbox.OutboxService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Box scores, {@code GET /games/{id}/box-score}.
+ *
+ * <p>A completed game's box score is frozen into game_box_scores by {@link #freeze}, inside the
+ * finalize transaction, so reading it is one primary-key lookup rather than an aggregation over
+ * the game's events plus two roster fetches from stats-service. Any other game is computed from
+ * its events on each read. Player names are not part of the frozen document: they are filled in
+ * once by the outbox ({@link #resolveNames}), since finalizing must not wait on stats-service.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoxScoreService {
+
+    private static final TypeReference<Map<Long, BoxScoreDto.PlayerName>> PLAYER_NAMES = new TypeReference<>() {
+    };
+
+    private final GameBoxScoreRepository boxScoreRepository;
+    private final GameRepository gameRepository;
+    private final GameEventRepository gameEventRepository;
+    private final TournamentAwardRepository awardRepository;
+    private final OutboxService outboxService;
+    private final ObjectMapper objectMapper;
+    private final RestTemplate restTemplate;
+
+    @Value("${stats.service.url:http://localhost:8003/api/v1}")
+    private String statsServiceUrl;
+
+    /** The frozen box score when there is one, otherwise one computed from the game's events now. */
+    @Transactional(readOnly = true)
+    public BoxScoreDto.Response getBoxScore(Long gameId) {
+        return boxScoreRepository.findById(gameId)
+                .map(snapshot -> new BoxScoreDto.Response(true, snapshot.getFrozenAt(),
+                        fromJson(snapshot.getDocument(), BoxScoreDto.Document.class),
+                        snapshot.getPlayerNames() == null ? null : fromJson(snapshot.getPlayerNames(), PLAYER_NAMES)))
+                .orElseGet(() -> new BoxScoreDto.Response(false, null, build(gameRepository.findById(gameId)
+                        .orElseThrow(() -> new NoSuchElementException("Game not found: " + gameId))), null));
+    }
+
+    /**
+     * Writes the game's box score as it stands and queues the lookup of its player names. Call with
+     * the finalized values already set on {@code game}. Replaces any earlier snapshot.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void freeze(Game game) {
+        BoxScoreDto.Document document = build(game);
+        LocalDateTime now = LocalDateTime.now();
+        boxScoreRepository.save(new GameBoxScore(game.getId(), toJson(document), null, now, null));
+        outboxService.cancelBoxScoreNames(game.getId());
+        if (!playerIds(document).isEmpty()) {
+            outboxService.enqueueBoxScoreNames(game);
+        }
+        log.debug("Froze box score for game {}: {} goals, {} penalties", game.getId(),
+                document.getGoals().size(), document.getPenalties().size());
+    }
+
+    /**
+     * Drops the game's snapshot, if any, so reads compute the box score live again. Called when the
+     * game is unfinalized and when an event of a completed game is edited.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void discard(Long gameId) {
+        outboxService.cancelBoxScoreNames(gameId);
+        boxScoreRepository.findById(gameId).ifPresent(boxScoreRepository::delete);
+    }
+
+    /**
+     * Rewrites the awards in the game's snapshot, if it has one. Awards are named after the final
+     * horn, so this is the one part of a frozen box score that still moves. A recipient without a
+     * resolved name sends the snapshot back through the name lookup.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refreshAwards(Long gameId) {
+        boxScoreRepository.findById(gameId).ifPresent(snapshot -> {
+            BoxScoreDto.Document document = fromJson(snapshot.getDocument(), BoxScoreDto.Document.class);
+            document.setAwards(awards(gameId));
+            snapshot.setDocument(toJson(document));
+
+            if (snapshot.getPlayerNames() != null) {
+                Map<Long, BoxScoreDto.PlayerName> names = fromJson(snapshot.getPlayerNames(), PLAYER_NAMES);
+                if (!names.keySet().containsAll(playerIds(document))) {
+                    snapshot.setPlayerNames(null);
+                    snapshot.setNamesResolvedAt(null);
+                    outboxService.cancelBoxScoreNames(gameId);
+                    gameRepository.findById(gameId).ifPresent(outboxService::enqueueBoxScoreNames);
+                }
+            }
+            boxScoreRepository.save(snapshot);
+        });
+    }
+
+    /**
+     * Fills in the snapshot's player names from stats-service: both rosters for the game's season,
+     * then one lookup per player not on either (moved or released since). Players stats-service no
+     * longer knows are left out. A no-op when the snapshot is gone or already has its names.
+     *
+     * <p>Deliberately not @Transactional: the outbox dispatcher calls it with no transaction open,
+     * and the lookups must not hold the snapshot row while stats-service answers. The names are
+     * written afterwards only if the snapshot is still the one they were resolved for; if it changed
+     * meanwhile and still lacks names, this throws so the outbox retries against the new one.
+     */
+    public void resolveNames(Long gameId) {
+        GameBoxScore snapshot = boxScoreRepository.findById(gameId).orElse(null);
+        if (snapshot == null || snapshot.getPlayerNames() != null) {
+            return;
+        }
+        BoxScoreDto.Document document = fromJson(snapshot.getDocument(), BoxScoreDto.Document.class);
+        Set<Long> wanted = playerIds(document);
+
+        Map<Long, BoxScoreDto.PlayerName> names = new TreeMap<>();
+        for (Long teamId : List.of(document.getHomeTeamId(), document.getAwayTeamId())) {
+            RosterPlayer[] roster = restTemplate.getForObject(statsServiceUrl + "/players?teamId={teamId}&seasonId={seasonId}",
+                    RosterPlayer[].class, teamId, document.getSeasonId());
+            if (roster != null) {
+                for (RosterPlayer player : roster) {
+                    if (wanted.contains(player.id())) {
+                        names.put(player.id(), player.toName());
+                    }
+                }
+            }
+        }
+        for (Long playerId : wanted) {
+            if (!names.containsKey(playerId)) {
+                try {
+                    RosterPlayer player = restTemplate.getForObject(statsServiceUrl + "/players/{id}",
+                            RosterPlayer.class, playerId);
+                    if (player != null) {
+                        names.put(playerId, player.toName());
+                    }
+                } catch (HttpClientErrorException.NotFound e) {
+                    log.info("Box score for game {}: player {} no longer exists", gameId, playerId);
+                }
+            }
+        }
+
+        if (boxScoreRepository.saveNames(gameId, snapshot.getDocument(), toJson(names), LocalDateTime.now()) == 0
+                && boxScoreRepository.findById(gameId).map(s -> s.getPlayerNames() == null).orElse(false)) {
+            throw new IllegalStateException("Box score for game " + gameId + " changed while its names were resolved");
+        }
+    }
+
+    /** The game's box score from its current events and awards. */
+    BoxScoreDto.Document build(Game game) {
+        BoxScoreDto.Document document = new BoxScoreDto.Document();
+        document.setGameId(game.getId());
+        document.setSeasonId(game.getSeasonId());
+        document.setHomeTeamId(game.getHomeTeamId());
+        document.setAwayTeamId(game.getAwayTeamId());
+        document.setHomeScore(game.getHomeScore());
+        document.setAwayScore(game.getAwayScore());
+        document.setEndedInOT(game.getEndedInOT());
+        document.setForfeitTeamId(game.getForfeitTeamId());
+        document.setHomeTeamPoints(game.getHomeTeamPoints());
+        document.setAwayTeamPoints(game.getAwayTeamPoints());
+
+        Map<Integer, BoxScoreDto.Period> periods = new TreeMap<>();
+        Map<Long, BoxScoreDto.PlayerLine> lines = new LinkedHashMap<>();
+        for (GameEvent event : gameEventRepository.findByGameIdOrderByPeriodAscTimeMinutesAscTimeSecondsAsc(game.getId())) {
+            if ("goal".equalsIgnoreCase(event.getEventType())) {
+                document.getGoals().add(new BoxScoreDto.Goal(event.getId(), event.getPeriod(), event.getTimeMinutes(),
+                        event.getTimeSeconds(), event.getTeamId(), event.getPlayerId(), event.getAssist1PlayerId(),
+                        event.getAssist2PlayerId(), event.getDescription()));
+                BoxScoreDto.Period period = periods.computeIfAbsent(event.getPeriod(),
+                        p -> new BoxScoreDto.Period(p, 0, 0));
+                if (event.getTeamId().equals(game.getHomeTeamId())) {
+                    period.setHomeGoals(period.getHomeGoals() + 1);
+                } else if (event.getTeamId().equals(game.getAwayTeamId())) {
+                    period.setAwayGoals(period.getAwayGoals() + 1);
+                }
+                count(lines, event.getPlayerId(), event.getTeamId(), 1, 0, 0);
+                count(lines, event.getAssist1PlayerId(), event.getTeamId(), 0, 1, 0);
+                count(lines, event.getAssist2PlayerId(), event.getTeamId(), 0, 1, 0);
+            } else if ("penalty".equalsIgnoreCase(event.getEventType())) {
+                document.getPenalties().add(new BoxScoreDto.Penalty(event.getId(), event.getPeriod(), event.getTimeMinutes(),
+                        event.getTimeSeconds(), event.getTeamId(), event.getPlayerId(), event.getPenaltyMinutes(),
+                        event.getDescription()));
+                count(lines, event.getPlayerId(), event.getTeamId(), 0, 0,
+                        event.getPenaltyMinutes() == null ? 0 : event.getPenaltyMinutes());
+            }
+        }
+        document.getPeriods().addAll(periods.values());
+        document.getPoints().addAll(lines.values());
+        // Stable sort: players level on points and goals keep the order they first appeared in
+        document.getPoints().sort(Comparator.comparing(BoxScoreDto.PlayerLine::getPoints)
+                .thenComparing(BoxScoreDto.PlayerLine::getGoals).reversed());
+        document.setAwards(awards(game.getId()));
+        return document;
+    }
+
+    private List<BoxScoreDto.Award> awards(Long gameId) {
+        return awardRepository.findByGameId(gameId).stream()
+                .sorted(Comparator.comparing(TournamentAward::getId))
+                .map(a -> new BoxScoreDto.Award(a.getAwardType(), a.getPlayerId(), a.getTeamId(),
+                        a.getAwardedByTeamId(), a.getNote()))
+                .toList();
+    }
+
+    private static void count(Map<Long, BoxScoreDto.PlayerLine> lines, Long playerId, Long teamId,
+            int goals, int assists, int penaltyMinutes) {
+        if (playerId == null) {
+            return;
+        }
+        BoxScoreDto.PlayerLine line = lines.computeIfAbsent(playerId,
+                id -> new BoxScoreDto.PlayerLine(id, teamId, 0, 0, 0, 0));
+        line.setGoals(line.getGoals() + goals);
+        line.setAssists(line.getAssists() + assists);
+        line.setPoints(line.getGoals() + line.getAssists());
+        line.setPenaltyMinutes(line.getPenaltyMinutes() + penaltyMinutes);
+    }
+
+    /** Every player the box score names: point and penalty lines, then award recipients. */
+    private static Set<Long> playerIds(BoxScoreDto.Document document) {
+        Set<Long> ids = new LinkedHashSet<>();
+        document.getPoints().forEach(line -> ids.add(line.getPlayerId()));
+        document.getAwards().forEach(award -> ids.add(award.getPlayerId()));
+        ids.remove(null);
+        return ids;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize box score", e);
+        }
+    }
+
+    private <T> T fromJson(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read stored box score", e);
+        }
+    }
+
+    private <T> T fromJson(String json, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read stored box score", e);
+        }
+    }
+
+    /** The fields of a stats-service player that a box score shows. */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record RosterPlayer(Long id, String firstName, String lastName, Integer jerseyNumber) {
+        BoxScoreDto.PlayerName toName() {
+            return new BoxScoreDto.PlayerName(firstName, lastName, jerseyNumber);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.obhl.game.service.live;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.obhl.game.dto.LiveScoreUpdate;
+import com.obhl.game.model.Game;
+import com.obhl.game.service.TransactionCallbacks;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The live score stream, {@code GET /games/live}: a Server-Sent Events feed of score, period and
+ * status changes, emitted as they commit.
+ *
+ * <p>Its subscribers are meant to be api-gateway instances, which hold one connection each and fan
+ * it out to browsers, so the list here stays short and every send happens under one lock -- that
+ * keeps events in order per subscriber and lets a reconnecting one replay without gaps.
+ *
+ * <p>Event ids are {@code <run>-<n>}, where {@code run} identifies this process. The last
+ * {@code live.replay-size} events are kept; a subscriber that reconnects with a {@code Last-Event-ID}
+ * still in that window gets exactly what it missed. One from an earlier run, or too far behind,
+ * gets a {@code reset} event instead and should refetch the scores it shows. A comment line goes
+ * out every {@code live.heartbeat-ms} so idle connections survive proxies and dead ones are noticed.
+ */
+@Component
+@Slf4j
+public class LiveScoreHub {
+
+    public static final String SCORE_EVENT = "score";
+    public static final String RESET_EVENT = "reset";
+
+    private static final long EMITTER_TIMEOUT_MS = Duration.ofMinutes(30).toMillis();
+    private static final long RECONNECT_MS = 3_000;
+    private static final int REMEMBERED_GAMES = 1_000;
+
+    private record Entry(long n, String id, LiveScoreUpdate update) {
+    }
+
+    private final int replaySize;
+    private final String run = Long.toString(System.currentTimeMillis(), 36);
+    private final Set<SseEmitter> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter published;
+
+    // Guarded by this
+    private final Deque<Entry> recent = new ArrayDeque<>();
+    private long sequence;
+    /** Last scoreboard sent per game, so a write that changed none of it sends nothing. */
+    private final Map<Long, LiveScoreUpdate> lastSent = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, LiveScoreUpdate> eldest) {
+            return size() > REMEMBERED_GAMES;
+        }
+    };
+
+    public LiveScoreHub(@Value("${live.replay-size:512}") int replaySize, MeterRegistry meterRegistry) {
+        this.replaySize = replaySize;
+        this.published = Counter.builder("game.live.events")
+                .description("Score events published on the live stream")
+                .register(meterRegistry);
+        Gauge.builder("game.live.subscribers", subscribers, Set::size)
+                .description("Open live score stream connections")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publishes the game's scoreboard once the current transaction commits, read from the entity at
+     * that point so later changes in the same transaction are included.
+     */
+    public void gameChanged(Game game) {
+        TransactionCallbacks.afterCommit(() -> publish(LiveScoreUpdate.of(game)));
+    }
+
+    synchronized void publish(LiveScoreUpdate update) {
+        if (update.equals(lastSent.put(update.getGameId(), update))) {
+            return;
+        }
+        long n = ++sequence;
+        Entry entry = new Entry(n, run + "-" + n, update);
+        recent.addLast(entry);
+        if (recent.size() > replaySize) {
+            recent.removeFirst();
+        }
+        published.increment();
+        subscribers.forEach(emitter -> send(emitter, scoreEvent(entry)));
+    }
+
+    /** A new subscription, first replaying what a reconnecting subscriber missed since {@code lastEventId}. */
+    public synchronized SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(emitter));
+
+        boolean ok;
+        Long resumeAfter = lastEventId == null || lastEventId.isBlank() ? null : resumePoint(lastEventId);
+        if (lastEventId == null || lastEventId.isBlank()) {
+            // Nothing to catch up on; this just gets the response headers out now
+            ok = send(emitter, SseEmitter.event().comment("connected").reconnectTime(RECONNECT_MS));
+        } else if (resumeAfter == null) {
+            SseEmitter.SseEventBuilder reset = SseEmitter.event().name(RESET_EVENT).data("{}").reconnectTime(RECONNECT_MS);
+            if (!recent.isEmpty()) {
+                reset.id(recent.getLast().id());
+            }
+            ok = send(emitter, reset);
+        } else {
+            ok = send(emitter, SseEmitter.event().comment("resumed").reconnectTime(RECONNECT_MS));
+            for (Entry entry : recent) {
+                if (ok && entry.n() > resumeAfter) {
+                    ok = send(emitter, scoreEvent(entry));
+                }
+            }
+        }
+        if (ok) {
+            subscribers.add(emitter);
+        }
+        return emitter;
+    }
+
+    @Scheduled(fixedRateString = "${live.heartbeat-ms:15000}")
+    synchronized void heartbeat() {
+        subscribers.forEach(emitter -> send(emitter, SseEmitter.event().comment("heartbeat")));
+    }
+
+    /** The sequence number to replay after, or null if {@code lastEventId} can't be resumed from. */
+    private Long resumePoint(String lastEventId) {
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash < 0 || !run.equals(lastEventId.substring(0, dash))) {
+            return null;
+        }
+        long n;
+        try {
+            n = Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        long oldest = recent.isEmpty() ? sequence + 1 : recent.getFirst().n();
+        return n > sequence || n < oldest - 1 ? null : n;
+    }
+
+    private static SseEmitter.SseEventBuilder scoreEvent(Entry entry) {
+        return SseEmitter.event().id(entry.id()).name(SCORE_EVENT).data(entry.update());
+    }
+
+    private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // The client went away; the container completes the request
+            subscribers.remove(emitter);
+            log.debug("Dropped live score subscriber: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.obhl.game.service.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.obhl.game.dto.PlayerStatsUpdateDto;
+import com.obhl.game.model.OutboxEvent;
+import com.obhl.game.repository.OutboxEventRepository;
+import com.obhl.game.service.PlayerStatsAggregator;
+import com.obhl.game.service.TeamStatsUpdater;
+import com.obhl.game.service.boxscore.BoxScoreService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delivers game_outbox rows to api-gateway (team standings) and stats-service (player stats), and
+ * fills in the player names of frozen box scores from stats-service.
+ *
+ * <p>Each pass claims up to {@code outbox.dispatch.batch-size} due rows in a short transaction,
+ * marking them IN_FLIGHT for {@code outbox.dispatch.lease-ms}, then delivers them with no
+ * transaction or row lock held, and records the outcome in a second short transaction -- only on
+ * rows its lease still holds. A slow downstream therefore holds nothing but its own rows' lease.
+ * A dispatcher that dies mid-delivery
+ * leaves its rows to be claimed again when the lease lapses, which is safe because every delivery
+ * is idempotent: player_stats_ledger (migration 059), team_stats_ledger (069), and a name lookup
+ * that does nothing once the names are in.
+ *
+ * <p>All claimed PLAYER_STATS rows go to stats-service in ONE batch call; if that call fails they
+ * are retried one by one so a single bad game cannot hold the rest hostage. TEAM_STATS rows go one
+ * call per team. A failed row is retried with exponential backoff and parked as DEAD after
+ * {@code outbox.retry.max-attempts}.
+ *
+ * <p>Metrics (actuator /metrics): {@code game.outbox.pending} (including in flight),
+ * {@code game.outbox.dead}, {@code game.outbox.lag.seconds} (age of the oldest undelivered row --
+ * how far behind standings and stats are), and counters {@code game.outbox.delivered} /
+ * {@code game.outbox.retried}.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final TypeReference<List<PlayerStatsUpdateDto>> PLAYER_LINES = new TypeReference<>() {
+    };
+    private static final TypeReference<Map<String, Integer>> TEAM_DELTA = new TypeReference<>() {
+    };
+    private static final List<String> UNDELIVERED = List.of(OutboxEvent.PENDING, OutboxEvent.IN_FLIGHT);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TeamStatsUpdater teamStatsUpdater;
+    private final PlayerStatsAggregator playerStatsAggregator;
+    private final BoxScoreService boxScoreService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter delivered;
+    private final Counter retried;
+
+    @Value("${outbox.dispatch.batch-size:50}")
+    private int batchSize;
+
+    @Value("${outbox.dispatch.lease-ms:300000}")
+    private long leaseMs;
+
+    @Value("${outbox.retry.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.retry.base-delay-ms:2000}")
+    private long baseDelayMs;
+
+    @Value("${outbox.retry.max-delay-ms:600000}")
+    private long maxDelayMs;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+            TeamStatsUpdater teamStatsUpdater,
+            PlayerStatsAggregator playerStatsAggregator,
+            BoxScoreService boxScoreService,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.teamStatsUpdater = teamStatsUpdater;
+        this.playerStatsAggregator = playerStatsAggregator;
+        this.boxScoreService = boxScoreService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+
+        Gauge.builder("game.outbox.pending", pending, AtomicLong::get)
+                .description("Outbox rows waiting to be delivered")
+                .register(meterRegistry);
+        Gauge.builder("game.outbox.dead", dead, AtomicLong::get)
+                .description("Outbox rows that exhausted their retries")
+                .register(meterRegistry);
+        Gauge.builder("game.outbox.lag.seconds", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest undelivered outbox row")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.delivered = Counter.builder("game.outbox.delivered").register(meterRegistry);
+        this.retried = Counter.builder("game.outbox.retried").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatch.interval-ms:2000}")
+    public void dispatch() {
+        try {
+            List<OutboxEvent> claimed;
+            do {
+                // Millisecond precision, so the lease reads back from the column exactly as written
+                LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+                LocalDateTime leaseUntil = now.plus(Duration.ofMillis(leaseMs));
+                claimed = transactionTemplate.execute(status -> claim(now, leaseUntil));
+                deliver(claimed);
+                List<OutboxEvent> outcomes = claimed;
+                transactionTemplate.executeWithoutResult(status -> record(outcomes, leaseUntil));
+            } while (claimed.size() >= batchSize);
+        } catch (Exception e) {
+            log.error("Outbox dispatch pass failed: {}", e.getMessage());
+        } finally {
+            refreshGauges();
+        }
+    }
+
+    /**
+     * Locks the due rows just long enough to mark them IN_FLIGHT until the lease expires.
+     *
+     * @return rows claimed; a full batch means there may be more due
+     */
+    private List<OutboxEvent> claim(LocalDateTime now, LocalDateTime leaseUntil) {
+        List<OutboxEvent> due = outboxEventRepository.claimDue(now, batchSize);
+        for (OutboxEvent event : due) {
+            event.setStatus(OutboxEvent.IN_FLIGHT);
+            event.setNextAttemptAt(leaseUntil);
+        }
+        return outboxEventRepository.saveAll(due);
+    }
+
+    /**
+     * Writes each row's outcome where this pass's lease still holds it. A row whose lease ran out
+     * mid-delivery keeps whatever the pass that re-claimed it recorded.
+     */
+    private void record(List<OutboxEvent> outcomes, LocalDateTime leaseUntil) {
+        for (OutboxEvent event : outcomes) {
+            int written = outboxEventRepository.recordOutcome(event.getId(), leaseUntil, event.getStatus(),
+                    event.getAttempts(), event.getNextAttemptAt(), event.getLastError(), event.getDeliveredAt());
+            if (written == 0) {
+                log.warn("Outbox {} for game {} outlived its lease and was re-claimed; dropping this pass's outcome ({})",
+                        event.getEventType(), event.getGameId(), event.getStatus());
+            }
+        }
+    }
+
+    /** Calls out for each claimed row and sets its outcome on it; runs with no transaction open. */
+    private void deliver(List<OutboxEvent> due) {
+        List<OutboxEvent> playerRows = new ArrayList<>();
+        for (OutboxEvent event : due) {
+            if (OutboxEvent.PLAYER_STATS.equals(event.getEventType())) {
+                playerRows.add(event);
+            } else {
+                deliverOne(event);
+            }
+        }
+        deliverPlayerStats(playerRows);
+    }
+
+    private void deliverPlayerStats(List<OutboxEvent> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        if (rows.size() > 1) {
+            try {
+                List<PlayerStatsUpdateDto> lines = new ArrayList<>();
+                for (OutboxEvent row : rows) {
+                    lines.addAll(objectMapper.readValue(row.getPayload(), PLAYER_LINES));
+                }
+                playerStatsAggregator.sendBatch(lines);
+                rows.forEach(this::markDelivered);
+                return;
+            } catch (Exception e) {
+                log.warn("Batched player stats delivery of {} games failed, retrying individually: {}",
+                        rows.size(), e.getMessage());
+            }
+        }
+        rows.forEach(this::deliverOne);
+    }
+
+    private void deliverOne(OutboxEvent event) {
+        try {
+            if (OutboxEvent.PLAYER_STATS.equals(event.getEventType())) {
+                playerStatsAggregator.sendBatch(objectMapper.readValue(event.getPayload(), PLAYER_LINES));
+            } else if (OutboxEvent.BOX_SCORE_NAMES.equals(event.getEventType())) {
+                boxScoreService.resolveNames(event.getGameId());
+            } else {
+                deliverTeamDelta(event);
+            }
+            markDelivered(event);
+        } catch (Exception e) {
+            markFailed(event, e);
+        }
+    }
+
+    private void deliverTeamDelta(OutboxEvent event) throws Exception {
+        JsonNode payload = objectMapper.readTree(event.getPayload());
+        if (payload.has("delta")) {
+            TeamStatsUpdater.TeamDelta delta = objectMapper.treeToValue(payload, TeamStatsUpdater.TeamDelta.class);
+            teamStatsUpdater.applyTeamDelta(event.getTargetId(), event.getGameId(), delta.direction(), delta.delta());
+        } else {
+            // Queued before deltas carried a direction: a bare map, applied without the ledger
+            teamStatsUpdater.applyTeamDelta(event.getTargetId(), null, null,
+                    objectMapper.convertValue(payload, TEAM_DELTA));
+        }
+    }
+
+    private void markDelivered(OutboxEvent event) {
+        event.setStatus(OutboxEvent.DELIVERED);
+        event.setDeliveredAt(LocalDateTime.now());
+        event.setAttempts(event.getAttempts() + 1);
+        event.setLastError(null);
+        delivered.increment();
+    }
+
+    private void markFailed(OutboxEvent event, Exception e) {
+        int attempts = event.getAttempts() + 1;
+        event.setStatus(OutboxEvent.PENDING);
+        event.setAttempts(attempts);
+        event.setLastError(truncate(e.getMessage()));
+        if (attempts >= maxAttempts) {
+            event.setStatus(OutboxEvent.DEAD);
+            log.error("Outbox {} for game {} is DEAD after {} attempts: {}",
+                    event.getEventType(), event.getGameId(), attempts, e.getMessage());
+            return;
+        }
+        long delay = Math.min(maxDelayMs, baseDelayMs << Math.min(attempts - 1, 20));
+        event.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(delay)));
+        retried.increment();
+        log.warn("Outbox {} for game {} failed (attempt {}), retrying in {} ms: {}",
+                event.getEventType(), event.getGameId(), attempts, delay, e.getMessage());
+    }
+
+    private void refreshGauges() {
+        try {
+            pending.set(outboxEventRepository.countByStatusIn(UNDELIVERED));
+            dead.set(outboxEventRepository.countByStatus(OutboxEvent.DEAD));
+            lagSeconds.set(outboxEventRepository.findFirstByStatusInOrderByIdAsc(UNDELIVERED)
+                    .map(oldest -> Math.max(0, Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).toSeconds()))
+                    .orElse(0L));
+        } catch (Exception e) {
+            log.debug("Could not refresh outbox gauges: {}", e.getMessage());
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+}
@@ -0,0 +1,106 @@
+package com.obhl.game.service.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.obhl.game.dto.PlayerStatsUpdateDto;
+import com.obhl.game.model.Game;
+import com.obhl.game.model.OutboxEvent;
+import com.obhl.game.repository.OutboxEventRepository;
+import com.obhl.game.service.PlayerStatsAggregator;
+import com.obhl.game.service.TeamStatsUpdater;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write side of the game outbox. Called from GameService inside the finalize/unfinalize
+ * transaction: the standings and player-stat deltas are computed from the game as it is right now
+ * and stored, and {@link OutboxDispatcher} delivers them once the transaction has committed. If the
+ * game transaction rolls back, so do its outbox rows -- nothing is ever sent for a finalize that
+ * did not happen.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TeamStatsUpdater teamStatsUpdater;
+    private final PlayerStatsAggregator playerStatsAggregator;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param includePlayerStats false for forfeits -- the game wasn't actually played
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueFinalized(Game game, boolean includePlayerStats) {
+        enqueueTeamDeltas(game, teamStatsUpdater.updateDeltas(game), TeamStatsUpdater.APPLY);
+        if (includePlayerStats) {
+            enqueuePlayerStats(game, playerStatsAggregator.buildStatsUpdates(game));
+        }
+    }
+
+    /**
+     * Must be called with the game still holding its completed values, before anything is reset.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueUnfinalized(Game game, boolean includePlayerStats) {
+        enqueueTeamDeltas(game, teamStatsUpdater.revertDeltas(game), TeamStatsUpdater.REVERT);
+        if (includePlayerStats) {
+            enqueuePlayerStats(game, playerStatsAggregator.buildStatsReversion(game));
+        }
+    }
+
+    /** Queues the player name lookup for the game's frozen box score (BoxScoreService.resolveNames). */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueBoxScoreNames(Game game) {
+        save(game, OutboxEvent.BOX_SCORE_NAMES, null, Map.of());
+    }
+
+    /** Withdraws a name lookup that has not run yet, because the snapshot it was for is gone or replaced. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void cancelBoxScoreNames(Long gameId) {
+        outboxEventRepository.deleteByGameIdAndEventTypeAndStatus(gameId, OutboxEvent.BOX_SCORE_NAMES, OutboxEvent.PENDING);
+    }
+
+    private void enqueueTeamDeltas(Game game, Map<Long, Map<String, Integer>> deltas, String direction) {
+        // One row per team, so a failure delivering one side never re-sends the other.
+        deltas.forEach((teamId, delta) -> save(game, OutboxEvent.TEAM_STATS, teamId,
+                new TeamStatsUpdater.TeamDelta(direction, delta)));
+    }
+
+    private void enqueuePlayerStats(Game game, List<PlayerStatsUpdateDto> lines) {
+        if (!lines.isEmpty()) {
+            save(game, OutboxEvent.PLAYER_STATS, null, lines);
+        }
+    }
+
+    private void save(Game game, String eventType, Long targetId, Object payload) {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent event = new OutboxEvent();
+        event.setGameId(game.getId());
+        event.setEventType(eventType);
+        event.setTargetId(targetId);
+        event.setPayload(toJson(payload));
+        event.setNextAttemptAt(now);
+        event.setCreatedAt(now);
+        outboxEventRepository.save(event);
+        log.debug("Queued {} for game {}", eventType, game.getId());
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox payload", e);
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package com.obhl.game.service.schedule;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Improves a league schedule by randomized local search, starting from the greedy one that
+ * {@code ScheduleGeneratorService} builds.
+ *
+ * <p>Pure: no Spring, no repositories, no entities. A schedule is a set of games, each sitting in
+ * one slot; slots belong to a week and have a time category (early/mid/late) and a rink. Two moves
+ * keep every week's structure intact:
+ * <ul>
+ * <li><b>slot swap</b> -- two games in the same week trade slots (changes who gets the late ice
+ * and which rink);</li>
+ * <li><b>round swap</b> -- two weeks with the same number of slots trade their whole set of
+ * matchups (changes which pairings land in consecutive weeks). A team still plays exactly as often
+ * each week as it did before.</li>
+ * </ul>
+ * A move is kept when it does not make the objective worse, so the search can drift across
+ * plateaus. Each worker searches on its own from a differently shuffled copy of the start, until
+ * the time budget runs out; the best schedule any worker found wins. Workers run on an executor
+ * the caller owns and shares between requests, so concurrent optimizations cannot multiply
+ * threads.
+ *
+ * <p>The objective, lower is better, is a weighted sum of:
+ * <ul>
+ * <li><b>time balance</b> -- per team, squared distance of its early/mid/late counts from its
+ * share of the season's early/mid/late ice;</li>
+ * <li><b>repeat matchups</b> -- the same two teams meeting in consecutive weeks;</li>
+ * <li><b>back-to-back late</b> -- a team playing the late slot two weeks running;</li>
+ * <li><b>rink spread</b> -- per team, squared distance of its rink counts from an even share.</li>
+ * </ul>
+ */
+public final class LeagueScheduleOptimizer {
+
+    private LeagueScheduleOptimizer() {
+    }
+
+    public static final int EARLY = 0;
+    public static final int MID = 1;
+    public static final int LATE = 2;
+
+    static final double WEIGHT_TIME_BALANCE = 1.0;
+    static final double WEIGHT_REPEAT_MATCHUP = 4.0;
+    static final double WEIGHT_BACK_TO_BACK_LATE = 1.0;
+    static final double WEIGHT_RINK_SPREAD = 0.5;
+
+    /** How often a worker looks at the clock, in moves. */
+    private static final int CLOCK_CHECK_INTERVAL = 256;
+
+    /**
+     * @param category {@link #EARLY}, {@link #MID} or {@link #LATE}
+     */
+    public record Slot(int week, int category, String rink) {
+    }
+
+    public record Pairing(long homeTeamId, long awayTeamId) {
+    }
+
+    public record Objective(double total, double timeBalance, int repeatMatchups,
+            int backToBackLate, double rinkSpread) {
+    }
+
+    /**
+     * @param slotOfPairing for each pairing (by index), the index of the slot it ended up in
+     */
+    public record Result(int[] slotOfPairing, Objective initial, Objective best,
+            long movesTried, int workers) {
+    }
+
+    /**
+     * @param slots         every slot; all of them are filled
+     * @param pairings      one per slot
+     * @param slotOfPairing the starting assignment, pairing index to slot index (a permutation)
+     * @param budget        wall-clock time the search may use
+     * @param workers       parallel searches to run
+     * @param seed          makes a run repeatable, given the same number of moves
+     * @param executor      runs the searches; a search that only starts once the budget is spent
+     *                      returns its starting point
+     * @throws IllegalStateException if {@code executor} rejects a search
+     */
+    public static Result optimize(List<Slot> slots, List<Pairing> pairings, int[] slotOfPairing,
+            Duration budget, int workers, long seed, ExecutorService executor) {
+        if (slots.size() != pairings.size() || slotOfPairing.length != slots.size()) {
+            throw new IllegalArgumentException("Every slot needs exactly one pairing");
+        }
+        Model model = new Model(slots, pairings);
+        int[] start = new int[slots.size()];
+        for (int p = 0; p < slotOfPairing.length; p++) {
+            start[slotOfPairing[p]] = p;
+        }
+        Objective initial = model.evaluate(start);
+        if (slots.isEmpty() || workers < 1 || budget.isZero() || budget.isNegative()) {
+            return new Result(slotOfPairing.clone(), initial, initial, 0, 0);
+        }
+
+        long deadline = System.nanoTime() + budget.toNanos();
+        List<Search> searches = new ArrayList<>();
+        List<Future<Search>> running = new ArrayList<>();
+        try {
+            for (int w = 0; w < workers; w++) {
+                Search search = new Search(model, start, new SplittableRandom(seed + w), w);
+                running.add(executor.submit(() -> search.run(deadline)));
+            }
+            for (Future<Search> future : running) {
+                searches.add(future.get());
+            }
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("The schedule optimizer is busy; try again shortly", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Schedule optimization interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Schedule optimization failed", e.getCause());
+        } finally {
+            // Only does anything on failure; the threads are shared, so stop just these searches
+            running.forEach(future -> future.cancel(true));
+        }
+
+        Search winner = searches.get(0);
+        long moves = 0;
+        for (Search search : searches) {
+            moves += search.moves;
+            if (search.bestObjective.total() < winner.bestObjective.total()) {
+                winner = search;
+            }
+        }
+
+        int[] result = new int[slots.size()];
+        for (int s = 0; s < winner.best.length; s++) {
+            result[winner.best[s]] = s;
+        }
+        return new Result(result, initial, winner.bestObjective, moves, workers);
+    }
+
+    /** Scores an assignment without searching. */
+    public static Objective evaluate(List<Slot> slots, List<Pairing> pairings, int[] slotOfPairing) {
+        int[] pairingAtSlot = new int[slots.size()];
+        for (int p = 0; p < slotOfPairing.length; p++) {
+            pairingAtSlot[slotOfPairing[p]] = p;
+        }
+        return new Model(slots, pairings).evaluate(pairingAtSlot);
+    }
+
+    /** The fixed part of the problem, indexed for fast evaluation. Shared read-only by workers. */
+    private static final class Model {
+
+        final int teams;
+        final int rinks;
+        final int[] home;
+        final int[] away;
+        final int[] category;
+        final int[] rink;
+        /** Slot indexes per week, weeks in calendar order, each ordered as given. */
+        final int[][] weeks;
+        /** Each team's fair share of early/mid/late ice per game played. */
+        final double[] categoryShare = new double[3];
+        final double[] rinkShare;
+
+        Model(List<Slot> slots, List<Pairing> pairings) {
+            Map<Long, Integer> teamIndex = new HashMap<>();
+            home = new int[pairings.size()];
+            away = new int[pairings.size()];
+            for (int p = 0; p < pairings.size(); p++) {
+                home[p] = teamIndex.computeIfAbsent(pairings.get(p).homeTeamId(), k -> teamIndex.size());
+                away[p] = teamIndex.computeIfAbsent(pairings.get(p).awayTeamId(), k -> teamIndex.size());
+            }
+            teams = teamIndex.size();
+
+            Map<String, Integer> rinkIndex = new HashMap<>();
+            TreeMap<Integer, List<Integer>> byWeek = new TreeMap<>();
+            category = new int[slots.size()];
+            rink = new int[slots.size()];
+            for (int s = 0; s < slots.size(); s++) {
+                Slot slot = slots.get(s);
+                category[s] = slot.category();
+                rink[s] = rinkIndex.computeIfAbsent(String.valueOf(slot.rink()), k -> rinkIndex.size());
+                byWeek.computeIfAbsent(slot.week(), k -> new ArrayList<>()).add(s);
+                categoryShare[slot.category()] += 1.0 / slots.size();
+            }
+            rinks = rinkIndex.size();
+            rinkShare = new double[rinks];
+            for (int s = 0; s < slots.size(); s++) {
+                rinkShare[rink[s]] += 1.0 / slots.size();
+            }
+            weeks = byWeek.values().stream()
+                    .map(list -> list.stream().mapToInt(Integer::intValue).toArray())
+                    .toArray(int[][]::new);
+        }
+
+        Objective evaluate(int[] pairingAtSlot) {
+            int[][] categoryCount = new int[teams][3];
+            int[][] rinkCount = new int[teams][rinks];
+            int[] games = new int[teams];
+            for (int s = 0; s < pairingAtSlot.length; s++) {
+                int p = pairingAtSlot[s];
+                categoryCount[home[p]][category[s]]++;
+                categoryCount[away[p]][category[s]]++;
+                rinkCount[home[p]][rink[s]]++;
+                rinkCount[away[p]][rink[s]]++;
+                games[home[p]]++;
+                games[away[p]]++;
+            }
+
+            double timeBalance = 0;
+            double rinkSpread = 0;
+            for (int t = 0; t < teams; t++) {
+                for (int c = 0; c < 3; c++) {
+                    double off = categoryCount[t][c] - games[t] * categoryShare[c];
+                    timeBalance += off * off;
+                }
+                for (int r = 0; r < rinks; r++) {
+                    double off = rinkCount[t][r] - games[t] * rinkShare[r];
+                    rinkSpread += off * off;
+                }
+            }
+
+            int repeats = 0;
+            int backToBackLate = 0;
+            for (int w = 1; w < weeks.length; w++) {
+                for (int a : weeks[w - 1]) {
+                    int pa = pairingAtSlot[a];
+                    for (int b : weeks[w]) {
+                        int pb = pairingAtSlot[b];
+                        if ((home[pa] == home[pb] && away[pa] == away[pb])
+                                || (home[pa] == away[pb] && away[pa] == home[pb])) {
+                            repeats++;
+                        }
+                        if (category[a] == LATE && category[b] == LATE) {
+                            backToBackLate += sharedTeams(pa, pb);
+                        }
+                    }
+                }
+            }
+
+            double total = WEIGHT_TIME_BALANCE * timeBalance
+                    + WEIGHT_REPEAT_MATCHUP * repeats
+                    + WEIGHT_BACK_TO_BACK_LATE * backToBackLate
+                    + WEIGHT_RINK_SPREAD * rinkSpread;
+            return new Objective(total, timeBalance, repeats, backToBackLate, rinkSpread);
+        }
+
+        private int sharedTeams(int pa, int pb) {
+            int shared = 0;
+            if (home[pa] == home[pb] || home[pa] == away[pb]) {
+                shared++;
+            }
+            if (away[pa] == home[pb] || away[pa] == away[pb]) {
+                shared++;
+            }
+            return shared;
+        }
+    }
+
+    /** One worker's hill climb. Owns its arrays; only reads the model. */
+    private static final class Search {
+
+        private final Model model;
+        private final int[] current;
+        private final SplittableRandom random;
+        /** Pairs of week indexes with the same slot count, eligible for a round swap. */
+        private final int[][] swappableWeeks;
+        private int[] best;
+        private Objective bestObjective;
+        private long moves;
+
+        Search(Model model, int[] start, SplittableRandom random, int worker) {
+            this.model = model;
+            this.current = start.clone();
+            this.random = random;
+            List<int[]> pairs = new ArrayList<>();
+            for (int a = 0; a < model.weeks.length; a++) {
+                for (int b = a + 1; b < model.weeks.length; b++) {
+                    if (model.weeks[a].length == model.weeks[b].length) {
+                        pairs.add(new int[] { a, b });
+                    }
+                }
+            }
+            this.swappableWeeks = pairs.toArray(int[][]::new);
+            // Worker 0 climbs from the greedy schedule itself; the others start from a shuffled
+            // copy of it so they explore different neighbourhoods
+            if (worker > 0) {
+                for (int i = 0; i < current.length * 2; i++) {
+                    move();
+                }
+            }
+        }
+
+        Search run(long deadline) {
+            Objective objective = model.evaluate(current);
+            best = current.clone();
+            bestObjective = objective;
+            while (true) {
+                if (moves % CLOCK_CHECK_INTERVAL == 0
+                        && (System.nanoTime() >= deadline || Thread.currentThread().isInterrupted())) {
+                    return this;
+                }
+                moves++;
+                int[] undo = move();
+                if (undo == null) {
+                    continue;
+                }
+                Objective candidate = model.evaluate(current);
+                if (candidate.total() <= objective.total()) {
+                    objective = candidate;
+                    if (objective.total() < bestObjective.total()) {
+                        bestObjective = objective;
+                        System.arraycopy(current, 0, best, 0, current.length);
+                    }
+                } else {
+                    revert(undo);
+                }
+            }
+        }
+
+        /** Applies a random move and returns the slot pairs it swapped, or null if none applied. */
+        private int[] move() {
+            if (swappableWeeks.length > 0 && random.nextInt(4) == 0) {
+                int[] weeks = swappableWeeks[random.nextInt(swappableWeeks.length)];
+                int[] a = model.weeks[weeks[0]];
+                int[] b = model.weeks[weeks[1]];
+                int[] undo = new int[a.length * 2];
+                for (int i = 0; i < a.length; i++) {
+                    swap(a[i], b[i]);
+                    undo[2 * i] = a[i];
+                    undo[2 * i + 1] = b[i];
+                }
+                return undo;
+            }
+            int[] week = model.weeks[random.nextInt(model.weeks.length)];
+            if (week.length < 2) {
+                return null;
+            }
+            int i = random.nextInt(week.length);
+            int j = random.nextInt(week.length - 1);
+            if (j >= i) {
+                j++;
+            }
+            swap(week[i], week[j]);
+            return new int[] { week[i], week[j] };
+        }
+
+        private void revert(int[] undo) {
+            for (int i = 0; i < undo.length; i += 2) {
+                swap(undo[i], undo[i + 1]);
+            }
+        }
+
+        private void swap(int s, int t) {
+            int tmp = current[s];
+            current[s] = current[t];
+            current[t] = tmp;
+        }
+    }
+}
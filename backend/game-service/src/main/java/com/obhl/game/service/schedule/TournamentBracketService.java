@@ -41,6 +41,7 @@ public class TournamentBracketService {
 
     private final GameRepository gameRepository;
     private final TournamentStandingsService standingsService;
+    private final com.obhl.game.service.SeasonScheduleCache seasonScheduleCache;
 
     private static final String TYPE = "TOURNAMENT";
     private static final List<String> GROUP_STAGES = List.of("POOL", "ROUND_ROBIN");
@@ -190,6 +191,7 @@ public class TournamentBracketService {
                 g.setAwayTeamId(ranked.get(order.get(i * 2 + 1) - 1));
                 gameRepository.save(g);
             }
+            seasonScheduleCache.evict(seasonId);
             log.info("Seeded {} bracket game(s) for season {}", firstRound.size(), seasonId);
         }
 
@@ -204,6 +206,7 @@ public class TournamentBracketService {
                     g.setAwayTeamId(rest.get(order.get(i * 2 + 1) - 1));
                     gameRepository.save(g);
                 }
+                seasonScheduleCache.evict(seasonId);
                 log.info("Seeded {} consolation game(s) for season {}", consolation.size(), seasonId);
             } else {
                 log.warn("Season {}: {} non-qualifiers but consolation needs {}", seasonId, rest.size(), needed);
@@ -319,6 +322,7 @@ public class TournamentBracketService {
         if (isHomeSlot(completed.getBracketPosition())) target.setHomeTeamId(loser);
         else target.setAwayTeamId(loser);
         gameRepository.save(target);
+        seasonScheduleCache.evict(target.getSeasonId());
 
         log.info("Placement game: semifinal {} loser {} placed", completed.getBracketPosition(), loser);
     }
@@ -334,6 +338,7 @@ public class TournamentBracketService {
                     if (homeSlot) next.setHomeTeamId(teamId);
                     else next.setAwayTeamId(teamId);
                     gameRepository.save(next);
+                    seasonScheduleCache.evict(next.getSeasonId());
                     log.info("Advanced {} {} into {} position {}", label, teamId, round, position);
                 });
     }
@@ -15,10 +15,13 @@ import com.obhl.game.client.TeamClient;
 import com.obhl.game.dto.GameSlot;
 import com.obhl.game.dto.TeamResponse;
 import com.obhl.game.model.Game;
+import com.obhl.game.repository.GameBatchWriter;
 import com.obhl.game.repository.GameRepository;
+import com.obhl.game.service.SeasonScheduleCache;
 import com.obhl.game.service.schedule.TournamentScheduleGenerator.Config;
 import com.obhl.game.service.schedule.TournamentScheduleGenerator.Plan;
 import com.obhl.game.service.schedule.TournamentScheduleGenerator.PlannedGame;
+import com.obhl.game.service.scoring.TournamentStandingsService;
 
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -39,7 +42,11 @@ public class TournamentScheduleService {
     private static final ZoneId ARENA_ZONE = ZoneId.of("America/Chicago");
 
     private final GameRepository gameRepository;
+    private final GameBatchWriter gameBatchWriter;
     private final TeamClient teamClient;
+    private final SeasonScheduleCache seasonScheduleCache;
+    private final com.obhl.game.service.PenaltyIndex penaltyIndex;
+    private final TournamentStandingsService standingsService;
 
     @Data
     public static class GenerateRequest {
@@ -186,6 +193,9 @@ public class TournamentScheduleService {
      * <p>Replaces rather than appends: regenerating after a format change is the normal reason to
      * run this, and leaving the previous fixtures behind would double the schedule. Completed games
      * are refused rather than deleted -- once results exist, regenerating is a mistake.
+     *
+     * <p>Both the delete and the insert are set-based: one DELETE for the old fixtures and
+     * {@link GameBatchWriter} batches for the new ones, placeholders included.
      */
     @Transactional
     public GenerateResult save(GenerateRequest req) {
@@ -204,12 +214,15 @@ public class TournamentScheduleService {
         }
 
         if (!existing.isEmpty()) {
-            gameRepository.deleteAll(existing);
+            gameRepository.deleteAllByIdInBatch(existing.stream().map(Game::getId).toList());
             preview.getWarnings().add("Replaced " + existing.size() + " previously generated game(s).");
         }
 
-        List<Game> saved = gameRepository.saveAll(preview.getGames());
+        List<Game> saved = gameBatchWriter.insertAll(preview.getGames());
         preview.setGames(saved);
+        seasonScheduleCache.evict(req.getSeasonId());
+        standingsService.evict(req.getSeasonId());
+        penaltyIndex.scheduleChanged();
 
         log.info("Saved {} tournament games for season {}", saved.size(), req.getSeasonId());
         return preview;
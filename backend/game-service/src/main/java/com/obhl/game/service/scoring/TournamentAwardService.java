@@ -27,6 +27,7 @@ public class TournamentAwardService {
 
     private final TournamentAwardRepository awardRepository;
     private final GameRepository gameRepository;
+    private final com.obhl.game.service.boxscore.BoxScoreService boxScoreService;
 
     @Transactional(readOnly = true)
     public List<TournamentAward> forGame(Long gameId) {
@@ -84,12 +85,17 @@ public class TournamentAwardService {
         award.setNote(note);
 
         TournamentAward saved = awardRepository.save(award);
+        // Awards are usually named after the game is finalized; keep its frozen box score in step
+        boxScoreService.refreshAwards(gameId);
         log.info("Chocolate Milk: game {} team {} named player {}", gameId, awardedByTeamId, playerId);
         return saved;
     }
 
     @Transactional
     public void remove(Long awardId) {
-        awardRepository.deleteById(awardId);
+        awardRepository.findById(awardId).ifPresent(award -> {
+            awardRepository.delete(award);
+            boxScoreService.refreshAwards(award.getGameId());
+        });
     }
 }
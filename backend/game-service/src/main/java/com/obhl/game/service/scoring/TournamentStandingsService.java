@@ -1,5 +1,6 @@
 package com.obhl.game.service.scoring;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -7,17 +8,22 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.obhl.game.model.Game;
 import com.obhl.game.model.GameEvent;
 import com.obhl.game.repository.GameEventRepository;
 import com.obhl.game.repository.GameRepository;
+import com.obhl.game.service.TransactionCallbacks;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Tournament standings, computed on read.
@@ -25,20 +31,40 @@ import lombok.RequiredArgsConstructor;
  * <p>Never stored. The denormalised standings columns on the team row are league-shaped and are not
  * written for tournament games (see TeamStatsUpdater), so there is nothing to keep in sync, no
  * revert path to get wrong on unfinalize, and a corrected scoring rule simply produces corrected
- * standings the next time anyone looks. At eight teams and a couple of dozen games the cost is
- * nothing.
+ * standings the next time anyone looks.
+ *
+ * <p>A page view costs a constant number of queries however many games there are: the season's
+ * games, then every event of its completed games in one query, grouped in memory. The finished
+ * table is cached per season and evicted (after commit) whenever a game in that season is
+ * finalized, unfinalized or edited -- see {@link #evict}. The expiry is only a backstop for edits
+ * made around GameService, e.g. a team moving pools in api-gateway.
  *
  * <p>Only group-stage games count. In a round-robin-only tournament these standings decide the
  * champion outright, which is why the tiebreakers matter rather than being decoration.
  */
 @Service
-@RequiredArgsConstructor
 public class TournamentStandingsService {
 
     private final GameRepository gameRepository;
     private final GameEventRepository gameEventRepository;
     private final com.obhl.game.client.TeamClient teamClient;
 
+    private final Cache<Long, List<TeamStanding>> standingsCache = Caffeine.newBuilder()
+            .maximumSize(64)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .recordStats()
+            .build();
+
+    public TournamentStandingsService(GameRepository gameRepository,
+            GameEventRepository gameEventRepository,
+            com.obhl.game.client.TeamClient teamClient,
+            MeterRegistry meterRegistry) {
+        this.gameRepository = gameRepository;
+        this.gameEventRepository = gameEventRepository;
+        this.teamClient = teamClient;
+        CaffeineCacheMetrics.monitor(meterRegistry, standingsCache, "tournamentStandings");
+    }
+
     @Data
     public static class TeamStanding {
         private Long teamId;
@@ -61,13 +87,41 @@ public class TournamentStandingsService {
         }
     }
 
+    /**
+     * Sorted standings for a season. The returned list is shared with the cache: read it, don't
+     * modify it.
+     */
     @Transactional(readOnly = true)
     public List<TeamStanding> getStandings(Long seasonId) {
+        // Bracket seeding reads standings inside the finalize transaction; that view includes the
+        // uncommitted result and must not be cached.
+        if (!TransactionCallbacks.isCacheableRead()) {
+            return computeStandings(seasonId);
+        }
+        return standingsCache.get(seasonId, this::computeStandings);
+    }
+
+    /**
+     * Drops the season's cached table once the current transaction commits. Called for every game
+     * write that can move a tournament table.
+     */
+    public void evict(Long seasonId) {
+        if (seasonId != null) {
+            TransactionCallbacks.afterCommit(() -> standingsCache.invalidate(seasonId));
+        }
+    }
+
+    private List<TeamStanding> computeStandings(Long seasonId) {
         List<Game> games = gameRepository.findBySeasonIdOrderByGameDate(seasonId).stream()
                 .filter(g -> "completed".equals(g.getStatus()))
                 .filter(TournamentPointsPolicy::isPointsBearing)
                 .toList();
 
+        Map<Long, List<GameEvent>> eventsByGame = games.isEmpty()
+                ? Map.of()
+                : gameEventRepository.findByCompletedGamesInSeason(seasonId).stream()
+                        .collect(Collectors.groupingBy(GameEvent::getGameId));
+
         Map<Long, TeamStanding> table = new HashMap<>();
         // head[a][b] = points team a took from games against team b, for the head-to-head tiebreak.
         Map<Long, Map<Long, Integer>> head = new HashMap<>();
@@ -93,7 +147,7 @@ public class TournamentStandingsService {
             head.computeIfAbsent(g.getAwayTeamId(), k -> new HashMap<>())
                     .merge(g.getHomeTeamId(), ap, Integer::sum);
 
-            applyEventDerivedTallies(g, home, away);
+            applyEventDerivedTallies(g, eventsByGame.getOrDefault(g.getId(), List.of()), home, away);
         }
 
         // Division label, so callers can group the table and so bracket seeding can interleave
@@ -109,7 +163,7 @@ public class TournamentStandingsService {
 
         List<TeamStanding> standings = new ArrayList<>(table.values());
         standings.sort(comparator(head));
-        return standings;
+        return List.copyOf(standings);
     }
 
     /**
@@ -173,9 +227,8 @@ public class TournamentStandingsService {
      * where a team's points came from. The points themselves were already computed at finalize by
      * {@link TournamentPointsPolicy} and are read off the game, not recomputed here.
      */
-    private void applyEventDerivedTallies(Game g, TeamStanding home, TeamStanding away) {
+    private void applyEventDerivedTallies(Game g, List<GameEvent> events, TeamStanding home, TeamStanding away) {
         int periodCount = g.getPeriodCount() != null ? g.getPeriodCount() : 2;
-        List<GameEvent> events = gameEventRepository.findByGameId(g.getId());
 
         int[] hg = new int[periodCount];
         int[] ag = new int[periodCount];
@@ -0,0 +1,111 @@
+package com.obhl.game.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.obhl.game.model.Game;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * {@link GameBatchWriter} against H2. Schedule saves hand its games straight back to the caller,
+ * and later edits go through JPA, so the ids have to line up with the games they were read back
+ * for and the version has to be the one the row holds.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false" })
+@Import(GameBatchWriter.class)
+class GameBatchWriterTest {
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = Game.class)
+    @EnableJpaRepositories(basePackageClasses = GameRepository.class)
+    static class JpaOnly {
+    }
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GameBatchWriter gameBatchWriter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Ids come back in list order, across a batch boundary")
+    void idsInOrder() {
+        List<Game> games = games(GameBatchWriter.BATCH_SIZE + 7);
+
+        List<Game> saved = gameBatchWriter.insertAll(games);
+
+        assertEquals(games, saved);
+        for (int i = 0; i < saved.size(); i++) {
+            Game game = saved.get(i);
+            assertNotNull(game.getId());
+            if (i > 0) {
+                assertTrue(game.getId() > saved.get(i - 1).getId(), "ids out of order at " + i);
+            }
+            Game row = gameRepository.findById(game.getId()).orElseThrow();
+            assertEquals(game.getWeek(), row.getWeek(), "id " + game.getId() + " is another game's row");
+            assertEquals(game.getGameDate(), row.getGameDate());
+        }
+    }
+
+    @Test
+    @DisplayName("Version starts at 0, and a JPA save of a returned game moves it to 1")
+    void versionStartsAtZero() {
+        List<Game> saved = gameBatchWriter.insertAll(games(3));
+        saved.forEach(game -> assertEquals(0L, game.getVersion()));
+
+        Game row = gameRepository.findById(saved.get(0).getId()).orElseThrow();
+        assertEquals(0L, row.getVersion());
+
+        Game detached = saved.get(1);
+        detached.setVenue("Madison Ice Arena");
+        gameRepository.saveAndFlush(detached);
+        entityManager.clear();
+        assertEquals(1L, gameRepository.findById(detached.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    @DisplayName("An empty list is a no-op")
+    void empty() {
+        assertTrue(gameBatchWriter.insertAll(List.of()).isEmpty());
+        assertEquals(0, gameRepository.count());
+    }
+
+    /** Distinct week and start time per game, so a row can be matched to the game it came from. */
+    private static List<Game> games(int count) {
+        List<Game> games = new ArrayList<>(count);
+        LocalDateTime start = LocalDateTime.of(2025, 9, 7, 18, 0);
+        for (int i = 0; i < count; i++) {
+            Game g = new Game();
+            g.setSeasonId(1L);
+            g.setLeagueId(1L);
+            g.setHomeTeamId((long) (i % 10));
+            g.setAwayTeamId((long) ((i + 3) % 10));
+            g.setGameDate(start.plusMinutes(75L * i));
+            g.setVenue("Sun Prairie Ice Arena");
+            g.setWeek(i + 1);
+            g.setGameType("REGULAR_SEASON");
+            games.add(g);
+        }
+        return games;
+    }
+}
@@ -0,0 +1,167 @@
+package com.obhl.game.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.obhl.game.dto.GameDto;
+import com.obhl.game.model.Game;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * The list-view projections against the entity they stand in for, in H2. Every getter of
+ * {@link GameScheduleRow} and {@link GameStaffRow} must return what the same getter of the loaded
+ * {@link Game} returns -- the staff query for open referee slots spells its columns out by hand,
+ * so a missing or crossed alias shows up here rather than as a blank on a shift page.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false" })
+class GameReadProjectionTest {
+
+    private static final Long SEASON = 7L;
+    private static final Long USER = 3L;
+
+    /** Response fields the schedule projection leaves out on purpose; see GameScheduleRow. */
+    private static final Set<String> NOT_ON_SCHEDULE = Set.of("gameNotes", "createdAt");
+
+    /** Just JPA and the repositories -- the application class would also pull in Feign and scheduling. */
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = Game.class)
+    @EnableJpaRepositories(basePackageClasses = GameRepository.class)
+    static class JpaOnly {
+    }
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        List<Game> games = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2025, 9, 7, 18, 0);
+        for (int i = 0; i < 12; i++) {
+            Game g = new Game();
+            g.setSeasonId(i < 10 ? SEASON : SEASON + 1);
+            g.setLeagueId(1L);
+            g.setHomeTeamId(100L + i % 4);
+            g.setAwayTeamId(100L + (i + 1) % 4);
+            g.setGameDate(start.plusDays(i));
+            g.setVenue("Sun Prairie Ice Arena");
+            g.setStatus(i % 3 == 0 ? "completed" : "scheduled");
+            g.setHomeScore(i % 5);
+            g.setAwayScore(i % 3);
+            g.setOvertime(i % 4 == 0);
+            g.setShootout(i % 6 == 0);
+            g.setPeriod(i % 3 + 1);
+            g.setEndedInOT(i % 4 == 0);
+            g.setForfeitTeamId(i == 5 ? 101L : null);
+            g.setHomeTeamPoints(i % 3);
+            g.setAwayTeamPoints((i + 1) % 3);
+            g.setWeek(i / 2 + 1);
+            g.setRink(i % 2 == 0 ? "EAST" : "WEST");
+            g.setGameNotes("Notes for game " + i);
+            g.setGameType(i < 8 ? "REGULAR_SEASON" : "PLAYOFF");
+            g.setPlayoffRound(i < 8 ? null : "SEMIFINAL");
+            g.setBracketPosition(i < 8 ? null : i - 7);
+            g.setTournamentStage(i % 2 == 0 ? null : "POOL");
+            g.setPeriodCount(i % 2 == 0 ? null : (short) 2);
+            g.setPeriodMinutes(i % 2 == 0 ? null : (short) 20);
+            g.setGoalie1Id(i % 2 == 0 ? USER : 11L);
+            g.setGoalie2Id(i % 3 == 0 ? 12L : null);
+            g.setReferee1Id(i % 4 == 0 ? null : USER);
+            g.setReferee2Id(i % 3 == 0 ? null : 13L);
+            g.setScorekeeperId(i % 5 == 0 ? null : USER);
+            games.add(g);
+        }
+        gameRepository.saveAllAndFlush(games);
+        // Move a couple of versions off 0, so a projection reading the wrong column can't pass
+        games.get(1).setVenue("Madison Ice Arena");
+        games.get(4).setVenue("Madison Ice Arena");
+        gameRepository.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Schedule rows match the entities")
+    void scheduleRows() {
+        List<GameScheduleRow> rows = gameRepository.findScheduleRowsBySeasonIdOrderByGameDate(SEASON);
+        assertEquals(10, rows.size());
+        assertSameAsEntities(GameScheduleRow.class, rows, GameScheduleRow::getId);
+    }
+
+    @Test
+    @DisplayName("Staff rows from every staff query match the entities")
+    void staffRows() {
+        List<List<GameStaffRow>> results = List.of(
+                gameRepository.findStaffRowsByGoalie1IdOrGoalie2IdOrderByGameDate(USER, USER),
+                gameRepository.findStaffRowsByReferee1IdOrReferee2IdOrderByGameDate(USER, USER),
+                gameRepository.findStaffRowsByScorekeeperIdOrderByGameDate(USER),
+                gameRepository.findStaffRowsBySeasonIdAndScorekeeperIdIsNullOrderByGameDate(SEASON),
+                gameRepository.findStaffRowsNeedingReferee(SEASON));
+        for (List<GameStaffRow> rows : results) {
+            assertFalse(rows.isEmpty());
+            assertSameAsEntities(GameStaffRow.class, rows, GameStaffRow::getId);
+        }
+    }
+
+    @Test
+    @DisplayName("The schedule projection carries every response field the entity mapping fills")
+    void scheduleCoversResponse() {
+        Set<String> projected = Arrays.stream(GameScheduleRow.class.getMethods())
+                .map(Method::getName)
+                .collect(Collectors.toSet());
+        for (Field field : GameDto.Response.class.getDeclaredFields()) {
+            String getter = getter(field.getName());
+            if (NOT_ON_SCHEDULE.contains(field.getName()) || !hasGetter(Game.class, getter)) {
+                continue;
+            }
+            assertTrue(projected.contains(getter), "GameScheduleRow has no " + getter + "()");
+        }
+    }
+
+    private <R> void assertSameAsEntities(Class<R> projection, List<R> rows, Function<R, Long> id) {
+        for (R row : rows) {
+            Game game = gameRepository.findById(id.apply(row)).orElseThrow();
+            for (Method method : projection.getMethods()) {
+                try {
+                    Object expected = Game.class.getMethod(method.getName()).invoke(game);
+                    assertEquals(expected, method.invoke(row),
+                            projection.getSimpleName() + "." + method.getName() + "() for game " + game.getId());
+                } catch (ReflectiveOperationException e) {
+                    throw new AssertionError(method.getName() + "() has no counterpart on Game", e);
+                }
+            }
+        }
+    }
+
+    private static String getter(String property) {
+        return "get" + Character.toUpperCase(property.charAt(0)) + property.substring(1);
+    }
+
+    private static boolean hasGetter(Class<?> type, String name) {
+        return Arrays.stream(type.getMethods()).anyMatch(m -> m.getName().equals(name));
+    }
+}
@@ -0,0 +1,106 @@
+package com.obhl.game.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.obhl.game.model.OutboxEvent;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * {@link OutboxEventRepository#recordOutcome} against H2. A dispatcher whose delivery outlived its
+ * lease reports back after another pass has re-claimed the row, and possibly finished it; only the
+ * pass holding the current lease may write.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false" })
+class OutboxEventRepositoryTest {
+
+    private static final LocalDateTime LEASE = LocalDateTime.of(2025, 9, 7, 18, 5, 0, 123_000_000);
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = OutboxEvent.class)
+    @EnableJpaRepositories(basePackageClasses = OutboxEventRepository.class)
+    static class JpaOnly {
+    }
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private OutboxEvent inFlight(LocalDateTime leaseUntil) {
+        OutboxEvent event = new OutboxEvent();
+        event.setGameId(42L);
+        event.setEventType(OutboxEvent.TEAM_STATS);
+        event.setTargetId(7L);
+        event.setPayload("{}");
+        event.setStatus(OutboxEvent.IN_FLIGHT);
+        event.setAttempts(2);
+        event.setNextAttemptAt(leaseUntil);
+        event.setCreatedAt(LEASE.minusMinutes(10));
+        OutboxEvent saved = outboxEventRepository.saveAndFlush(event);
+        entityManager.clear();
+        return saved;
+    }
+
+    private OutboxEvent reload(Long id) {
+        entityManager.clear();
+        return outboxEventRepository.findById(id).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("The claim that holds the lease records its outcome")
+    void currentLease() {
+        OutboxEvent event = inFlight(LEASE);
+        LocalDateTime deliveredAt = LEASE.minusMinutes(1);
+
+        assertEquals(1, outboxEventRepository.recordOutcome(event.getId(), LEASE, OutboxEvent.DELIVERED, 3,
+                LEASE, null, deliveredAt));
+
+        OutboxEvent row = reload(event.getId());
+        assertEquals(OutboxEvent.DELIVERED, row.getStatus());
+        assertEquals(3, row.getAttempts());
+        assertEquals(deliveredAt, row.getDeliveredAt());
+    }
+
+    @Test
+    @DisplayName("A late outcome does not overwrite a re-claimed row")
+    void reclaimed() {
+        LocalDateTime newLease = LEASE.plusMinutes(5);
+        OutboxEvent event = inFlight(newLease);
+
+        assertEquals(0, outboxEventRepository.recordOutcome(event.getId(), LEASE, OutboxEvent.PENDING, 3,
+                LEASE.plusSeconds(2), "Read timed out", null));
+
+        OutboxEvent row = reload(event.getId());
+        assertEquals(OutboxEvent.IN_FLIGHT, row.getStatus());
+        assertEquals(2, row.getAttempts());
+        assertEquals(newLease, row.getNextAttemptAt());
+        assertNull(row.getLastError());
+    }
+
+    @Test
+    @DisplayName("A late failure does not requeue or kill a row another pass delivered")
+    void alreadyDelivered() {
+        OutboxEvent event = inFlight(LEASE);
+        outboxEventRepository.recordOutcome(event.getId(), LEASE, OutboxEvent.DELIVERED, 3, LEASE, null, LEASE);
+
+        assertEquals(0, outboxEventRepository.recordOutcome(event.getId(), LEASE, OutboxEvent.DEAD, 10,
+                LEASE, "Read timed out", null));
+
+        assertEquals(OutboxEvent.DELIVERED, reload(event.getId()).getStatus());
+    }
+}
@@ -0,0 +1,197 @@
+package com.obhl.game.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.obhl.game.dto.GameSlot;
+import com.obhl.game.service.CsvParserService.SlotParseReport;
+
+/**
+ * Plain JUnit, no Spring, no database. Files are built inline; each test reads one through
+ * {@link CsvParserService#readGameSlots} and checks both the slots and the report.
+ */
+class CsvParserServiceTest {
+
+    private final CsvParserService parser = new CsvParserService();
+
+    private final List<GameSlot> slots = new ArrayList<>();
+
+    private SlotParseReport read(String... lines) throws IOException {
+        return parser.readGameSlots(new StringReader(String.join("\n", lines)), slots::add);
+    }
+
+    @Nested
+    @DisplayName("Layout")
+    class Layout {
+
+        @Test
+        @DisplayName("Header columns are found by name, in any order, around blank lines and a BOM")
+        void header() throws IOException {
+            SlotParseReport report = read(
+                    "\uFEFFWeek,Date,Rink,Time",
+                    "",
+                    "1,2026-06-04,Tubbs,19:00",
+                    "   ",
+                    "2,6/11/2026,cardinal rink,7:30 PM",
+                    "");
+
+            assertEquals(2, report.rowsRead());
+            assertEquals(2, report.slotsParsed());
+            assertFalse(report.hasErrors());
+            assertEquals(List.of(
+                    new GameSlot(1, LocalDate.of(2026, 6, 4), LocalTime.of(19, 0), "Tubbs"),
+                    new GameSlot(2, LocalDate.of(2026, 6, 11), LocalTime.of(19, 30), "Cardinal")), slots);
+        }
+
+        @Test
+        @DisplayName("Without a header the columns are week, date, time, rink")
+        void positional() throws IOException {
+            SlotParseReport report = read("3,6/18/26,21:15,Tubbs");
+
+            assertEquals(1, report.slotsParsed());
+            assertEquals(new GameSlot(3, LocalDate.of(2026, 6, 18), LocalTime.of(21, 15), "Tubbs"), slots.get(0));
+        }
+
+        @Test
+        @DisplayName("A quoted field keeps its commas and does not shift the columns after it")
+        void quotedCommas() throws IOException {
+            SlotParseReport report = read(
+                    "\"Week\",\"Date\",\"Time\",\"Home Team\",\"Away Team\",\"Rink\"",
+                    "1,2026-06-04,19:00,\"Smith, Jones & Co\",Badgers,\"Tubbs Rink, North\"",
+                    "1,2026-06-04,20:15, \"The \"\"Pucks\"\", Inc\",Badgers,Cardinal");
+
+            assertFalse(report.hasErrors(), report::summary);
+            assertEquals(2, report.slotsParsed());
+            assertEquals("Tubbs", slots.get(0).getRink());
+            assertEquals("Cardinal", slots.get(1).getRink());
+            assertEquals(LocalTime.of(20, 15), slots.get(1).getTime());
+        }
+
+        @Test
+        @DisplayName("A header without a required column fails the whole file")
+        void missingColumn() {
+            RuntimeException e = assertThrows(RuntimeException.class,
+                    () -> read("Week,Date,Home Team,Rink", "1,2026-06-04,Badgers,Tubbs"));
+            assertTrue(e.getMessage().contains("'time'"), e.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Bad rows")
+    class BadRows {
+
+        @Test
+        @DisplayName("Week values")
+        void weeks() throws IOException {
+            SlotParseReport report = read(
+                    "Week,Date,Time,Rink",
+                    "abc,2026-06-04,19:00,Tubbs",
+                    "-1,2026-06-04,19:00,Tubbs",
+                    "0,2026-06-04,19:00,Tubbs",
+                    "99999999999,2026-06-04,19:00,Tubbs",
+                    "+4,2026-06-04,19:00,Tubbs");
+
+            assertEquals(List.of(
+                    "Line 2: Invalid week number: abc",
+                    "Line 3: Week must be positive",
+                    "Line 4: Week must be positive",
+                    "Line 5: Invalid week number: 99999999999"), report.errors());
+            assertEquals(4, slots.get(0).getWeek());
+        }
+
+        @Test
+        @DisplayName("Date, time, rink and column count")
+        void fields() throws IOException {
+            SlotParseReport report = read(
+                    "Week,Date,Time,Rink",
+                    "1,2/30/2026,19:00,Tubbs",
+                    "1,June 4,19:00,Tubbs",
+                    "1,2026-06-04,25:00,Tubbs",
+                    "1,2026-06-04,19:00,Madison",
+                    "1,2026-06-04,19:00");
+
+            assertEquals(List.of(
+                    "Line 2: Invalid date: 2/30/2026",
+                    "Line 3: Invalid date format (expected e.g. 2026-06-04 or 6/4/2026): June 4",
+                    "Line 4: Invalid time format (expected e.g. 19:00 or 7:00 PM): 25:00",
+                    "Line 5: Rink must contain 'Tubbs' or 'Cardinal', found: Madison",
+                    "Line 6: Expected at least 4 columns but found 3"), report.errors());
+            assertTrue(slots.isEmpty());
+        }
+
+        @Test
+        @DisplayName("A repeated slot points back at the line that first had it")
+        void duplicate() throws IOException {
+            SlotParseReport report = read(
+                    "Week,Date,Time,Rink",
+                    "1,2026-06-04,19:00,Tubbs",
+                    "1,6/4/2026,7:00 PM,Tubbs Arena");
+
+            assertEquals(1, report.slotsParsed());
+            assertEquals(List.of("Line 3: Duplicate of line 2 (week 1, 2026-06-04 19:00 on Tubbs)"), report.errors());
+        }
+    }
+
+    @Nested
+    @DisplayName("Report")
+    class Report {
+
+        @Test
+        @DisplayName("Counts every row, keeps the first errors word for word, and summarizes the rest")
+        void counts() throws IOException {
+            int bad = CsvParserService.MAX_REPORTED_ERRORS + 5;
+            List<String> lines = new ArrayList<>();
+            lines.add("Week,Date,Time,Rink");
+            for (int i = 0; i < bad; i++) {
+                lines.add("x,2026-06-04,19:00,Tubbs");
+            }
+            lines.add("1,2026-06-04,19:00,Tubbs");
+            lines.add("2,2026-06-11,19:00,Tubbs");
+
+            SlotParseReport report = read(lines.toArray(String[]::new));
+
+            assertEquals(bad + 2, report.rowsRead());
+            assertEquals(2, report.slotsParsed());
+            assertEquals(bad, report.errorCount());
+            assertEquals(CsvParserService.MAX_REPORTED_ERRORS, report.errors().size());
+            String summary = report.summary();
+            assertTrue(summary.startsWith(bad + " of " + (bad + 2) + " rows could not be read:\nLine 2: "), summary);
+            assertTrue(summary.endsWith("\n...and 5 more"), summary);
+        }
+
+        @Test
+        @DisplayName("An upload with any bad row is rejected with the summary")
+        void upload() {
+            MockMultipartFile file = new MockMultipartFile("file", "slots.csv", "text/csv",
+                    "Week,Date,Time,Rink\n1,2026-06-04,19:00,Tubbs\n0,2026-06-04,20:00,Tubbs\n"
+                            .getBytes(StandardCharsets.UTF_8));
+
+            RuntimeException e = assertThrows(RuntimeException.class, () -> parser.parseGameSlots(file));
+            assertEquals("1 of 2 rows could not be read:\nLine 3: Week must be positive", e.getMessage());
+        }
+
+        @Test
+        @DisplayName("A clean upload returns its slots")
+        void cleanUpload() {
+            MockMultipartFile file = new MockMultipartFile("file", "slots.csv", "text/csv",
+                    "1,2026-06-04,19:00,Tubbs\n1,2026-06-04,20:15,Cardinal\n".getBytes(StandardCharsets.UTF_8));
+
+            assertEquals(2, parser.parseGameSlots(file).size());
+        }
+    }
+}
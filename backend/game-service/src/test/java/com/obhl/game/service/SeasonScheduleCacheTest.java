@@ -0,0 +1,48 @@
+package com.obhl.game.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.obhl.game.service.SeasonScheduleCache.Version;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Plain JUnit, no Spring, no database. With no transaction open an eviction bumps the version
+ * straight away, so writes faster than the one-second resolution of HTTP dates are easy to stage.
+ */
+class SeasonScheduleCacheTest {
+
+    private final SeasonScheduleCache cache = new SeasonScheduleCache(new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("Every write moves Last-Modified forward, even several in one second")
+    void lastModifiedStrictlyIncreases() {
+        Version before = cache.version(7L);
+        for (int i = 1; i <= 5; i++) {
+            cache.evict(7L);
+            Version after = cache.version(7L);
+
+            assertEquals(i, after.counter());
+            assertTrue(after.lastModified() > before.lastModified(),
+                    "write " + i + " left Last-Modified at " + after.lastModified());
+            assertEquals(0, after.lastModified() % 1000, "not whole seconds");
+            assertNotEquals(before.etag("schedule", 7L), after.etag("schedule", 7L));
+            before = after;
+        }
+    }
+
+    @Test
+    @DisplayName("Seasons version independently")
+    void perSeason() {
+        cache.evict(7L);
+        cache.evict(7L);
+
+        assertEquals(2, cache.version(7L).counter());
+        assertEquals(0, cache.version(8L).counter());
+    }
+}
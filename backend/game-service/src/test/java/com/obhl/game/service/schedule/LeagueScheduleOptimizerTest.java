@@ -0,0 +1,228 @@
+package com.obhl.game.service.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.obhl.game.service.schedule.LeagueScheduleOptimizer.Objective;
+import com.obhl.game.service.schedule.LeagueScheduleOptimizer.Pairing;
+import com.obhl.game.service.schedule.LeagueScheduleOptimizer.Result;
+import com.obhl.game.service.schedule.LeagueScheduleOptimizer.Slot;
+
+/**
+ * Plain JUnit, no Spring, no database. The objective is checked against schedules small enough to
+ * score by hand; the search against a season built so the greedy start has plenty to fix.
+ */
+class LeagueScheduleOptimizerTest {
+
+    private static final int EARLY = LeagueScheduleOptimizer.EARLY;
+    private static final int MID = LeagueScheduleOptimizer.MID;
+    private static final int LATE = LeagueScheduleOptimizer.LATE;
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void startExecutor() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterAll
+    static void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    /** Two weeks of two slots: early at EAST, late at WEST. */
+    private static final List<Slot> TWO_WEEKS = List.of(
+            new Slot(1, EARLY, "EAST"), new Slot(1, LATE, "WEST"),
+            new Slot(2, EARLY, "EAST"), new Slot(2, LATE, "WEST"));
+
+    /** 1v2 and 3v4 both weeks; week 2's 1v2 is home/away reversed, which is still a repeat. */
+    private static final List<Pairing> TWO_WEEK_PAIRINGS = List.of(
+            new Pairing(1, 2), new Pairing(3, 4),
+            new Pairing(2, 1), new Pairing(3, 4));
+
+    /**
+     * An 8-team league over 14 weeks, four games a week in early/mid/late/late ice over two rinks.
+     * The start is the circle-method round robin in slot order, which keeps team 101 in the early
+     * slot at EAST every week -- about as unbalanced as a valid schedule gets.
+     */
+    private static List<Slot> seasonSlots() {
+        int[] categories = { EARLY, MID, LATE, LATE };
+        String[] rinks = { "EAST", "WEST", "EAST", "WEST" };
+        List<Slot> slots = new ArrayList<>();
+        for (int week = 1; week <= 14; week++) {
+            for (int k = 0; k < 4; k++) {
+                slots.add(new Slot(week, categories[k], rinks[k]));
+            }
+        }
+        return slots;
+    }
+
+    private static List<Pairing> seasonPairings() {
+        int teams = 8;
+        List<Pairing> pairings = new ArrayList<>();
+        for (int week = 0; week < 14; week++) {
+            int round = week % (teams - 1);
+            // Circle method: team 0 stays put, the rest rotate one place a round
+            int[] order = new int[teams];
+            order[0] = 0;
+            for (int i = 1; i < teams; i++) {
+                order[i] = 1 + (i - 1 + round) % (teams - 1);
+            }
+            for (int k = 0; k < teams / 2; k++) {
+                pairings.add(new Pairing(101 + order[k], 101 + order[teams - 1 - k]));
+            }
+        }
+        return pairings;
+    }
+
+    private static int[] identity(int n) {
+        int[] slotOfPairing = new int[n];
+        for (int i = 0; i < n; i++) {
+            slotOfPairing[i] = i;
+        }
+        return slotOfPairing;
+    }
+
+    @Nested
+    @DisplayName("Objective breakdown, scored by hand")
+    class Breakdown {
+
+        @Test
+        @DisplayName("Same teams early both weeks, same teams late both weeks")
+        void unbalanced() {
+            Objective o = LeagueScheduleOptimizer.evaluate(TWO_WEEKS, TWO_WEEK_PAIRINGS, new int[] { 0, 1, 2, 3 });
+
+            // Every team is 2 early / 0 late (or the reverse) against a share of 1 and 1: 1 + 1 each
+            assertEquals(8.0, o.timeBalance(), 1e-9);
+            // Every team is 2 on one rink against a share of 1 and 1: 1 + 1 each
+            assertEquals(8.0, o.rinkSpread(), 1e-9);
+            // 1v2 meets again in week 2, and so does 3v4
+            assertEquals(2, o.repeatMatchups());
+            // Teams 3 and 4 are both late in weeks 1 and 2
+            assertEquals(2, o.backToBackLate());
+            // 1.0 * 8 + 4.0 * 2 + 1.0 * 2 + 0.5 * 8
+            assertEquals(22.0, o.total(), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Week 2's games trade slots: balanced, but the repeats remain")
+        void balanced() {
+            Objective o = LeagueScheduleOptimizer.evaluate(TWO_WEEKS, TWO_WEEK_PAIRINGS, new int[] { 0, 1, 3, 2 });
+
+            assertEquals(0.0, o.timeBalance(), 1e-9);
+            assertEquals(0.0, o.rinkSpread(), 1e-9);
+            assertEquals(2, o.repeatMatchups());
+            assertEquals(0, o.backToBackLate());
+            assertEquals(8.0, o.total(), 1e-9);
+        }
+    }
+
+    @Nested
+    @DisplayName("Search")
+    class Search {
+
+        @Test
+        @DisplayName("Never worse than the greedy start, and the reported best is what it returns")
+        void neverWorse() {
+            List<Slot> slots = seasonSlots();
+            List<Pairing> pairings = seasonPairings();
+            int[] start = identity(slots.size());
+
+            Result result = LeagueScheduleOptimizer.optimize(slots, pairings, start,
+                    Duration.ofMillis(300), 4, 42L, executor);
+
+            assertEquals(LeagueScheduleOptimizer.evaluate(slots, pairings, start), result.initial());
+            assertTrue(result.best().total() <= result.initial().total());
+            assertTrue(result.best().total() < result.initial().total(), "300 ms found nothing to improve");
+            assertEquals(result.best(), LeagueScheduleOptimizer.evaluate(slots, pairings, result.slotOfPairing()));
+        }
+
+        @Test
+        @DisplayName("Every pairing keeps exactly one slot, and weeks keep their game counts")
+        void permutation() {
+            List<Slot> slots = seasonSlots();
+            List<Pairing> pairings = seasonPairings();
+
+            Result result = LeagueScheduleOptimizer.optimize(slots, pairings, identity(slots.size()),
+                    Duration.ofMillis(200), 4, 7L, executor);
+
+            int[] sorted = result.slotOfPairing().clone();
+            Arrays.sort(sorted);
+            assertArrayEquals(identity(slots.size()), sorted);
+
+            // Each team still plays once a week: moves trade whole slots or whole weeks
+            for (int week = 1; week <= 14; week++) {
+                List<Long> playing = new ArrayList<>();
+                for (int p = 0; p < pairings.size(); p++) {
+                    if (slots.get(result.slotOfPairing()[p]).week() == week) {
+                        playing.add(pairings.get(p).homeTeamId());
+                        playing.add(pairings.get(p).awayTeamId());
+                    }
+                }
+                assertEquals(8, playing.size());
+                assertEquals(8, playing.stream().distinct().count(), "a team plays twice in week " + week);
+            }
+        }
+
+        @Test
+        @DisplayName("Returns within its time budget")
+        void budget() {
+            List<Slot> slots = seasonSlots();
+            List<Pairing> pairings = seasonPairings();
+            Duration budget = Duration.ofMillis(250);
+
+            long began = System.nanoTime();
+            Result result = LeagueScheduleOptimizer.optimize(slots, pairings, identity(slots.size()),
+                    budget, 4, 1L, executor);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - began);
+
+            assertTrue(result.movesTried() > 0);
+            // Workers look at the clock every few hundred moves; each move is microseconds
+            assertTrue(elapsedMs < budget.toMillis() + 500, "took " + elapsedMs + " ms");
+        }
+
+        @Test
+        @DisplayName("A zero budget returns the start untouched")
+        void zeroBudget() {
+            int[] start = { 0, 1, 2, 3 };
+
+            Result result = LeagueScheduleOptimizer.optimize(TWO_WEEKS, TWO_WEEK_PAIRINGS, start,
+                    Duration.ZERO, 4, 1L, executor);
+
+            assertArrayEquals(start, result.slotOfPairing());
+            assertEquals(result.initial(), result.best());
+            assertEquals(0, result.movesTried());
+        }
+
+        @Test
+        @DisplayName("A full executor fails the request instead of queueing it")
+        void busy() {
+            ExecutorService single = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+            try {
+                List<Slot> slots = seasonSlots();
+                assertThrows(IllegalStateException.class, () -> LeagueScheduleOptimizer.optimize(slots,
+                        seasonPairings(), identity(slots.size()), Duration.ofMillis(200), 2, 1L, single));
+            } finally {
+                single.shutdownNow();
+            }
+        }
+    }
+}
@@ -45,6 +45,17 @@ public interface StatsClient {
                         @PathVariable("id") Long id,
                         @RequestBody Map<String, Object> playerData);
 
+        /**
+         * Creates or updates every player by (email, season) in one call. A player already on the
+         * season gets the map as a partial update, minus the fields named in createOnly. The
+         * response has created/updated/failed counts and "results": one entry per player, in order,
+         * with index, status (CREATED, UPDATED or FAILED), playerId and error.
+         */
+        @PostMapping("/api/v1/players/upsert-batch")
+        Map<String, Object> upsertPlayers(
+                        @RequestBody List<Map<String, Object>> players,
+                        @RequestParam(value = "createOnly", required = false) List<String> createOnly);
+
         @DeleteMapping("/api/v1/players/{id}")
         void deletePlayer(@PathVariable("id") Long id);
 
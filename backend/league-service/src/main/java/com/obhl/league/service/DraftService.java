@@ -134,6 +134,12 @@ public class DraftService {
             // 4. Create Teams and Players
             // Track abbreviations to ensure uniqueness
             java.util.Set<String> usedAbbreviations = new java.util.HashSet<>();
+            // Drafted players, saved in one batch once every team exists; rowPlayers and rowTeamIds
+            // line up with playerRows
+            List<Map<String, Object>> playerRows = new ArrayList<>();
+            List<DraftPlayerDTO> rowPlayers = new ArrayList<>();
+            List<Long> rowTeamIds = new ArrayList<>();
+            Map<Long, Map<String, Object>> teamDataById = new HashMap<>();
 
             for (DraftTeamDTO draftTeam : draftState.getTeams()) {
                 // Create team via TeamClient
@@ -176,62 +182,57 @@ public class DraftService {
                 System.out.println("Created team '" + draftTeam.getName() + "' with ID: " + teamId + " (Abbr: "
                         + uniqueAbbr + ")");
 
-                // Find GM player to set gmId later
-                DraftPlayerDTO gmPlayer = draftTeam.getPlayers().stream()
-                        .filter(DraftPlayerDTO::isGm)
-                        .findFirst()
-                        .get(); // Safe because we validated above
+                teamDataById.put(teamId, teamData);
 
-                Long gmPlayerId = null;
-
-                // 5. Create/Update Players for this team
+                // 5. Queue this team's players; every team's players are saved together below
                 for (DraftPlayerDTO draftPlayer : draftTeam.getPlayers()) {
-                    // Per-season model: look up by email + NEW seasonId only.
-                    // If a record already exists for this season, update it (idempotent re-run).
-                    // Otherwise always create a fresh record — never touch prior-season records.
-                    Map<String, Object> existingPlayerData = null;
-                    try {
-                        existingPlayerData = statsClient.getPlayerByEmailAndSeason(
-                                draftPlayer.getEmail(), season.getId());
-                    } catch (Exception e) {
-                        // 404 = no record for this season yet — that's expected for new seasons
-                    }
-
-                    Map<String, Object> playerData = mapPlayer(draftPlayer, season.getId(), teamId);
-
-                    Map<String, Object> savedPlayer;
-                    if (existingPlayerData != null) {
-                        // Update the existing record for this season
-                        Long playerId = ((Number) existingPlayerData.get("id")).longValue();
-                        savedPlayer = statsClient.updatePlayer(playerId, playerData);
-                        System.out.println("Updated existing season record for: " + draftPlayer.getFirstName() + " "
-                                + draftPlayer.getLastName() + " (ID: " + playerId + ")");
-                    } else {
-                        // Create a new record for this season (prior-season records untouched)
-                        savedPlayer = statsClient.createPlayer(playerData);
-                        Long playerId = ((Number) savedPlayer.get("id")).longValue();
-                        createdPlayerIds.add(playerId);
-                        System.out.println("Created new season record for: " + draftPlayer.getFirstName() + " "
-                                + draftPlayer.getLastName() + " (ID: " + playerId + ")");
-                    }
-
-                    if (savedPlayer != null && savedPlayer.get("id") != null) {
-                        draftedPlayerIds.add(((Number) savedPlayer.get("id")).longValue());
-                    }
+                    playerRows.add(mapPlayer(draftPlayer, season.getId(), teamId));
+                    rowPlayers.add(draftPlayer);
+                    rowTeamIds.add(teamId);
+                }
+            }
 
-                    // Track GM player ID
-                    if (draftPlayer.isGm()) {
-                        gmPlayerId = ((Number) savedPlayer.get("id")).longValue();
-                    }
+            // 6. Create/Update all drafted players in one call.
+            // Per-season model: matched on email + NEW seasonId only. A record that already exists
+            // for this season is updated (idempotent re-run); otherwise a fresh record is created —
+            // prior-season records are never touched.
+            Map<String, Object> upsert = statsClient.upsertPlayers(playerRows, null);
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> results = (List<Map<String, Object>>) upsert.get("results");
+            Map<Long, Long> gmPlayerIdByTeam = new java.util.LinkedHashMap<>();
+            List<String> failures = new ArrayList<>();
+            for (Map<String, Object> result : results) {
+                int row = ((Number) result.get("index")).intValue();
+                DraftPlayerDTO draftPlayer = rowPlayers.get(row);
+                if ("FAILED".equals(result.get("status"))) {
+                    failures.add(draftPlayer.getFirstName() + " " + draftPlayer.getLastName() + ": "
+                            + result.get("error"));
+                    continue;
+                }
+                Long playerId = ((Number) result.get("playerId")).longValue();
+                if ("CREATED".equals(result.get("status"))) {
+                    createdPlayerIds.add(playerId);
                 }
+                draftedPlayerIds.add(playerId);
 
-                // 6. Update team with gmId
-                if (gmPlayerId != null) {
-                    teamData.put("gmId", gmPlayerId);
-                    teamClient.updateTeam(teamId, teamData);
-                    System.out.println("Updated team '" + draftTeam.getName() + "' with GM ID: " + gmPlayerId);
+                // Track GM player ID
+                if (draftPlayer.isGm()) {
+                    gmPlayerIdByTeam.put(rowTeamIds.get(row), playerId);
                 }
             }
+            System.out.println("Saved drafted players: " + upsert.get("created") + " created, "
+                    + upsert.get("updated") + " updated, " + upsert.get("failed") + " failed");
+            if (!failures.isEmpty()) {
+                throw new IllegalStateException("Could not save players: " + String.join("; ", failures));
+            }
+
+            // 7. Update teams with gmId
+            for (Map.Entry<Long, Long> gm : gmPlayerIdByTeam.entrySet()) {
+                Map<String, Object> teamData = teamDataById.get(gm.getKey());
+                teamData.put("gmId", gm.getValue());
+                teamClient.updateTeam(gm.getKey(), teamData);
+                System.out.println("Updated team '" + teamData.get("name") + "' with GM ID: " + gm.getValue());
+            }
 
             // Deactivate players who didn't register for the new season
             List<String> registeredEmails = new ArrayList<>();
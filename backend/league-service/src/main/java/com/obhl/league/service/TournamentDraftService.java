@@ -56,6 +56,13 @@ public class TournamentDraftService {
     /** Goalies are assigned through the staffing flow, never drafted onto a roster. */
     private static final String POSITION_GOALIE = "G";
 
+    /**
+     * What commit leaves alone on a player who already has a row for the tournament season: only
+     * their team and active flag follow the board, so staff edits to the rest survive a re-run.
+     */
+    private static final List<String> REUSED_PLAYER_UNTOUCHED_FIELDS = List.of(
+            "firstName", "lastName", "email", "position", "jerseyNumber", "skillRating", "userId", "draftPick");
+
     // ---------------------------------------------------------------- board
 
     @Transactional
@@ -387,6 +394,9 @@ public class TournamentDraftService {
         int createdCount = 0, reusedCount = 0, teamsUpdated = 0;
         Map<Long, Long> captainByTeam = new HashMap<>();
 
+        List<Map<String, Object>> rows = new ArrayList<>();
+        List<TournamentDraftEntrant> rowEntrants = new ArrayList<>();
+        List<TournamentDraftPick> rowPicks = new ArrayList<>();
         for (TournamentDraftPick pick : picks) {
             TournamentDraftEntrant e = entrantRepository.findById(pick.getEntrantId()).orElse(null);
             if (e == null) continue;
@@ -397,44 +407,50 @@ public class TournamentDraftService {
                     // accidentally mail a real person. Stable, so re-running is safe.
                     : "noemail+" + tournament.getSlug() + "-" + e.getId() + "@obhl.invalid";
 
-            Map<String, Object> existing = null;
-            try {
-                existing = statsClient.getPlayerByEmailAndSeason(email, seasonId);
-            } catch (Exception ignored) {
-                // by-email-season 404s for a new player; that is the normal path.
-            }
+            Map<String, Object> body = new HashMap<>();
+            body.put("firstName", e.getFirstName());
+            body.put("lastName", e.getLastName());
+            body.put("email", email);
+            body.put("seasonId", seasonId);
+            body.put("teamId", pick.getTeamId());
+            body.put("position", e.getPosition() == null ? "F" : e.getPosition());
+            body.put("jerseyNumber", e.getJerseyNumber());
+            body.put("skillRating", e.getSkillRating());
+            body.put("isActive", true);
+            body.put("userId", e.getUserId());
+            body.put("draftPick", pick.getPickNumber());
+            rows.add(body);
+            rowEntrants.add(e);
+            rowPicks.add(pick);
+        }
 
-            Long playerId;
-            if (existing != null && existing.get("id") != null) {
-                playerId = asLong(existing.get("id"));
-                Map<String, Object> patch = new HashMap<>();
-                patch.put("teamId", pick.getTeamId());
-                patch.put("isActive", true);
-                statsClient.updatePlayer(playerId, patch);
-                reusedCount++;
-            } else {
-                Map<String, Object> body = new HashMap<>();
-                body.put("firstName", e.getFirstName());
-                body.put("lastName", e.getLastName());
-                body.put("email", email);
-                body.put("seasonId", seasonId);
-                body.put("teamId", pick.getTeamId());
-                body.put("position", e.getPosition() == null ? "F" : e.getPosition());
-                body.put("jerseyNumber", e.getJerseyNumber());
-                body.put("skillRating", e.getSkillRating());
-                body.put("isActive", true);
-                body.put("userId", e.getUserId());
-                body.put("draftPick", pick.getPickNumber());
-
-                Map<String, Object> created = statsClient.createPlayer(body);
-                playerId = asLong(created.get("id"));
+        // One round trip for the whole board. A player who already has a row for this season only
+        // has their team and active flag changed; everything else is written for new players only.
+        Map<String, Object> upsert = statsClient.upsertPlayers(rows, REUSED_PLAYER_UNTOUCHED_FIELDS);
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> results = (List<Map<String, Object>>) upsert.get("results");
+        List<String> failures = new ArrayList<>();
+        for (Map<String, Object> result : results) {
+            int row = ((Number) result.get("index")).intValue();
+            TournamentDraftEntrant e = rowEntrants.get(row);
+            if ("FAILED".equals(result.get("status"))) {
+                failures.add(e.getFirstName() + " " + e.getLastName() + ": " + result.get("error"));
+                continue;
+            }
+            Long playerId = asLong(result.get("playerId"));
+            if ("CREATED".equals(result.get("status"))) {
                 createdCount++;
+            } else {
+                reusedCount++;
             }
 
             if (Boolean.TRUE.equals(e.getIsGm()) && playerId != null) {
-                captainByTeam.put(pick.getTeamId(), playerId);
+                captainByTeam.put(rowPicks.get(row).getTeamId(), playerId);
             }
         }
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("Could not save players: " + String.join("; ", failures));
+        }
 
         for (Map.Entry<Long, Long> entry : captainByTeam.entrySet()) {
             try {
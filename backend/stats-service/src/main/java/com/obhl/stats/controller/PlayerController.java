@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,8 +19,13 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.obhl.stats.config.PlayerAccess;
+import com.obhl.stats.dto.PlayerSearchDto;
+import com.obhl.stats.dto.PlayerUpsertDto;
 import com.obhl.stats.model.Player;
 import com.obhl.stats.repository.PlayerRepository;
+import com.obhl.stats.service.CareerStatsService;
+import com.obhl.stats.service.LeaderboardService;
+import com.obhl.stats.service.PlayerUpsertService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,6 +35,12 @@ import lombok.RequiredArgsConstructor;
 public class PlayerController {
 
     private final PlayerRepository playerRepository;
+    private final CareerStatsService careerStatsService;
+    private final PlayerUpsertService playerUpsertService;
+    private final LeaderboardService leaderboardService;
+
+    private static final int MIN_SEARCH_LENGTH = 2;
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
 
     @GetMapping
     public MappingJacksonValue getPlayers(
@@ -69,6 +81,37 @@ public class PlayerController {
         return playerRepository.findAll();
     }
 
+    /**
+     * Ranked, paged player search on name prefixes and near-miss spellings (and email prefixes,
+     * for staff). Each person appears once, as their latest season's player unless seasonId narrows
+     * it to one season. Served from the trigram indexes of migration 068.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchPlayers(
+            @RequestParam String q,
+            @RequestParam(required = false) Long seasonId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+
+        String query = q.trim().replaceAll("\\s+", " ").toLowerCase(java.util.Locale.ROOT);
+        if (query.length() < MIN_SEARCH_LENGTH) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error",
+                    "Search text must be at least " + MIN_SEARCH_LENGTH + " characters"));
+        }
+        String prefix = query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        // Matching on email would reveal who is registered; only staff see emails anyway
+        boolean includeEmail = PlayerAccess.isPrivileged(authentication);
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+
+        List<Player> players = playerRepository.search(query, prefix, seasonId, includeEmail, pageSize,
+                (long) pageNumber * pageSize);
+        long total = playerRepository.countSearch(query, prefix, seasonId, includeEmail);
+        return ResponseEntity.ok(maskedResponse(
+                new PlayerSearchDto(query, pageNumber, pageSize, total, players), authentication));
+    }
+
     @GetMapping("/{playerId}")
     public ResponseEntity<?> getPlayer(@PathVariable Long playerId, Authentication authentication) {
         return playerRepository.findById(playerId)
@@ -130,6 +173,36 @@ public class PlayerController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * Creates or updates each player by (email, season) in one round trip: a whole draft's roster
+     * is matched in one query and written in JDBC batches. Matched players get the row as a partial
+     * update, leaving out any field named in {@code createOnly}. Each row's outcome is reported in
+     * request order; rows that fail don't stop the others.
+     */
+    @PostMapping("/upsert-batch")
+    @PreAuthorize("hasAnyRole('ADMIN','INTERNAL_SERVICE')")
+    public ResponseEntity<?> upsertPlayers(
+            @RequestBody List<java.util.Map<String, Object>> players,
+            @RequestParam(required = false) java.util.Set<String> createOnly,
+            Authentication authentication) {
+        try {
+            PlayerUpsertDto.Response response = playerUpsertService.upsert(players,
+                    createOnly == null ? java.util.Set.of() : createOnly, authentication);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", e.getMessage()));
+        } catch (org.springframework.dao.DuplicateKeyException e) {
+            // Another writer inserted one of these emails for the season first; nothing was written
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(java.util.Map.of("error",
+                    "The batch conflicted with another change to these players; nothing was saved. Retry it."));
+        } catch (org.springframework.dao.DataIntegrityViolationException e) {
+            // Rows are checked against the column constraints first, so this is e.g. a teamId with no team
+            return ResponseEntity.badRequest().body(java.util.Map.of("error",
+                    "The database rejected a player in the batch; nothing was saved: "
+                            + e.getMostSpecificCause().getMessage()));
+        }
+    }
+
     /**
      * Deactivates players across the given seasons who are not in the current registration list.
      *
@@ -177,54 +250,29 @@ public class PlayerController {
                             && !PlayerAccess.canRateSkill(authentication, existing.getPosition())) {
                         return ResponseEntity.status(HttpStatus.FORBIDDEN).<Player>build();
                     }
-                    if (updates.containsKey("teamId")) {
-                        Object val = updates.get("teamId");
-                        existing.setTeamId(val == null ? null : ((Number) val).longValue());
-                    }
-                    if (updates.containsKey("firstName"))
-                        existing.setFirstName((String) updates.get("firstName"));
-                    if (updates.containsKey("lastName"))
-                        existing.setLastName((String) updates.get("lastName"));
-                    if (updates.containsKey("jerseyNumber")) {
-                        Object val = updates.get("jerseyNumber");
-                        existing.setJerseyNumber(val == null ? null : ((Number) val).intValue());
-                    }
-                    if (updates.containsKey("position"))
-                        existing.setPosition((String) updates.get("position"));
-                    if (updates.containsKey("shoots"))
-                        existing.setShoots((String) updates.get("shoots"));
-                    if (updates.containsKey("seasonId")) {
-                        Object val = updates.get("seasonId");
-                        existing.setSeasonId(val == null ? null : ((Number) val).longValue());
-                    }
-                    if (updates.containsKey("skillRating")) {
-                        Object val = updates.get("skillRating");
-                        existing.setSkillRating(val == null ? 5 : ((Number) val).intValue());
-                    }
-                    if (updates.containsKey("email"))
-                        existing.setEmail((String) updates.get("email"));
-                    if (updates.containsKey("isVeteran"))
-                        existing.setIsVeteran((Boolean) updates.get("isVeteran"));
-                    if (updates.containsKey("birthDate")) {
-                        Object val = updates.get("birthDate");
-                        existing.setBirthDate(val == null ? null : java.time.LocalDate.parse((String) val));
-                    }
-                    if (updates.containsKey("hometown"))
-                        existing.setHometown((String) updates.get("hometown"));
-                    if (updates.containsKey("isActive"))
-                        existing.setIsActive((Boolean) updates.get("isActive"));
+                    String previousEmail = existing.getEmail();
+                    PlayerUpsertService.applyUpdates(existing, updates);
 
-                    return ResponseEntity.ok(playerRepository.save(existing));
+                    Player saved = playerRepository.save(existing);
+                    if (!java.util.Objects.equals(previousEmail, saved.getEmail())) {
+                        // The season's stats now belong to a different person's career
+                        careerStatsService.refreshEmails(java.util.Arrays.asList(previousEmail, saved.getEmail()));
+                    }
+                    return ResponseEntity.ok(saved);
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @DeleteMapping("/{playerId}")
     public ResponseEntity<Void> deletePlayer(@PathVariable Long playerId) {
-        if (playerRepository.existsById(playerId)) {
-            playerRepository.deleteById(playerId);
-            return ResponseEntity.noContent().build();
-        }
-        return ResponseEntity.notFound().build();
+        return playerRepository.findById(playerId)
+                .map(player -> {
+                    // player_stats rows go with the player (ON DELETE CASCADE), and so does their share of the career
+                    playerRepository.deleteById(playerId);
+                    careerStatsService.refreshEmails(List.of(player.getEmail()));
+                    leaderboardService.refreshAfterCommit(player.getSeasonId(), playerId);
+                    return ResponseEntity.noContent().<Void>build();
+                })
+                .orElse(ResponseEntity.notFound().build());
     }
 }
@@ -1,8 +1,11 @@
 package com.obhl.stats.controller;
 
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -11,11 +14,18 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.obhl.stats.dto.CareerStatsDto;
+import com.obhl.stats.dto.LeaderDto;
 import com.obhl.stats.dto.PlayerStatsIncrementDto;
+import com.obhl.stats.dto.PlayerStatsRebuildDto;
 import com.obhl.stats.model.GoalieStats;
 import com.obhl.stats.model.PlayerStats;
 import com.obhl.stats.repository.GoalieStatsRepository;
 import com.obhl.stats.repository.PlayerStatsRepository;
+import com.obhl.stats.service.CareerStatsService;
+import com.obhl.stats.service.LeaderboardService;
+import com.obhl.stats.service.PlayerStatsRebuildService;
+import com.obhl.stats.service.PlayerStatsService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,6 +36,10 @@ public class StatsController {
 
     private final PlayerStatsRepository playerStatsRepository;
     private final GoalieStatsRepository goalieStatsRepository;
+    private final PlayerStatsService playerStatsService;
+    private final LeaderboardService leaderboardService;
+    private final PlayerStatsRebuildService playerStatsRebuildService;
+    private final CareerStatsService careerStatsService;
 
     @GetMapping("/players")
     public ResponseEntity<List<PlayerStats>> getPlayerStats(
@@ -39,6 +53,52 @@ public class StatsController {
         return ResponseEntity.ok(playerStatsRepository.findBySeasonIdOrderByPointsDesc(seasonId));
     }
 
+    /**
+     * Season leaders for one category (points, goals, assists or pim), served from
+     * LeaderboardService's in-memory boards rather than a sort of the whole season.
+     */
+    @GetMapping("/leaders")
+    public ResponseEntity<List<LeaderDto>> getLeaders(
+            @RequestParam Long seasonId,
+            @RequestParam(defaultValue = "points") String category,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        LeaderboardService.Category parsed;
+        try {
+            parsed = LeaderboardService.Category.fromParam(category);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(leaderboardService.leaders(seasonId, parsed, limit));
+    }
+
+    /**
+     * All-time leaders: one page of career_stats in the same category order as /leaders, each
+     * person named after their most recent season.
+     */
+    @GetMapping("/career/leaders")
+    public ResponseEntity<CareerStatsDto.Page> getCareerLeaders(
+            @RequestParam(defaultValue = "points") String category,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "25") int size) {
+
+        LeaderboardService.Category parsed;
+        try {
+            parsed = LeaderboardService.Category.fromParam(category);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(careerStatsService.leaders(parsed, page, size));
+    }
+
+    /** Career totals of the person behind any of their season player ids, with each season's line. */
+    @GetMapping("/career/players/{playerId}")
+    public ResponseEntity<CareerStatsDto.PlayerCareer> getPlayerCareer(@PathVariable Long playerId) {
+        return careerStatsService.forPlayer(playerId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/players/{playerId}")
     public ResponseEntity<PlayerStats> getPlayerStatsBySeason(
             @PathVariable Long playerId,
@@ -73,8 +133,7 @@ public class StatsController {
 
     @PostMapping("/players")
     public ResponseEntity<PlayerStats> createPlayerStats(@RequestBody PlayerStats stats) {
-        PlayerStats created = playerStatsRepository.save(stats);
-        return ResponseEntity.ok(created);
+        return ResponseEntity.ok(playerStatsService.save(stats));
     }
 
     @PostMapping("/goalies")
@@ -83,35 +142,59 @@ public class StatsController {
         return ResponseEntity.ok(created);
     }
 
+    /**
+     * Single-player form of /increment/batch. Counters are incremented in place in the database, so
+     * two callers touching the same player cannot lose each other's update; pass gameId/direction to
+     * make a retried call a no-op.
+     */
     @PostMapping("/players/increment")
     public ResponseEntity<PlayerStats> incrementPlayerStats(@RequestBody PlayerStatsIncrementDto dto) {
-        // Find existing stats or create new
-        PlayerStats stats = playerStatsRepository
-                .findByPlayerIdAndSeasonId(dto.getPlayerId(), dto.getSeasonId())
-                .orElseGet(() -> {
-                    PlayerStats newStats = new PlayerStats();
-                    newStats.setPlayerId(dto.getPlayerId());
-                    newStats.setSeasonId(dto.getSeasonId());
-                    newStats.setTeamId(dto.getTeamId());
-                    newStats.setGamesPlayed(0);
-                    newStats.setGoals(0);
-                    newStats.setAssists(0);
-                    newStats.setPoints(0);
-                    newStats.setPenaltyMinutes(0);
-                    return newStats;
-                });
-
-        // Increment stats
-        stats.setGoals(stats.getGoals() + dto.getGoals());
-        stats.setAssists(stats.getAssists() + dto.getAssists());
-        stats.setPoints(stats.getPoints() + dto.getPoints());
-        stats.setPenaltyMinutes(stats.getPenaltyMinutes() + dto.getPenaltyMinutes());
-
-        // Increment or decrement games played
-        int gamesPlayedIncrement = dto.getGamesPlayed() != null ? dto.getGamesPlayed() : 1;
-        stats.setGamesPlayed(stats.getGamesPlayed() + gamesPlayedIncrement);
-
-        PlayerStats saved = playerStatsRepository.save(stats);
-        return ResponseEntity.ok(saved);
+        try {
+            playerStatsService.incrementAll(List.of(dto));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return playerStatsRepository.findByPlayerIdAndSeasonId(dto.getPlayerId(), dto.getSeasonId())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Applies every player's deltas for one game in a single transaction -- what game-service's
+     * PlayerStatsAggregator sends on finalize/unfinalize. Same field semantics as /increment.
+     */
+    @PostMapping("/players/increment/batch")
+    public ResponseEntity<Map<String, Integer>> incrementPlayerStatsBatch(
+            @RequestBody List<PlayerStatsIncrementDto> increments) {
+        try {
+            return ResponseEntity.ok(Map.of("updated", playerStatsService.incrementAll(increments)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /** Step one of a rebuild: the mark game-service passes back with its recomputed lines. */
+    @GetMapping("/players/rebuild/mark")
+    @PreAuthorize("hasAnyRole('ADMIN','INTERNAL_SERVICE')")
+    public ResponseEntity<Map<String, String>> getRebuildMark() {
+        return ResponseEntity.ok(Map.of("ledgerMark", playerStatsRebuildService.ledgerMark()));
+    }
+
+    /**
+     * Diffs a season's player_stats against game-service's recomputation from game events and,
+     * unless dryRun, overwrites the rows that differ. 409 when a game was finalized or unfinalized
+     * after the mark was taken -- scan again.
+     */
+    @PostMapping("/players/rebuild")
+    @PreAuthorize("hasAnyRole('ADMIN','INTERNAL_SERVICE')")
+    public ResponseEntity<PlayerStatsRebuildDto.Result> rebuildPlayerStats(
+            @RequestBody PlayerStatsRebuildDto.Request request) {
+        try {
+            return ResponseEntity.ok(playerStatsRebuildService.rebuild(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
     }
 }
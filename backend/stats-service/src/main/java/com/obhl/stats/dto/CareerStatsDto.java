@@ -0,0 +1,55 @@
+package com.obhl.stats.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.obhl.stats.model.PlayerStats;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** All-time numbers served under {@code /stats/career}. */
+public class CareerStatsDto {
+
+    /** One person's totals across every season, named after their most recent season's player. */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Line {
+        /** 1-based position on a leaderboard page; null outside one. */
+        private Integer rank;
+        /** The player row of the person's most recent season. */
+        private Long playerId;
+        private String firstName;
+        private String lastName;
+        private Integer seasonsPlayed;
+        private Integer gamesPlayed;
+        private Integer goals;
+        private Integer assists;
+        private Integer points;
+        private Integer penaltyMinutes;
+        /** The stat a leaderboard is ranked by; null outside one. */
+        private Integer value;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Page {
+        private String category;
+        private int page;
+        private int size;
+        private long totalElements;
+        private List<Line> content = new ArrayList<>();
+    }
+
+    /** A player's career totals and the season lines they add up from. */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PlayerCareer {
+        private Line career;
+        private List<PlayerStats> seasons = new ArrayList<>();
+    }
+}
@@ -0,0 +1,23 @@
+package com.obhl.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** One row of {@code GET /stats/leaders}: a player's season line and where it ranks. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderDto {
+    /** 1-based position in the requested category. */
+    private Integer rank;
+    private Long playerId;
+    private Long teamId;
+    private Integer gamesPlayed;
+    private Integer goals;
+    private Integer assists;
+    private Integer points;
+    private Integer penaltyMinutes;
+    /** The stat the board is ranked by -- points, goals, assists or penalty minutes. */
+    private Integer value;
+}
@@ -0,0 +1,23 @@
+package com.obhl.stats.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.obhl.stats.model.Player;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** One page of {@code GET /players/search}, best match first. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerSearchDto {
+    private String query;
+    private int page;
+    private int size;
+    /** People matched across all pages; each person is counted once however many seasons they played. */
+    private long totalElements;
+    private List<Player> content = new ArrayList<>();
+}
@@ -16,4 +16,13 @@ public class PlayerStatsIncrementDto {
     private Integer points;
     private Integer penaltyMinutes;
     private Integer gamesPlayed;
+
+    /**
+     * Optional. When set (with {@link #direction}) the increment is recorded in
+     * player_stats_ledger and applied at most once per (gameId, playerId, direction).
+     */
+    private Long gameId;
+
+    /** APPLY on finalize, REVERT on unfinalize. Required when gameId is set. */
+    private String direction;
 }
@@ -0,0 +1,68 @@
+package com.obhl.stats.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code POST /stats/players/rebuild}: game-service's recomputation of a season's player lines
+ * from its game events, and what stats-service found (and, unless dry-run, fixed) in player_stats.
+ */
+public class PlayerStatsRebuildDto {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        private Long seasonId;
+        /**
+         * From {@code GET /stats/players/rebuild/mark}, taken before game-service started scanning.
+         * Required unless dry-run: any ledger change for the season since then means a game was
+         * finalized or unfinalized during the scan, and the rebuild is refused.
+         */
+        private String ledgerMark;
+        private boolean dryRun;
+        /**
+         * One line per (game, player) of every completed, non-forfeit game in the season -- what
+         * finalizing each game would send. gamesPlayed and direction are ignored.
+         */
+        private List<PlayerStatsIncrementDto> lines = new ArrayList<>();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Totals {
+        private int gamesPlayed;
+        private int goals;
+        private int assists;
+        private int points;
+        private int penaltyMinutes;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Correction {
+        private Long playerId;
+        private Long teamId;
+        /** Null when the player had no player_stats row for the season. */
+        private Totals before;
+        private Totals after;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private Long seasonId;
+        private boolean dryRun;
+        private int gamesCovered;
+        private int playersChecked;
+        private int playersCorrected;
+        private List<Correction> corrections = new ArrayList<>();
+    }
+}
@@ -0,0 +1,41 @@
+package com.obhl.stats.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** {@code POST /players/upsert-batch}: what happened to each submitted player, in request order. */
+public class PlayerUpsertDto {
+
+    public enum Status {
+        CREATED, UPDATED, FAILED
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        /** Position of the row in the request. */
+        private int index;
+        private String email;
+        private Long seasonId;
+        private Status status;
+        /** Null when the row failed. */
+        private Long playerId;
+        /** Why the row failed; null otherwise. */
+        private String error;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        private int created;
+        private int updated;
+        private int failed;
+        private List<Result> results = new ArrayList<>();
+    }
+}
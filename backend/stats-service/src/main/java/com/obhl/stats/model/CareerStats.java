@@ -0,0 +1,53 @@
+package com.obhl.stats.model;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A person's totals across every season (migration 067), keyed by normalized email. Written only
+ * by the recompute in CareerStatsRepository; the entity is for reads.
+ */
+@Entity
+@Table(name = "career_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CareerStats {
+
+    /** lower(trim(email)). Staff-only data like the email itself, so never serialized. */
+    @Id
+    @JsonIgnore
+    @Column(name = "email_key")
+    private String emailKey;
+
+    /** The person's player row in their most recent season -- how a career line is linked and named. */
+    @Column(name = "latest_player_id", nullable = false)
+    private Long latestPlayerId;
+
+    @Column(name = "seasons_played", nullable = false)
+    private Integer seasonsPlayed = 0;
+
+    @Column(name = "games_played", nullable = false)
+    private Integer gamesPlayed = 0;
+
+    @Column(nullable = false)
+    private Integer goals = 0;
+
+    @Column(nullable = false)
+    private Integer assists = 0;
+
+    @Column(nullable = false)
+    private Integer points = 0;
+
+    @Column(name = "penalty_minutes", nullable = false)
+    private Integer penaltyMinutes = 0;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,45 @@
+package com.obhl.stats.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row per (game, player) whose line has been pushed into player_stats. {@code direction} is
+ * the last delta applied for that pair -- see migration 059. Written only by the set-based upsert
+ * in PlayerStatsRepository; the entity exists so the table is mapped alongside the rest.
+ */
+@Entity
+@Table(name = "player_stats_ledger",
+        uniqueConstraints = @UniqueConstraint(name = "uq_player_stats_ledger_game_player",
+                columnNames = { "game_id", "player_id" }))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerStatsLedgerEntry {
+
+    public static final String APPLY = "APPLY";
+    public static final String REVERT = "REVERT";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+
+    @Column(name = "player_id", nullable = false)
+    private Long playerId;
+
+    @Column(name = "season_id", nullable = false)
+    private Long seasonId;
+
+    @Column(nullable = false, length = 10)
+    private String direction;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+}
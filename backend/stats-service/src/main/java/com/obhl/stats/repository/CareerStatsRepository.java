@@ -0,0 +1,67 @@
+package com.obhl.stats.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.obhl.stats.model.CareerStats;
+
+@Repository
+public interface CareerStatsRepository extends JpaRepository<CareerStats, String> {
+
+    /** The normalized email of each given player. */
+    @Query(value = "SELECT DISTINCT lower(trim(email)) FROM players WHERE id = ANY(CAST(:playerIds AS bigint[]))",
+            nativeQuery = true)
+    List<String> emailKeysOf(@Param("playerIds") Long[] playerIds);
+
+    /**
+     * Takes a transaction-scoped advisory lock per normalized email, in key order. Two
+     * transactions recomputing the same person then run one after the other, and the second one's
+     * recompute sees what the first committed.
+     */
+    @Query(value = "SELECT COUNT(*) FROM ("
+            + "  SELECT pg_advisory_xact_lock(hashtext('career_stats:' || k)) FROM ("
+            + "    SELECT DISTINCT lower(trim(e)) AS k FROM unnest(CAST(:emails AS varchar[])) e ORDER BY 1"
+            + "  ) keys"
+            + ") locked", nativeQuery = true)
+    long lock(@Param("emails") String[] emails);
+
+    /**
+     * Recomputes the career rows of the given people (emails are normalized here) from every season
+     * of player_stats, and deletes the row of anyone left with no season at all.
+     *
+     * @return career rows written or deleted
+     */
+    @Query(value = "WITH keys AS ("
+            + "  SELECT DISTINCT lower(trim(e)) AS email_key FROM unnest(CAST(:emails AS varchar[])) e"
+            + "), totals AS ("
+            + "  SELECT lower(trim(p.email)) AS email_key, "
+            + "    (array_agg(p.id ORDER BY ps.season_id DESC, p.id DESC))[1] AS latest_player_id, "
+            + "    COUNT(DISTINCT ps.season_id) AS seasons_played, SUM(ps.games_played) AS games_played, "
+            + "    SUM(ps.goals) AS goals, SUM(ps.assists) AS assists, SUM(ps.points) AS points, "
+            + "    SUM(ps.penalty_minutes) AS penalty_minutes "
+            + "  FROM players p JOIN player_stats ps ON ps.player_id = p.id "
+            + "  WHERE lower(trim(p.email)) IN (SELECT email_key FROM keys) "
+            + "  GROUP BY lower(trim(p.email))"
+            + "), written AS ("
+            + "  INSERT INTO career_stats (email_key, latest_player_id, seasons_played, games_played, goals, "
+            + "    assists, points, penalty_minutes, updated_at) "
+            + "  SELECT email_key, latest_player_id, seasons_played, games_played, goals, assists, points, "
+            + "    penalty_minutes, CURRENT_TIMESTAMP FROM totals "
+            + "  ON CONFLICT (email_key) DO UPDATE SET "
+            + "    latest_player_id = EXCLUDED.latest_player_id, seasons_played = EXCLUDED.seasons_played, "
+            + "    games_played = EXCLUDED.games_played, goals = EXCLUDED.goals, assists = EXCLUDED.assists, "
+            + "    points = EXCLUDED.points, penalty_minutes = EXCLUDED.penalty_minutes, "
+            + "    updated_at = EXCLUDED.updated_at "
+            + "  RETURNING 1"
+            + "), removed AS ("
+            + "  DELETE FROM career_stats c WHERE c.email_key IN (SELECT email_key FROM keys) "
+            + "  AND c.email_key NOT IN (SELECT email_key FROM totals) "
+            + "  RETURNING 1"
+            + ") "
+            + "SELECT (SELECT COUNT(*) FROM written) + (SELECT COUNT(*) FROM removed)", nativeQuery = true)
+    long recompute(@Param("emails") String[] emails);
+}
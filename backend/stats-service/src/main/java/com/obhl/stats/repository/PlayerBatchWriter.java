@@ -0,0 +1,116 @@
+package com.obhl.stats.repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.obhl.stats.model.Player;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Inserts many new {@link Player} rows as JDBC batches.
+ *
+ * <p>{@code Player} uses {@code GenerationType.IDENTITY}, so {@code saveAll} is one INSERT round
+ * trip per player whatever {@code hibernate.jdbc.batch_size} says. A draft lands a few hundred
+ * players at once; this writes them {@value #BATCH_SIZE} per {@code executeBatch}, which the driver
+ * rewrites into multi-row INSERTs, and reads the ids back from the generated keys.
+ *
+ * <p>The players are left unmanaged. Updates to existing players still go through JPA, batched by
+ * the settings in application.properties.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlayerBatchWriter {
+
+    /** Rows per executeBatch. */
+    static final int BATCH_SIZE = 500;
+
+    private static final String INSERT = """
+            INSERT INTO players (team_id, season_id, email, is_veteran, first_name, last_name, jersey_number,
+                position, shoots, birth_date, hometown, is_active, skill_rating, user_id, draft_pick,
+                created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    /** Matches spring.jpa.properties.hibernate.jdbc.time_zone, so timestamps land as JPA would write them. */
+    private static final TimeZone JDBC_TIME_ZONE = TimeZone.getTimeZone("UTC");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts {@code players} in list order and sets each one's id and timestamps. Joins the
+     * caller's transaction; a failure rolls back every batch with it.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<Player> insertAll(List<Player> players) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < players.size(); from += BATCH_SIZE) {
+            insertBatch(players.subList(from, Math.min(from + BATCH_SIZE, players.size())), now);
+        }
+        return players;
+    }
+
+    private void insertBatch(List<Player> batch, LocalDateTime now) {
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT, new String[] { "id" }),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bind(ps, batch.get(i), now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                }, keys);
+
+        List<Map<String, Object>> ids = keys.getKeyList();
+        if (ids.size() != batch.size()) {
+            throw new IllegalStateException("Inserted " + batch.size() + " players but got " + ids.size() + " ids back");
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            Player player = batch.get(i);
+            player.setId(((Number) ids.get(i).values().iterator().next()).longValue());
+            player.setCreatedAt(now);
+            player.setUpdatedAt(now);
+        }
+    }
+
+    private static void bind(PreparedStatement ps, Player p, LocalDateTime now) throws SQLException {
+        int c = 1;
+        ps.setObject(c++, p.getTeamId(), Types.BIGINT);
+        ps.setObject(c++, p.getSeasonId(), Types.BIGINT);
+        ps.setObject(c++, p.getEmail(), Types.VARCHAR);
+        ps.setObject(c++, p.getIsVeteran(), Types.BOOLEAN);
+        ps.setObject(c++, p.getFirstName(), Types.VARCHAR);
+        ps.setObject(c++, p.getLastName(), Types.VARCHAR);
+        ps.setObject(c++, p.getJerseyNumber(), Types.INTEGER);
+        ps.setObject(c++, p.getPosition(), Types.VARCHAR);
+        ps.setObject(c++, p.getShoots(), Types.VARCHAR);
+        ps.setObject(c++, p.getBirthDate() == null ? null : Date.valueOf(p.getBirthDate()), Types.DATE);
+        ps.setObject(c++, p.getHometown(), Types.VARCHAR);
+        ps.setObject(c++, p.getIsActive(), Types.BOOLEAN);
+        ps.setObject(c++, p.getSkillRating(), Types.INTEGER);
+        ps.setObject(c++, p.getUserId(), Types.BIGINT);
+        ps.setObject(c++, p.getDraftPick(), Types.INTEGER);
+        Timestamp stamp = Timestamp.valueOf(now);
+        ps.setTimestamp(c++, stamp, Calendar.getInstance(JDBC_TIME_ZONE));
+        ps.setTimestamp(c, stamp, Calendar.getInstance(JDBC_TIME_ZONE));
+    }
+}
@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.obhl.stats.model.Player;
@@ -38,4 +40,64 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
     Optional<Player> findByEmail(String email);
 
     Optional<Player> findByEmailAndSeasonId(String email, Long seasonId);
+
+    /**
+     * The players matching each (email, season) pair -- {@code emails[i]} with {@code seasonIds[i]} --
+     * in one query. Emails are compared normalized, served by idx_players_email_key (migration 067);
+     * the unique constraint is on the raw email, so a pair can match several rows that differ only
+     * in case, and the caller picks one.
+     */
+    @Query(value = "SELECT p.* FROM players p "
+            + "JOIN unnest(CAST(:emails AS varchar[]), CAST(:seasonIds AS bigint[])) AS k(email, season_id) "
+            + "  ON lower(trim(p.email)) = lower(trim(k.email)) AND p.season_id = k.season_id "
+            + "ORDER BY p.id", nativeQuery = true)
+    List<Player> findByEmailKeysAndSeasons(@Param("emails") String[] emails, @Param("seasonIds") Long[] seasonIds);
+
+    /**
+     * What {@link #search} matches: a name (first, last or "first last") starting with the prefix,
+     * a name containing a word similar to the query (pg_trgm's {@code <%}, which forgives a typo or
+     * two), or -- only when {@code includeEmail} -- an email starting with the prefix. Every branch
+     * is served by a trigram index from migration 068.
+     */
+    String SEARCH_MATCH = "(CAST(:seasonId AS bigint) IS NULL OR p.season_id = CAST(:seasonId AS bigint)) "
+            + "AND (lower(p.first_name) LIKE :prefix OR lower(p.last_name) LIKE :prefix "
+            + "  OR lower(p.first_name || ' ' || p.last_name) LIKE :prefix "
+            + "  OR :query <% lower(p.first_name || ' ' || p.last_name) "
+            + "  OR (:includeEmail AND lower(p.email) LIKE :prefix))";
+
+    /**
+     * One page of players matching {@code query}, best first: prefix matches ahead of fuzzy ones,
+     * then by how close the name is, then by name. Players are re-created every season, so each
+     * person (normalized email) appears once, as their most recent matching season's row.
+     *
+     * @param query  the lowercased search text
+     * @param prefix the lowercased search text with LIKE wildcards escaped, followed by {@code %}
+     */
+    @Query(value = "WITH matched AS ("
+            + "  SELECT p.*, "
+            + "    CASE WHEN lower(p.first_name) LIKE :prefix OR lower(p.last_name) LIKE :prefix "
+            + "      OR lower(p.first_name || ' ' || p.last_name) LIKE :prefix "
+            + "      OR (:includeEmail AND lower(p.email) LIKE :prefix) THEN 1 ELSE 0 END AS prefix_hit, "
+            + "    word_similarity(:query, lower(p.first_name || ' ' || p.last_name)) AS score "
+            + "  FROM players p WHERE " + SEARCH_MATCH
+            + "), people AS ("
+            + "  SELECT DISTINCT ON (lower(trim(email))) * FROM matched "
+            + "  ORDER BY lower(trim(email)), season_id DESC NULLS LAST, id DESC"
+            + ") "
+            + "SELECT * FROM people ORDER BY prefix_hit DESC, score DESC, last_name, first_name, id "
+            + "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Player> search(@Param("query") String query,
+            @Param("prefix") String prefix,
+            @Param("seasonId") Long seasonId,
+            @Param("includeEmail") boolean includeEmail,
+            @Param("limit") int limit,
+            @Param("offset") long offset);
+
+    /** How many people {@link #search} would return across all pages. */
+    @Query(value = "SELECT COUNT(DISTINCT lower(trim(p.email))) FROM players p WHERE " + SEARCH_MATCH,
+            nativeQuery = true)
+    long countSearch(@Param("query") String query,
+            @Param("prefix") String prefix,
+            @Param("seasonId") Long seasonId,
+            @Param("includeEmail") boolean includeEmail);
 }
@@ -1,9 +1,14 @@
 package com.obhl.stats.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.obhl.stats.model.PlayerStats;
@@ -17,5 +22,169 @@ public interface PlayerStatsRepository extends JpaRepository<PlayerStats, Long>
 
     List<PlayerStats> findBySeasonIdOrderByPointsDesc(Long seasonId);
 
+    /** One page of a season in the pageable's sort -- the leaderboard consistency check reads the top rows this way. */
+    List<PlayerStats> findBySeasonId(Long seasonId, Pageable pageable);
+
+    List<PlayerStats> findBySeasonIdAndPlayerIdIn(Long seasonId, Collection<Long> playerIds);
+
+    /** Every season line of the person with this normalized email (see career_stats), oldest season first. */
+    @Query(value = "SELECT ps.* FROM player_stats ps JOIN players p ON p.id = ps.player_id "
+            + "WHERE lower(trim(p.email)) = :emailKey ORDER BY ps.season_id, ps.player_id", nativeQuery = true)
+    List<PlayerStats> findCareerSeasons(@Param("emailKey") String emailKey);
+
     List<PlayerStats> findByTeamIdAndSeasonId(Long teamId, Long seasonId);
+
+    /**
+     * Applies a whole game's worth of per-player deltas in one statement. The parallel arrays are
+     * unnested into rows and upserted on uq_player_season (migration 006): a missing row is created
+     * with the delta as its starting value, an existing row is incremented in place. Callers must
+     * collapse duplicate (player, season) pairs first -- Postgres refuses to touch the same row twice
+     * in one ON CONFLICT statement.
+     *
+     * @return rows inserted or updated
+     */
+    @Modifying
+    @Query(value = "INSERT INTO player_stats "
+            + "(player_id, season_id, team_id, games_played, goals, assists, points, penalty_minutes) "
+            + "SELECT * FROM unnest(CAST(:playerIds AS bigint[]), CAST(:seasonIds AS bigint[]), "
+            + "  CAST(:teamIds AS bigint[]), CAST(:gamesPlayed AS int[]), CAST(:goals AS int[]), "
+            + "  CAST(:assists AS int[]), CAST(:points AS int[]), CAST(:penaltyMinutes AS int[])) "
+            + "ON CONFLICT (player_id, season_id) DO UPDATE SET "
+            + "  games_played = player_stats.games_played + EXCLUDED.games_played, "
+            + "  goals = player_stats.goals + EXCLUDED.goals, "
+            + "  assists = player_stats.assists + EXCLUDED.assists, "
+            + "  points = player_stats.points + EXCLUDED.points, "
+            + "  penalty_minutes = player_stats.penalty_minutes + EXCLUDED.penalty_minutes, "
+            + "  updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int incrementAll(@Param("playerIds") Long[] playerIds,
+            @Param("seasonIds") Long[] seasonIds,
+            @Param("teamIds") Long[] teamIds,
+            @Param("gamesPlayed") Integer[] gamesPlayed,
+            @Param("goals") Integer[] goals,
+            @Param("assists") Integer[] assists,
+            @Param("points") Integer[] points,
+            @Param("penaltyMinutes") Integer[] penaltyMinutes);
+
+    /**
+     * Game-keyed variant of {@link #incrementAll}: each delta first claims its (game, player) row in
+     * player_stats_ledger, and only the deltas whose claim flipped the recorded direction reach
+     * player_stats. A replayed APPLY (retried HTTP call, double-clicked finalize) claims nothing and
+     * is a no-op; a concurrent finalize of the same game blocks on the ledger's unique key and then
+     * finds the direction already flipped. Counters are incremented in place, so no row is ever
+     * read into the application and written back.
+     *
+     * @return player_stats rows inserted or updated -- i.e. deltas actually applied
+     */
+    @Modifying
+    @Query(value = "WITH deltas AS ("
+            + "  SELECT * FROM unnest(CAST(:gameIds AS bigint[]), CAST(:directions AS varchar[]), "
+            + "    CAST(:playerIds AS bigint[]), CAST(:seasonIds AS bigint[]), CAST(:teamIds AS bigint[]), "
+            + "    CAST(:gamesPlayed AS int[]), CAST(:goals AS int[]), CAST(:assists AS int[]), "
+            + "    CAST(:points AS int[]), CAST(:penaltyMinutes AS int[])) "
+            + "  AS d(game_id, direction, player_id, season_id, team_id, games_played, goals, assists, "
+            + "    points, penalty_minutes)"
+            + "), claimed AS ("
+            + "  INSERT INTO player_stats_ledger (game_id, player_id, season_id, direction, recorded_at) "
+            + "  SELECT game_id, player_id, season_id, direction, CURRENT_TIMESTAMP FROM deltas "
+            + "  ON CONFLICT (game_id, player_id) DO UPDATE SET "
+            + "    direction = EXCLUDED.direction, recorded_at = EXCLUDED.recorded_at "
+            + "  WHERE player_stats_ledger.direction <> EXCLUDED.direction "
+            + "  RETURNING game_id, player_id"
+            + ") "
+            + "INSERT INTO player_stats "
+            + "(player_id, season_id, team_id, games_played, goals, assists, points, penalty_minutes) "
+            + "SELECT d.player_id, d.season_id, d.team_id, d.games_played, d.goals, d.assists, d.points, "
+            + "  d.penalty_minutes "
+            + "FROM deltas d JOIN claimed c ON c.game_id = d.game_id AND c.player_id = d.player_id "
+            + "ON CONFLICT (player_id, season_id) DO UPDATE SET "
+            + "  games_played = player_stats.games_played + EXCLUDED.games_played, "
+            + "  goals = player_stats.goals + EXCLUDED.goals, "
+            + "  assists = player_stats.assists + EXCLUDED.assists, "
+            + "  points = player_stats.points + EXCLUDED.points, "
+            + "  penalty_minutes = player_stats.penalty_minutes + EXCLUDED.penalty_minutes, "
+            + "  updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int incrementAllForGames(@Param("gameIds") Long[] gameIds,
+            @Param("directions") String[] directions,
+            @Param("playerIds") Long[] playerIds,
+            @Param("seasonIds") Long[] seasonIds,
+            @Param("teamIds") Long[] teamIds,
+            @Param("gamesPlayed") Integer[] gamesPlayed,
+            @Param("goals") Integer[] goals,
+            @Param("assists") Integer[] assists,
+            @Param("points") Integer[] points,
+            @Param("penaltyMinutes") Integer[] penaltyMinutes);
+
+    /**
+     * Overwrites the five counters a rebuild recomputes (PlayerStatsRebuildService) with absolute
+     * values, creating missing rows. Other columns of an existing row are left alone.
+     *
+     * @return rows inserted or updated
+     */
+    @Modifying
+    @Query(value = "INSERT INTO player_stats "
+            + "(player_id, season_id, team_id, games_played, goals, assists, points, penalty_minutes) "
+            + "SELECT * FROM unnest(CAST(:playerIds AS bigint[]), CAST(:seasonIds AS bigint[]), "
+            + "  CAST(:teamIds AS bigint[]), CAST(:gamesPlayed AS int[]), CAST(:goals AS int[]), "
+            + "  CAST(:assists AS int[]), CAST(:points AS int[]), CAST(:penaltyMinutes AS int[])) "
+            + "ON CONFLICT (player_id, season_id) DO UPDATE SET "
+            + "  games_played = EXCLUDED.games_played, "
+            + "  goals = EXCLUDED.goals, "
+            + "  assists = EXCLUDED.assists, "
+            + "  points = EXCLUDED.points, "
+            + "  penalty_minutes = EXCLUDED.penalty_minutes, "
+            + "  updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int overwriteAll(@Param("playerIds") Long[] playerIds,
+            @Param("seasonIds") Long[] seasonIds,
+            @Param("teamIds") Long[] teamIds,
+            @Param("gamesPlayed") Integer[] gamesPlayed,
+            @Param("goals") Integer[] goals,
+            @Param("assists") Integer[] assists,
+            @Param("points") Integer[] points,
+            @Param("penaltyMinutes") Integer[] penaltyMinutes);
+
+    /** The database's current time as text, to hand back later as {@code mark} below. */
+    @Query(value = "SELECT CAST(LOCALTIMESTAMP AS text)", nativeQuery = true)
+    String ledgerMark();
+
+    /** Ledger rows of the season recorded at or after {@code mark}. */
+    @Query(value = "SELECT COUNT(*) FROM player_stats_ledger "
+            + "WHERE season_id = :seasonId AND recorded_at >= CAST(:mark AS timestamp)", nativeQuery = true)
+    long countLedgerChangesSince(@Param("seasonId") Long seasonId, @Param("mark") String mark);
+
+    /**
+     * Holds off every ledger-keyed increment until the current transaction ends; reads still go
+     * through. Taken by a rebuild so no finalize lands between its check and its writes.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE player_stats_ledger IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockLedger();
+
+    /**
+     * Marks the (game, player) pairs a rebuild counted as APPLY and every other APPLY of the season
+     * as REVERT, so the ledger agrees with the rebuilt totals: a late finalize delivery for a counted
+     * game is skipped, and a late unfinalize of a game the rebuild left out takes nothing away.
+     *
+     * @return ledger rows changed
+     */
+    @Modifying
+    @Query(value = "WITH counted AS ("
+            + "  SELECT * FROM unnest(CAST(:gameIds AS bigint[]), CAST(:playerIds AS bigint[])) "
+            + "  AS c(game_id, player_id)"
+            + "), reverted AS ("
+            + "  UPDATE player_stats_ledger l SET direction = 'REVERT', recorded_at = CURRENT_TIMESTAMP "
+            + "  WHERE l.season_id = :seasonId AND l.direction = 'APPLY' AND NOT EXISTS "
+            + "    (SELECT 1 FROM counted c WHERE c.game_id = l.game_id AND c.player_id = l.player_id) "
+            + "  RETURNING 1"
+            + "), applied AS ("
+            + "  INSERT INTO player_stats_ledger (game_id, player_id, season_id, direction, recorded_at) "
+            + "  SELECT game_id, player_id, :seasonId, 'APPLY', CURRENT_TIMESTAMP FROM counted "
+            + "  ON CONFLICT (game_id, player_id) DO UPDATE SET "
+            + "    direction = EXCLUDED.direction, recorded_at = EXCLUDED.recorded_at "
+            + "  WHERE player_stats_ledger.direction <> EXCLUDED.direction "
+            + "  RETURNING 1"
+            + ") "
+            + "SELECT (SELECT COUNT(*) FROM reverted) + (SELECT COUNT(*) FROM applied)", nativeQuery = true)
+    long alignLedger(@Param("seasonId") Long seasonId,
+            @Param("gameIds") Long[] gameIds,
+            @Param("playerIds") Long[] playerIds);
 }
@@ -0,0 +1,121 @@
+package com.obhl.stats.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.obhl.stats.dto.CareerStatsDto;
+import com.obhl.stats.model.CareerStats;
+import com.obhl.stats.model.Player;
+import com.obhl.stats.repository.CareerStatsRepository;
+import com.obhl.stats.repository.PlayerRepository;
+import com.obhl.stats.repository.PlayerStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Career totals per person across seasons (career_stats, migration 067). players rows are
+ * re-created every season, so a person is their normalized email.
+ *
+ * <p>Kept current incrementally: whoever writes player_stats, or changes which email a player row
+ * has, calls {@link #refreshPlayers} or {@link #refreshEmails} in the same transaction, and only
+ * those people's rows are recomputed -- from their few season rows, so a ledger-skipped delta or an
+ * overwrite is reflected exactly as it landed. An advisory lock per person keeps two transactions
+ * touching different seasons of one person from overwriting each other's recompute.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CareerStatsService {
+
+    /** Largest leaderboard page served. */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final CareerStatsRepository careerStatsRepository;
+    private final PlayerStatsRepository playerStatsRepository;
+    private final PlayerRepository playerRepository;
+
+    /** Recomputes the careers of the people these player rows belong to. */
+    @Transactional
+    public void refreshPlayers(Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return;
+        }
+        refreshEmails(careerStatsRepository.emailKeysOf(playerIds.stream().distinct().toArray(Long[]::new)));
+    }
+
+    /** Recomputes the careers of these emails' owners; emails are normalized by the query. */
+    @Transactional
+    public void refreshEmails(Collection<String> emails) {
+        String[] keys = emails.stream().filter(Objects::nonNull).distinct().toArray(String[]::new);
+        if (keys.length == 0) {
+            return;
+        }
+        careerStatsRepository.lock(keys);
+        long changed = careerStatsRepository.recompute(keys);
+        log.debug("Recomputed {} career rows for {} emails", changed, keys.length);
+    }
+
+    /** One page of the all-time leaderboard; {@code size} is clamped to 1..{@value #MAX_PAGE_SIZE}. */
+    @Transactional(readOnly = true)
+    public CareerStatsDto.Page leaders(LeaderboardService.Category category, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        org.springframework.data.domain.Page<CareerStats> rows = careerStatsRepository
+                .findAll(PageRequest.of(pageNumber, pageSize, category.sort("latestPlayerId")));
+        Map<Long, Player> players = playerRepository
+                .findAllById(rows.getContent().stream().map(CareerStats::getLatestPlayerId).toList()).stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+
+        List<CareerStatsDto.Line> lines = new ArrayList<>(rows.getNumberOfElements());
+        int rank = pageNumber * pageSize;
+        for (CareerStats row : rows) {
+            CareerStatsDto.Line line = toLine(row, players.get(row.getLatestPlayerId()));
+            line.setRank(++rank);
+            line.setValue(valueOf(category, row));
+            lines.add(line);
+        }
+        return new CareerStatsDto.Page(category.name().toLowerCase(Locale.ROOT), pageNumber, pageSize,
+                rows.getTotalElements(), lines);
+    }
+
+    /** The career of whoever player row {@code playerId} belongs to, in any season. */
+    @Transactional(readOnly = true)
+    public Optional<CareerStatsDto.PlayerCareer> forPlayer(Long playerId) {
+        List<String> keys = careerStatsRepository.emailKeysOf(new Long[] { playerId });
+        if (keys.isEmpty()) {
+            return Optional.empty();
+        }
+        String key = keys.get(0);
+        return careerStatsRepository.findById(key).map(row -> new CareerStatsDto.PlayerCareer(
+                toLine(row, playerRepository.findById(row.getLatestPlayerId()).orElse(null)),
+                playerStatsRepository.findCareerSeasons(key)));
+    }
+
+    private static CareerStatsDto.Line toLine(CareerStats row, Player player) {
+        return new CareerStatsDto.Line(null, row.getLatestPlayerId(),
+                player != null ? player.getFirstName() : null, player != null ? player.getLastName() : null,
+                row.getSeasonsPlayed(), row.getGamesPlayed(), row.getGoals(), row.getAssists(), row.getPoints(),
+                row.getPenaltyMinutes(), null);
+    }
+
+    private static Integer valueOf(LeaderboardService.Category category, CareerStats row) {
+        return switch (category) {
+            case POINTS -> row.getPoints();
+            case GOALS -> row.getGoals();
+            case ASSISTS -> row.getAssists();
+            case PIM -> row.getPenaltyMinutes();
+        };
+    }
+}
@@ -0,0 +1,346 @@
+package com.obhl.stats.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.obhl.stats.dto.LeaderDto;
+import com.obhl.stats.model.PlayerStats;
+import com.obhl.stats.repository.PlayerStatsRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Season leaders by points, goals, assists and penalty minutes, served from memory. Each season
+ * has a board: every player's line, plus one sorted set per {@link Category}, so a top-N read walks
+ * N entries instead of sorting the season.
+ *
+ * <p>Boards are warmed from player_stats at startup (a season nobody has asked about yet is loaded
+ * on first read) and kept current by the write paths: after a transaction that changed
+ * player_stats commits, the touched players' rows are read back and replace their lines. The
+ * committed row is taken rather than the delta the caller sent because the ledger may have
+ * skipped that delta, and a manual POST replaces a line outright.
+ *
+ * <p>{@link #checkConsistency} periodically compares every board's top rows with the same query
+ * against the table. A mismatch means an update was missed (a failed refresh, a row changed by
+ * hand); the season is reloaded and counted as {@code stats.leaders.drift}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    /** Largest limit served, and how deep the consistency check compares. */
+    public static final int MAX_LIMIT = 100;
+
+    private final PlayerStatsRepository playerStatsRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, Board> boards = new ConcurrentHashMap<>();
+
+    /**
+     * What a board ranks by. Ties fall to a second stat (goals for points, points otherwise), then
+     * fewer games played, then player id, so every reader -- and the check's SQL -- sees one order.
+     */
+    public enum Category {
+        POINTS(Line::points, Line::goals, "points", "goals"),
+        GOALS(Line::goals, Line::points, "goals", "points"),
+        ASSISTS(Line::assists, Line::points, "assists", "points"),
+        PIM(Line::penaltyMinutes, Line::points, "penaltyMinutes", "points");
+
+        private final ToIntFunction<Line> value;
+        private final Comparator<Line> order;
+        private final String property;
+        private final String tiebreakProperty;
+
+        Category(ToIntFunction<Line> value, ToIntFunction<Line> tiebreak, String property, String tiebreakProperty) {
+            this.value = value;
+            this.order = Comparator.comparingInt(value).reversed()
+                    .thenComparing(Comparator.comparingInt(tiebreak).reversed())
+                    .thenComparingInt(Line::gamesPlayed)
+                    .thenComparingLong(Line::playerId);
+            this.property = property;
+            this.tiebreakProperty = tiebreakProperty;
+        }
+
+        /**
+         * The same order as a query sort, for an entity with the ranked stats under the
+         * PlayerStats property names and {@code idProperty} as the last tie-break.
+         */
+        Sort sort(String idProperty) {
+            return Sort.by(Sort.Order.desc(property), Sort.Order.desc(tiebreakProperty),
+                    Sort.Order.asc("gamesPlayed"), Sort.Order.asc(idProperty));
+        }
+
+        /** Case-insensitive; {@code penaltyMinutes} is accepted for PIM. */
+        public static Category fromParam(String param) {
+            String name = param == null ? "" : param.trim().toUpperCase(Locale.ROOT);
+            if ("PENALTYMINUTES".equals(name)) {
+                return PIM;
+            }
+            try {
+                return valueOf(name);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("category must be one of points, goals, assists, pim");
+            }
+        }
+    }
+
+    /**
+     * The season's top {@code limit} players in {@code category}; {@code limit} is clamped to
+     * 1..{@value #MAX_LIMIT}.
+     */
+    public List<LeaderDto> leaders(Long seasonId, Category category, int limit) {
+        Board board = boards.get(seasonId);
+        if (board == null || !board.loaded) {
+            List<PlayerStats> rows = playerStatsRepository.findBySeasonId(seasonId);
+            if (board == null && rows.isEmpty()) {
+                // Nothing to rank; don't keep a board for a season id that may not even exist.
+                return List.of();
+            }
+            board = boards.computeIfAbsent(seasonId, id -> new Board());
+            install(board, rows);
+        }
+        List<Line> top = board.top(category, Math.max(1, Math.min(limit, MAX_LIMIT)));
+        List<LeaderDto> leaders = new ArrayList<>(top.size());
+        for (Line line : top) {
+            leaders.add(new LeaderDto(leaders.size() + 1, line.playerId(), line.teamId(), line.gamesPlayed(),
+                    line.goals(), line.assists(), line.points(), line.penaltyMinutes(),
+                    category.value.applyAsInt(line)));
+        }
+        return leaders;
+    }
+
+    /**
+     * Refreshes the given players' lines once the current transaction commits, or right away when
+     * there is none. Every writer of player_stats calls this with the (season, players) it touched.
+     * A null season or player has no line to refresh and is skipped.
+     */
+    public void refreshAfterCommit(Map<Long, Set<Long>> playerIdsBySeason) {
+        if (playerIdsBySeason.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            playerIdsBySeason.forEach(this::refresh);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                playerIdsBySeason.forEach(LeaderboardService.this::refresh);
+            }
+        });
+    }
+
+    /** Single-player form of {@link #refreshAfterCommit(Map)}. */
+    public void refreshAfterCommit(Long seasonId, Long playerId) {
+        if (seasonId == null || playerId == null) {
+            return;
+        }
+        refreshAfterCommit(Map.of(seasonId, Set.of(playerId)));
+    }
+
+    /**
+     * Loads every season with stats before traffic arrives. A failure here only costs latency:
+     * boards that didn't load are loaded by their first read.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        try {
+            Map<Long, List<PlayerStats>> bySeason = playerStatsRepository.findAll().stream()
+                    .filter(row -> row.getSeasonId() != null)
+                    .collect(Collectors.groupingBy(PlayerStats::getSeasonId));
+            bySeason.forEach((seasonId, rows) -> install(boards.computeIfAbsent(seasonId, id -> new Board()), rows));
+            log.info("Warmed leaderboards for {} seasons", bySeason.size());
+        } catch (RuntimeException e) {
+            log.warn("Could not warm leaderboards; seasons will load on first read", e);
+        }
+    }
+
+    /**
+     * Compares each loaded board's top {@value #MAX_LIMIT} per category with the table and reloads
+     * any season that disagrees. A write committing while a season is being compared can show up
+     * as a one-off mismatch; the reload that follows is harmless.
+     */
+    @Scheduled(fixedDelayString = "${stats.leaders.check-interval-ms:300000}",
+            initialDelayString = "${stats.leaders.check-interval-ms:300000}")
+    public void checkConsistency() {
+        boards.forEach((seasonId, board) -> {
+            if (!board.loaded) {
+                return;
+            }
+            try {
+                checkSeason(seasonId, board);
+            } catch (RuntimeException e) {
+                log.warn("Leaderboard check failed for season {}", seasonId, e);
+            }
+        });
+    }
+
+    private void checkSeason(Long seasonId, Board board) {
+        synchronized (board.refreshLock) {
+            for (Category category : Category.values()) {
+                List<Line> expected = playerStatsRepository
+                        .findBySeasonId(seasonId, PageRequest.of(0, MAX_LIMIT, category.sort("playerId"))).stream()
+                        .map(Line::of)
+                        .toList();
+                List<Line> actual = board.top(category, MAX_LIMIT);
+                if (expected.equals(actual)) {
+                    continue;
+                }
+                Counter.builder("stats.leaders.drift")
+                        .description("Leaderboards found out of step with player_stats and reloaded")
+                        .tag("category", category.name().toLowerCase(Locale.ROOT))
+                        .register(meterRegistry)
+                        .increment();
+                log.warn("Season {} {} leaderboard drifted from player_stats ({} rows in memory, {} in table); reloading",
+                        seasonId, category, actual.size(), expected.size());
+                board.replaceAll(playerStatsRepository.findBySeasonId(seasonId));
+                return;
+            }
+        }
+    }
+
+    private void refresh(Long seasonId, Set<Long> playerIds) {
+        if (seasonId == null) {
+            return;
+        }
+        Board board = boards.computeIfAbsent(seasonId, id -> new Board());
+        // Read and apply under one lock: of two refreshes of a season, the one that reads later
+        // also applies later, so a line is never put back to an older row.
+        synchronized (board.refreshLock) {
+            try {
+                if (!board.loaded) {
+                    board.replaceAll(playerStatsRepository.findBySeasonId(seasonId));
+                    board.loaded = true;
+                    return;
+                }
+                board.replace(playerIds, playerStatsRepository.findBySeasonIdAndPlayerIdIn(seasonId, playerIds));
+            } catch (RuntimeException e) {
+                // The write itself committed; make the next read reload the season instead of
+                // serving lines we know may be stale.
+                board.loaded = false;
+                log.warn("Could not refresh season {} leaderboard for players {}", seasonId, playerIds, e);
+            }
+        }
+    }
+
+    /**
+     * Fills a board that is not loaded yet. {@code rows} may have been read before the lock was
+     * taken; if a refresh loaded the board in the meantime its rows are at least as new, so they win.
+     */
+    private static void install(Board board, List<PlayerStats> rows) {
+        synchronized (board.refreshLock) {
+            if (!board.loaded) {
+                board.replaceAll(rows);
+                board.loaded = true;
+            }
+        }
+    }
+
+    /** The ranked fields of a player_stats row. Immutable, so a line can sit in several sorted sets. */
+    record Line(long playerId, Long teamId, int gamesPlayed, int goals, int assists, int points,
+            int penaltyMinutes) {
+
+        static Line of(PlayerStats stats) {
+            return new Line(stats.getPlayerId(), stats.getTeamId(), orZero(stats.getGamesPlayed()),
+                    orZero(stats.getGoals()), orZero(stats.getAssists()), orZero(stats.getPoints()),
+                    orZero(stats.getPenaltyMinutes()));
+        }
+
+        private static int orZero(Integer value) {
+            return value != null ? value : 0;
+        }
+    }
+
+    /**
+     * One season's lines. Readers take the read lock; writers take the write lock, and callers
+     * that read player_stats before writing hold {@code refreshLock} across both.
+     */
+    static final class Board {
+        final Object refreshLock = new Object();
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        final Map<Long, Line> lines = new HashMap<>();
+        final Map<Category, TreeSet<Line>> ranked = new EnumMap<>(Category.class);
+        volatile boolean loaded;
+
+        Board() {
+            for (Category category : Category.values()) {
+                ranked.put(category, new TreeSet<>(category.order));
+            }
+        }
+
+        List<Line> top(Category category, int limit) {
+            lock.readLock().lock();
+            try {
+                List<Line> top = new ArrayList<>(Math.min(limit, lines.size()));
+                Iterator<Line> it = ranked.get(category).iterator();
+                while (it.hasNext() && top.size() < limit) {
+                    top.add(it.next());
+                }
+                return top;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void replaceAll(Collection<PlayerStats> rows) {
+            lock.writeLock().lock();
+            try {
+                lines.clear();
+                ranked.values().forEach(TreeSet::clear);
+                rows.forEach(row -> put(Line.of(row)));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /** Replaces the lines of {@code playerIds} with {@code rows}; a player with no row is dropped. */
+        void replace(Set<Long> playerIds, Collection<PlayerStats> rows) {
+            lock.writeLock().lock();
+            try {
+                playerIds.forEach(this::remove);
+                rows.forEach(row -> put(Line.of(row)));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void put(Line line) {
+            remove(line.playerId());
+            lines.put(line.playerId(), line);
+            ranked.values().forEach(set -> set.add(line));
+        }
+
+        private void remove(Long playerId) {
+            Line old = lines.remove(playerId);
+            if (old != null) {
+                ranked.values().forEach(set -> set.remove(old));
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.obhl.stats.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.obhl.stats.dto.PlayerStatsIncrementDto;
+import com.obhl.stats.dto.PlayerStatsRebuildDto;
+import com.obhl.stats.model.PlayerStats;
+import com.obhl.stats.repository.PlayerStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Receiving end of game-service's season rebuild: diffs the totals its game events add up to
+ * against player_stats and, unless dry-run, overwrites what differs.
+ *
+ * <p>player_stats is otherwise only ever moved by deltas, so a delta that never arrived (or a
+ * goal edited after its game was finalized) stays wrong forever. A rebuild sets games played,
+ * goals, assists, points and PIM to the recomputed values -- manual corrections to those five
+ * counters are overwritten too -- and lines the ledger up with what it counted, so deliveries still
+ * queued in game-service's outbox neither double-count nor undo it.
+ *
+ * <p>The whole correction is one transaction holding the ledger lock. If the ledger moved for the
+ * season after {@code ledgerMark} (a finalize or unfinalize reached us while game-service was
+ * scanning), the recomputed totals may already be stale and the rebuild is refused; game-service
+ * scans again.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlayerStatsRebuildService {
+
+    private final PlayerStatsRepository playerStatsRepository;
+    private final LeaderboardService leaderboardService;
+    private final CareerStatsService careerStatsService;
+
+    /** Taken by game-service before it starts scanning; see {@link PlayerStatsRebuildDto.Request#getLedgerMark}. */
+    public String ledgerMark() {
+        return playerStatsRepository.ledgerMark();
+    }
+
+    /**
+     * @throws IllegalArgumentException for a malformed request
+     * @throws IllegalStateException when the season's ledger changed after the request's mark
+     */
+    @Transactional
+    public PlayerStatsRebuildDto.Result rebuild(PlayerStatsRebuildDto.Request request) {
+        Long seasonId = request.getSeasonId();
+        if (seasonId == null || request.getLines() == null) {
+            throw new IllegalArgumentException("seasonId and lines are required");
+        }
+        if (!request.isDryRun()) {
+            if (request.getLedgerMark() == null) {
+                throw new IllegalArgumentException("ledgerMark is required unless dryRun is set");
+            }
+            playerStatsRepository.lockLedger();
+            long changed = playerStatsRepository.countLedgerChangesSince(seasonId, request.getLedgerMark());
+            if (changed > 0) {
+                throw new IllegalStateException("Season " + seasonId + " had " + changed
+                        + " ledger changes while it was being scanned");
+            }
+        }
+
+        Map<String, PlayerStatsIncrementDto> counted = new LinkedHashMap<>();
+        for (PlayerStatsIncrementDto line : request.getLines()) {
+            if (line.getGameId() == null || line.getPlayerId() == null || line.getTeamId() == null) {
+                throw new IllegalArgumentException("gameId, playerId and teamId are required for every line");
+            }
+            if (!seasonId.equals(Objects.requireNonNullElse(line.getSeasonId(), seasonId))) {
+                throw new IllegalArgumentException("Line for game " + line.getGameId() + " is not in season " + seasonId);
+            }
+            PlayerStatsIncrementDto previous = counted.putIfAbsent(line.getGameId() + ":" + line.getPlayerId(), line);
+            if (previous != null) {
+                throw new IllegalArgumentException("Duplicate line for player " + line.getPlayerId()
+                        + " in game " + line.getGameId());
+            }
+        }
+        Map<Long, Expected> expected = tally(counted.values());
+
+        Map<Long, PlayerStats> current = playerStatsRepository.findBySeasonId(seasonId).stream()
+                .collect(Collectors.toMap(PlayerStats::getPlayerId, s -> s));
+        List<PlayerStatsRebuildDto.Correction> corrections = new ArrayList<>();
+        for (PlayerStats row : current.values()) {
+            Expected want = expected.get(row.getPlayerId());
+            PlayerStatsRebuildDto.Totals before = totalsOf(row);
+            PlayerStatsRebuildDto.Totals after = want != null ? want.totals : new PlayerStatsRebuildDto.Totals();
+            if (!before.equals(after)) {
+                corrections.add(new PlayerStatsRebuildDto.Correction(row.getPlayerId(), row.getTeamId(), before, after));
+            }
+        }
+        expected.forEach((playerId, want) -> {
+            if (!current.containsKey(playerId)) {
+                corrections.add(new PlayerStatsRebuildDto.Correction(playerId, want.teamId, null, want.totals));
+            }
+        });
+
+        int games = (int) counted.values().stream().map(PlayerStatsIncrementDto::getGameId).distinct().count();
+        if (!request.isDryRun()) {
+            apply(seasonId, corrections);
+            long aligned = playerStatsRepository.alignLedger(seasonId,
+                    counted.values().stream().map(PlayerStatsIncrementDto::getGameId).toArray(Long[]::new),
+                    counted.values().stream().map(PlayerStatsIncrementDto::getPlayerId).toArray(Long[]::new));
+            Set<Long> corrected = corrections.stream().map(PlayerStatsRebuildDto.Correction::getPlayerId)
+                    .collect(Collectors.toSet());
+            careerStatsService.refreshPlayers(corrected);
+            leaderboardService.refreshAfterCommit(Map.of(seasonId, corrected));
+            log.info("Rebuilt season {} player stats from {} games: {} of {} players corrected, {} ledger rows aligned",
+                    seasonId, games, corrections.size(), current.size(), aligned);
+        }
+        Set<Long> players = new HashSet<>(current.keySet());
+        players.addAll(expected.keySet());
+        return new PlayerStatsRebuildDto.Result(seasonId, request.isDryRun(), games, players.size(),
+                corrections.size(), corrections);
+    }
+
+    private void apply(Long seasonId, List<PlayerStatsRebuildDto.Correction> corrections) {
+        if (corrections.isEmpty()) {
+            return;
+        }
+        int n = corrections.size();
+        Long[] playerIds = new Long[n];
+        Long[] seasonIds = new Long[n];
+        Long[] teamIds = new Long[n];
+        Integer[] gamesPlayed = new Integer[n];
+        Integer[] goals = new Integer[n];
+        Integer[] assists = new Integer[n];
+        Integer[] points = new Integer[n];
+        Integer[] penaltyMinutes = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            PlayerStatsRebuildDto.Correction c = corrections.get(i);
+            playerIds[i] = c.getPlayerId();
+            seasonIds[i] = seasonId;
+            teamIds[i] = c.getTeamId();
+            gamesPlayed[i] = c.getAfter().getGamesPlayed();
+            goals[i] = c.getAfter().getGoals();
+            assists[i] = c.getAfter().getAssists();
+            points[i] = c.getAfter().getPoints();
+            penaltyMinutes[i] = c.getAfter().getPenaltyMinutes();
+        }
+        playerStatsRepository.overwriteAll(playerIds, seasonIds, teamIds, gamesPlayed, goals, assists, points,
+                penaltyMinutes);
+    }
+
+    /** A player's season totals from their per-game lines, and the team of their latest game. */
+    private static final class Expected {
+        final PlayerStatsRebuildDto.Totals totals = new PlayerStatsRebuildDto.Totals();
+        Long teamId;
+        long latestGameId = Long.MIN_VALUE;
+    }
+
+    /**
+     * Season totals per player. Each line is one game played -- the same rule finalize follows,
+     * where a player with any line in a game is credited the game.
+     */
+    private static Map<Long, Expected> tally(Iterable<PlayerStatsIncrementDto> lines) {
+        Map<Long, Expected> byPlayer = new HashMap<>();
+        for (PlayerStatsIncrementDto line : lines) {
+            Expected e = byPlayer.computeIfAbsent(line.getPlayerId(), id -> new Expected());
+            PlayerStatsRebuildDto.Totals t = e.totals;
+            int goals = orZero(line.getGoals());
+            int assists = orZero(line.getAssists());
+            t.setGamesPlayed(t.getGamesPlayed() + 1);
+            t.setGoals(t.getGoals() + goals);
+            t.setAssists(t.getAssists() + assists);
+            t.setPoints(t.getPoints() + goals + assists);
+            t.setPenaltyMinutes(t.getPenaltyMinutes() + orZero(line.getPenaltyMinutes()));
+            if (line.getGameId() > e.latestGameId) {
+                e.latestGameId = line.getGameId();
+                e.teamId = line.getTeamId();
+            }
+        }
+        return byPlayer;
+    }
+
+    private static PlayerStatsRebuildDto.Totals totalsOf(PlayerStats row) {
+        return new PlayerStatsRebuildDto.Totals(orZero(row.getGamesPlayed()), orZero(row.getGoals()),
+                orZero(row.getAssists()), orZero(row.getPoints()), orZero(row.getPenaltyMinutes()));
+    }
+
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
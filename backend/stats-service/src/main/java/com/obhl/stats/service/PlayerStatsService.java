@@ -0,0 +1,180 @@
+package com.obhl.stats.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.obhl.stats.dto.PlayerStatsIncrementDto;
+import com.obhl.stats.model.PlayerStats;
+import com.obhl.stats.model.PlayerStatsLedgerEntry;
+import com.obhl.stats.repository.PlayerStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write side of player_stats for game finalization. game-service sends one batch per finalized
+ * (or unfinalized) game instead of one request per player, and the batch lands as a single
+ * set-based upsert inside one transaction -- either every player's line moves or none do.
+ *
+ * <p>Increments that carry a gameId go through player_stats_ledger and are applied at most once
+ * per (gameId, playerId, direction); increments without one (manual corrections, old callers) are
+ * applied unconditionally, as they always were.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlayerStatsService {
+
+    private final PlayerStatsRepository playerStatsRepository;
+    private final LeaderboardService leaderboardService;
+    private final CareerStatsService careerStatsService;
+
+    /**
+     * @return number of player_stats rows inserted or updated; ledger-keyed increments that were
+     *         already applied are skipped and not counted
+     */
+    @Transactional
+    public int incrementAll(List<PlayerStatsIncrementDto> increments) {
+        List<PlayerStatsIncrementDto> merged = mergeDuplicates(increments);
+        Map<Long, List<PlayerStatsIncrementDto>> keyedByGame = merged.stream()
+                .filter(d -> d.getGameId() != null)
+                .collect(Collectors.groupingBy(PlayerStatsIncrementDto::getGameId, LinkedHashMap::new,
+                        Collectors.toList()));
+        List<PlayerStatsIncrementDto> unkeyed = merged.stream().filter(d -> d.getGameId() == null).toList();
+        leaderboardService.refreshAfterCommit(merged.stream()
+                .filter(d -> d.getSeasonId() != null)
+                .collect(Collectors.groupingBy(PlayerStatsIncrementDto::getSeasonId,
+                        Collectors.mapping(PlayerStatsIncrementDto::getPlayerId, Collectors.toSet()))));
+
+        int updated = 0;
+        // One statement per game: a player can appear in several games of one batch (game-service's
+        // outbox drains a backlog this way), and one upsert cannot touch the same stats row twice.
+        for (List<PlayerStatsIncrementDto> keyed : keyedByGame.values()) {
+            Columns c = new Columns(keyed);
+            Long[] gameIds = keyed.stream().map(PlayerStatsIncrementDto::getGameId).toArray(Long[]::new);
+            String[] directions = keyed.stream().map(PlayerStatsIncrementDto::getDirection).toArray(String[]::new);
+            int applied = playerStatsRepository.incrementAllForGames(gameIds, directions, c.playerIds,
+                    c.seasonIds, c.teamIds, c.gamesPlayed, c.goals, c.assists, c.points, c.penaltyMinutes);
+            if (applied < keyed.size()) {
+                log.info("Skipped {} of {} game-keyed stat increments already recorded in the ledger",
+                        keyed.size() - applied, keyed.size());
+            }
+            updated += applied;
+        }
+        if (!unkeyed.isEmpty()) {
+            Columns c = new Columns(unkeyed);
+            updated += playerStatsRepository.incrementAll(c.playerIds, c.seasonIds, c.teamIds, c.gamesPlayed,
+                    c.goals, c.assists, c.points, c.penaltyMinutes);
+        }
+        careerStatsService.refreshPlayers(merged.stream().map(PlayerStatsIncrementDto::getPlayerId).toList());
+        log.debug("Applied {} player stat increments ({} rows)", increments.size(), updated);
+        return updated;
+    }
+
+    /**
+     * Saves a whole row as sent -- the manual POST /stats/players. The row and the career it feeds
+     * commit together, so a failed career refresh leaves neither; the leaderboard line follows
+     * after commit.
+     */
+    @Transactional
+    public PlayerStats save(PlayerStats stats) {
+        PlayerStats saved = playerStatsRepository.saveAndFlush(stats);
+        careerStatsService.refreshPlayers(List.of(saved.getPlayerId()));
+        leaderboardService.refreshAfterCommit(saved.getSeasonId(), saved.getPlayerId());
+        return saved;
+    }
+
+    /** The parallel arrays the unnest-based upserts bind. */
+    private static final class Columns {
+        final Long[] playerIds;
+        final Long[] seasonIds;
+        final Long[] teamIds;
+        final Integer[] gamesPlayed;
+        final Integer[] goals;
+        final Integer[] assists;
+        final Integer[] points;
+        final Integer[] penaltyMinutes;
+
+        Columns(List<PlayerStatsIncrementDto> rows) {
+            int n = rows.size();
+            playerIds = new Long[n];
+            seasonIds = new Long[n];
+            teamIds = new Long[n];
+            gamesPlayed = new Integer[n];
+            goals = new Integer[n];
+            assists = new Integer[n];
+            points = new Integer[n];
+            penaltyMinutes = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                PlayerStatsIncrementDto dto = rows.get(i);
+                playerIds[i] = dto.getPlayerId();
+                seasonIds[i] = dto.getSeasonId();
+                teamIds[i] = dto.getTeamId();
+                gamesPlayed[i] = dto.getGamesPlayed();
+                goals[i] = dto.getGoals();
+                assists[i] = dto.getAssists();
+                points[i] = dto.getPoints();
+                penaltyMinutes[i] = dto.getPenaltyMinutes();
+            }
+        }
+    }
+
+    /**
+     * Folds duplicate (game, player, season) entries into one and fills in the same defaults the
+     * single-row /increment endpoint has always used: missing counters are 0, a missing
+     * gamesPlayed means "played one game". Duplicates must agree on direction -- the ledger has
+     * one row per (game, player), so a batch cannot both apply and revert it.
+     */
+    private static List<PlayerStatsIncrementDto> mergeDuplicates(List<PlayerStatsIncrementDto> increments) {
+        Map<String, PlayerStatsIncrementDto> byKey = new LinkedHashMap<>();
+        for (PlayerStatsIncrementDto dto : increments) {
+            if (dto.getPlayerId() == null || dto.getSeasonId() == null) {
+                throw new IllegalArgumentException("playerId and seasonId are required for every increment");
+            }
+            String direction = normalizeDirection(dto);
+            String key = dto.getGameId() + ":" + dto.getPlayerId() + ":" + dto.getSeasonId();
+            PlayerStatsIncrementDto acc = byKey.get(key);
+            if (acc == null) {
+                byKey.put(key, new PlayerStatsIncrementDto(
+                        dto.getPlayerId(), dto.getSeasonId(), dto.getTeamId(),
+                        orZero(dto.getGoals()), orZero(dto.getAssists()), orZero(dto.getPoints()),
+                        orZero(dto.getPenaltyMinutes()),
+                        dto.getGamesPlayed() != null ? dto.getGamesPlayed() : 1,
+                        dto.getGameId(), direction));
+                continue;
+            }
+            if (!Objects.equals(acc.getDirection(), direction)) {
+                throw new IllegalArgumentException("Conflicting increments for player " + dto.getPlayerId()
+                        + " in game " + dto.getGameId());
+            }
+            acc.setGoals(acc.getGoals() + orZero(dto.getGoals()));
+            acc.setAssists(acc.getAssists() + orZero(dto.getAssists()));
+            acc.setPoints(acc.getPoints() + orZero(dto.getPoints()));
+            acc.setPenaltyMinutes(acc.getPenaltyMinutes() + orZero(dto.getPenaltyMinutes()));
+            acc.setGamesPlayed(acc.getGamesPlayed() + (dto.getGamesPlayed() != null ? dto.getGamesPlayed() : 1));
+        }
+        return new ArrayList<>(byKey.values());
+    }
+
+    private static String normalizeDirection(PlayerStatsIncrementDto dto) {
+        if (dto.getGameId() == null) {
+            return null;
+        }
+        String direction = dto.getDirection() == null ? "" : dto.getDirection().trim().toUpperCase();
+        if (!PlayerStatsLedgerEntry.APPLY.equals(direction) && !PlayerStatsLedgerEntry.REVERT.equals(direction)) {
+            throw new IllegalArgumentException("direction must be APPLY or REVERT when gameId is set");
+        }
+        return direction;
+    }
+
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
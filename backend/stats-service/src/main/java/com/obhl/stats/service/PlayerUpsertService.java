@@ -0,0 +1,311 @@
+package com.obhl.stats.service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.obhl.stats.config.PlayerAccess;
+import com.obhl.stats.dto.PlayerUpsertDto;
+import com.obhl.stats.model.Player;
+import com.obhl.stats.repository.PlayerBatchWriter;
+import com.obhl.stats.repository.PlayerRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates or updates many players at once, each keyed by (normalized email, season) -- the
+ * per-season identity draft finalization and the tournament draft commit already look players up
+ * by. Existing rows for every submitted key come back in one query; new players are inserted as
+ * JDBC batches by {@link PlayerBatchWriter} and changed ones flushed as batched UPDATEs.
+ *
+ * <p>Rows are judged one by one: a row that is malformed, repeats an earlier row's key, lacks what
+ * a new player needs, breaks a players column constraint (NOT NULL, length or CHECK), or sets a
+ * skill rating the caller may not set is reported as failed and the rest still land. What the
+ * rows cannot be checked for -- another writer inserting the same key, a teamId that is not a
+ * team -- fails the whole batch.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlayerUpsertService {
+
+    /** Largest batch accepted; a full league draft is a few hundred players. */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    /** The values chk_position and chk_shoots allow. */
+    private static final Set<String> POSITIONS = Set.of("F", "D", "G");
+    private static final Set<String> SHOOTS = Set.of("L", "R", "N/A");
+
+    private final PlayerRepository playerRepository;
+    private final PlayerBatchWriter playerBatchWriter;
+
+    /**
+     * Upserts {@code rows}, each a player in the shape {@code PATCH /players/{id}} takes plus
+     * {@code userId} and {@code draftPick}. A matched player gets the row applied as a partial
+     * update, minus the fields named in {@code createOnly}; an unmatched one is created from it.
+     *
+     * <p>The email key of a matched player cannot change here, so nobody's career moves and
+     * career_stats is left alone.
+     *
+     * @throws IllegalArgumentException if there are more than {@value #MAX_BATCH_SIZE} rows
+     */
+    @Transactional
+    public PlayerUpsertDto.Response upsert(List<Map<String, Object>> rows, Set<String> createOnly,
+            Authentication authentication) {
+        if (rows.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " players per batch");
+        }
+
+        List<PlayerUpsertDto.Result> results = new ArrayList<>(rows.size());
+        Player[] candidates = new Player[rows.size()];
+        Map<String, Integer> rowByKey = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, Object> row = rows.get(i);
+            Object rawEmail = row == null ? null : row.get("email");
+            Object rawSeasonId = row == null ? null : row.get("seasonId");
+            PlayerUpsertDto.Result result = new PlayerUpsertDto.Result(i,
+                    rawEmail instanceof String email ? email : null,
+                    rawSeasonId instanceof Number seasonId ? seasonId.longValue() : null,
+                    null, null, null);
+            results.add(result);
+            if (row == null) {
+                fail(result, "Empty row");
+                continue;
+            }
+
+            Player candidate = new Player();
+            try {
+                apply(candidate, row);
+            } catch (ClassCastException | DateTimeParseException e) {
+                fail(result, "Invalid field value: " + e.getMessage());
+                continue;
+            }
+            if (candidate.getEmail() == null || candidate.getEmail().isBlank() || candidate.getSeasonId() == null) {
+                fail(result, "email and seasonId are required");
+                continue;
+            }
+            Integer earlier = rowByKey.putIfAbsent(key(candidate.getEmail(), candidate.getSeasonId()), i);
+            if (earlier != null) {
+                fail(result, "Same email and season as row " + earlier);
+                continue;
+            }
+            candidates[i] = candidate;
+        }
+
+        Map<String, Player> existing = findExisting(candidates);
+
+        List<Player> inserts = new ArrayList<>();
+        List<PlayerUpsertDto.Result> insertResults = new ArrayList<>();
+        List<Player> updates = new ArrayList<>();
+        for (int i = 0; i < candidates.length; i++) {
+            Player candidate = candidates[i];
+            if (candidate == null) {
+                continue;
+            }
+            Map<String, Object> row = rows.get(i);
+            PlayerUpsertDto.Result result = results.get(i);
+            Player match = existing.get(key(candidate.getEmail(), candidate.getSeasonId()));
+
+            if (match != null) {
+                Map<String, Object> patch = new HashMap<>(row);
+                patch.keySet().removeAll(createOnly);
+                if (patch.containsKey("skillRating")
+                        && !PlayerAccess.canRateSkill(authentication, match.getPosition())) {
+                    fail(result, "Not allowed to set this player's skill rating");
+                    continue;
+                }
+                // Checked on the candidate: match is managed, and a bad value set on it would flush
+                String problem = invalid(candidate, patch.keySet());
+                if (problem != null) {
+                    fail(result, problem);
+                    continue;
+                }
+                apply(match, patch);
+                updates.add(match);
+                result.setStatus(PlayerUpsertDto.Status.UPDATED);
+                result.setPlayerId(match.getId());
+            } else if (row.containsKey("skillRating")
+                    && !PlayerAccess.canRateSkill(authentication, candidate.getPosition())) {
+                fail(result, "Not allowed to set this player's skill rating");
+            } else if (candidate.getFirstName() == null || candidate.getLastName() == null
+                    || candidate.getPosition() == null) {
+                fail(result, "firstName, lastName and position are required for a new player");
+            } else {
+                String problem = invalid(candidate, row.keySet());
+                if (problem != null) {
+                    fail(result, problem);
+                    continue;
+                }
+                inserts.add(candidate);
+                insertResults.add(result);
+            }
+        }
+
+        playerBatchWriter.insertAll(inserts);
+        for (int i = 0; i < inserts.size(); i++) {
+            insertResults.get(i).setStatus(PlayerUpsertDto.Status.CREATED);
+            insertResults.get(i).setPlayerId(inserts.get(i).getId());
+        }
+        // Managed already; flushing here surfaces a constraint violation to the caller as one
+        playerRepository.saveAll(updates);
+        playerRepository.flush();
+
+        int failed = rows.size() - inserts.size() - updates.size();
+        log.info("Upserted {} players: {} created, {} updated, {} failed", rows.size(), inserts.size(),
+                updates.size(), failed);
+        return new PlayerUpsertDto.Response(inserts.size(), updates.size(), failed, results);
+    }
+
+    /**
+     * Applies a partial update the way {@code PATCH /players/{id}} does: only the keys present are
+     * written, and a null skillRating resets it to the default of 5.
+     *
+     * @throws ClassCastException      if a value has the wrong JSON type
+     * @throws DateTimeParseException  if birthDate is not an ISO date
+     */
+    public static void applyUpdates(Player player, Map<String, Object> updates) {
+        if (updates.containsKey("teamId")) {
+            Object val = updates.get("teamId");
+            player.setTeamId(val == null ? null : ((Number) val).longValue());
+        }
+        if (updates.containsKey("firstName"))
+            player.setFirstName((String) updates.get("firstName"));
+        if (updates.containsKey("lastName"))
+            player.setLastName((String) updates.get("lastName"));
+        if (updates.containsKey("jerseyNumber")) {
+            Object val = updates.get("jerseyNumber");
+            player.setJerseyNumber(val == null ? null : ((Number) val).intValue());
+        }
+        if (updates.containsKey("position"))
+            player.setPosition((String) updates.get("position"));
+        if (updates.containsKey("shoots"))
+            player.setShoots((String) updates.get("shoots"));
+        if (updates.containsKey("seasonId")) {
+            Object val = updates.get("seasonId");
+            player.setSeasonId(val == null ? null : ((Number) val).longValue());
+        }
+        if (updates.containsKey("skillRating")) {
+            Object val = updates.get("skillRating");
+            player.setSkillRating(val == null ? 5 : ((Number) val).intValue());
+        }
+        if (updates.containsKey("email"))
+            player.setEmail((String) updates.get("email"));
+        if (updates.containsKey("isVeteran"))
+            player.setIsVeteran((Boolean) updates.get("isVeteran"));
+        if (updates.containsKey("birthDate")) {
+            Object val = updates.get("birthDate");
+            player.setBirthDate(val == null ? null : LocalDate.parse((String) val));
+        }
+        if (updates.containsKey("hometown"))
+            player.setHometown((String) updates.get("hometown"));
+        if (updates.containsKey("isActive"))
+            player.setIsActive((Boolean) updates.get("isActive"));
+    }
+
+    /** {@link #applyUpdates} plus the account link and draft pick, which drafts set on their players. */
+    private static void apply(Player player, Map<String, Object> row) {
+        applyUpdates(player, row);
+        if (row.containsKey("userId")) {
+            Object val = row.get("userId");
+            player.setUserId(val == null ? null : ((Number) val).longValue());
+        }
+        if (row.containsKey("draftPick")) {
+            Object val = row.get("draftPick");
+            player.setDraftPick(val == null ? null : ((Number) val).intValue());
+        }
+    }
+
+    /**
+     * What would break a players column constraint among {@code fields} of {@code player}, or null
+     * if nothing would. Fields not named were not sent and keep their current or default value.
+     */
+    static String invalid(Player player, Set<String> fields) {
+        List<String> problems = new ArrayList<>();
+        if (fields.contains("email")) {
+            text(problems, "email", player.getEmail(), 255, true);
+        }
+        if (fields.contains("firstName")) {
+            text(problems, "firstName", player.getFirstName(), 50, true);
+        }
+        if (fields.contains("lastName")) {
+            text(problems, "lastName", player.getLastName(), 50, true);
+        }
+        if (fields.contains("position") && text(problems, "position", player.getPosition(), 10, true)
+                && !POSITIONS.contains(player.getPosition())) {
+            problems.add("position must be F, D or G");
+        }
+        if (fields.contains("shoots") && text(problems, "shoots", player.getShoots(), 5, false)
+                && player.getShoots() != null && !SHOOTS.contains(player.getShoots())) {
+            problems.add("shoots must be L, R or N/A");
+        }
+        if (fields.contains("hometown")) {
+            text(problems, "hometown", player.getHometown(), 100, false);
+        }
+        if (fields.contains("isActive") && player.getIsActive() == null) {
+            problems.add("isActive cannot be null");
+        }
+        Integer jersey = player.getJerseyNumber();
+        if (fields.contains("jerseyNumber") && jersey != null && (jersey < 1 || jersey > 99)) {
+            problems.add("jerseyNumber must be between 1 and 99");
+        }
+        Integer skill = player.getSkillRating();
+        if (fields.contains("skillRating") && skill != null && (skill < 0 || skill > 10)) {
+            problems.add("skillRating must be between 0 and 10");
+        }
+        return problems.isEmpty() ? null : String.join("; ", problems);
+    }
+
+    /** Adds the problem with a text column's value, if any; true if the value fits. */
+    private static boolean text(List<String> problems, String field, String value, int maxLength,
+            boolean required) {
+        if (value == null) {
+            if (required) {
+                problems.add(field + " cannot be null");
+            }
+            return !required;
+        }
+        if (value.length() > maxLength) {
+            problems.add(field + " is longer than " + maxLength + " characters");
+            return false;
+        }
+        return true;
+    }
+
+    /** Existing players by key, one round trip for the whole batch; the oldest row wins a case-only tie. */
+    private Map<String, Player> findExisting(Player[] candidates) {
+        List<Player> keyed = Arrays.stream(candidates).filter(Objects::nonNull).toList();
+        Map<String, Player> byKey = new HashMap<>();
+        if (keyed.isEmpty()) {
+            return byKey;
+        }
+        List<Player> matches = playerRepository.findByEmailKeysAndSeasons(
+                keyed.stream().map(Player::getEmail).toArray(String[]::new),
+                keyed.stream().map(Player::getSeasonId).toArray(Long[]::new));
+        for (Player match : matches) {
+            byKey.putIfAbsent(key(match.getEmail(), match.getSeasonId()), match);
+        }
+        return byKey;
+    }
+
+    /** The (email, season) identity, normalized as the lookup query does. */
+    private static String key(String email, Long seasonId) {
+        return email.trim().toLowerCase(Locale.ROOT) + "|" + seasonId;
+    }
+
+    private static void fail(PlayerUpsertDto.Result result, String error) {
+        result.setStatus(PlayerUpsertDto.Status.FAILED);
+        result.setError(error);
+    }
+}
@@ -0,0 +1,137 @@
+package com.obhl.stats.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.obhl.stats.model.Player;
+
+/**
+ * {@link PlayerBatchWriter} against H2. A draft hands its new players straight back to the
+ * caller, which reports their ids, so each id has to be the one of the row written for that
+ * player -- across a batch boundary too.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false" })
+@Import(PlayerBatchWriter.class)
+class PlayerBatchWriterTest {
+
+    private static final Long SEASON = 7L;
+
+    /** Just JPA and the repositories -- the application class would also pull in security and scheduling. */
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = Player.class)
+    @EnableJpaRepositories(basePackageClasses = PlayerRepository.class)
+    static class JpaOnly {
+    }
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PlayerBatchWriter playerBatchWriter;
+
+    @Test
+    @DisplayName("Ids come back in list order and belong to their own rows, across a batch boundary")
+    void idsInOrder() {
+        List<Player> players = players(PlayerBatchWriter.BATCH_SIZE + 7);
+
+        List<Player> saved = playerBatchWriter.insertAll(players);
+
+        assertEquals(players, saved);
+        for (int i = 0; i < saved.size(); i++) {
+            Player player = saved.get(i);
+            assertNotNull(player.getId());
+            assertNotNull(player.getCreatedAt());
+            if (i > 0) {
+                assertTrue(player.getId() > saved.get(i - 1).getId(), "ids out of order at " + i);
+            }
+        }
+        Player last = saved.get(saved.size() - 1);
+        Player row = playerRepository.findById(last.getId()).orElseThrow();
+        assertEquals(last.getEmail(), row.getEmail());
+        assertEquals(last.getJerseyNumber(), row.getJerseyNumber());
+    }
+
+    @Test
+    @DisplayName("Every column is written, nulls included")
+    void columns() {
+        Player player = players(1).get(0);
+        player.setTeamId(40L);
+        player.setShoots("L");
+        player.setBirthDate(LocalDate.of(1990, 4, 2));
+        player.setHometown("Verona");
+        player.setSkillRating(8);
+        player.setUserId(55L);
+        player.setDraftPick(3);
+        playerBatchWriter.insertAll(List.of(player));
+
+        Player row = playerRepository.findById(player.getId()).orElseThrow();
+        assertEquals(40L, row.getTeamId());
+        assertEquals(SEASON, row.getSeasonId());
+        assertEquals("Pat", row.getFirstName());
+        assertEquals("F", row.getPosition());
+        assertEquals("L", row.getShoots());
+        assertEquals(LocalDate.of(1990, 4, 2), row.getBirthDate());
+        assertEquals("Verona", row.getHometown());
+        assertTrue(row.getIsActive());
+        assertEquals(8, row.getSkillRating());
+        assertEquals(55L, row.getUserId());
+        assertEquals(3, row.getDraftPick());
+
+        Player bare = players(2).get(1);
+        bare.setSkillRating(null);
+        playerBatchWriter.insertAll(List.of(bare));
+        Player bareRow = playerRepository.findById(bare.getId()).orElseThrow();
+        assertNull(bareRow.getTeamId());
+        assertNull(bareRow.getSkillRating());
+    }
+
+    @Test
+    @DisplayName("A key another writer already inserted fails the batch as a duplicate key")
+    void duplicateKey() {
+        playerBatchWriter.insertAll(players(1));
+
+        assertThrows(DuplicateKeyException.class, () -> playerBatchWriter.insertAll(players(1)));
+    }
+
+    @Test
+    @DisplayName("An empty list is a no-op")
+    void empty() {
+        assertTrue(playerBatchWriter.insertAll(List.of()).isEmpty());
+        assertEquals(0, playerRepository.count());
+    }
+
+    /** Distinct email and jersey number per player, so a row can be matched to the player it came from. */
+    private static List<Player> players(int count) {
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Player p = new Player();
+            p.setSeasonId(SEASON);
+            p.setEmail("player" + i + "@example.com");
+            p.setFirstName("Pat");
+            p.setLastName("Quinn" + i);
+            p.setPosition("F");
+            p.setJerseyNumber(i % 99 + 1);
+            players.add(p);
+        }
+        return players;
+    }
+}
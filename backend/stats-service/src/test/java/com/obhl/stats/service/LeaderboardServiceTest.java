@@ -0,0 +1,168 @@
+package com.obhl.stats.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+
+import com.obhl.stats.model.PlayerStats;
+import com.obhl.stats.service.LeaderboardService.Board;
+import com.obhl.stats.service.LeaderboardService.Category;
+import com.obhl.stats.service.LeaderboardService.Line;
+
+/**
+ * Plain JUnit, no Spring, no database. The in-memory order is what {@code /stats/leaders} serves
+ * and the SQL sort is what the consistency check compares it with; if the two ever disagree on a
+ * tie, every check reloads every season, so they are compared here row for row.
+ */
+class LeaderboardServiceTest {
+
+    private static PlayerStats row(long playerId, int gamesPlayed, int goals, int assists, int penaltyMinutes) {
+        PlayerStats stats = new PlayerStats();
+        stats.setPlayerId(playerId);
+        stats.setSeasonId(7L);
+        stats.setTeamId(100L + playerId % 4);
+        stats.setGamesPlayed(gamesPlayed);
+        stats.setGoals(goals);
+        stats.setAssists(assists);
+        stats.setPoints(goals + assists);
+        stats.setPenaltyMinutes(penaltyMinutes);
+        return stats;
+    }
+
+    private static List<Long> ids(List<Line> lines) {
+        return lines.stream().map(Line::playerId).toList();
+    }
+
+    /** {@code sort} applied to entities the way the database would, by bean property. */
+    @SuppressWarnings("unchecked")
+    private static Comparator<PlayerStats> asComparator(Sort sort) {
+        Comparator<PlayerStats> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<PlayerStats> byProperty = Comparator.comparing(
+                    stats -> (Comparable<Object>) new BeanWrapperImpl(stats).getPropertyValue(order.getProperty()));
+            comparator = comparator.thenComparing(order.isAscending() ? byProperty : byProperty.reversed());
+        }
+        return comparator;
+    }
+
+    @Nested
+    @DisplayName("Category order")
+    class Order {
+
+        @Test
+        @DisplayName("Points ties go to goals, then fewer games, then the lower player id")
+        void points() {
+            Board board = new Board();
+            board.replaceAll(List.of(
+                    row(1, 10, 2, 8, 0),   // 10 pts, 2 goals
+                    row(2, 10, 6, 4, 0),   // 10 pts, 6 goals
+                    row(3, 9, 6, 4, 0),    // 10 pts, 6 goals, fewer games
+                    row(4, 9, 6, 4, 0),    // same as 3, higher id
+                    row(5, 12, 7, 5, 0))); // 12 pts
+
+            assertEquals(List.of(5L, 3L, 4L, 2L, 1L), ids(board.top(Category.POINTS, 10)));
+        }
+
+        @Test
+        @DisplayName("Goals, assists and PIM ties go to points")
+        void otherCategories() {
+            Board board = new Board();
+            board.replaceAll(List.of(
+                    row(1, 10, 5, 1, 12),
+                    row(2, 10, 5, 3, 12),
+                    row(3, 10, 2, 3, 2)));
+
+            assertEquals(List.of(2L, 1L, 3L), ids(board.top(Category.GOALS, 10)));
+            assertEquals(List.of(2L, 3L, 1L), ids(board.top(Category.ASSISTS, 10)));
+            assertEquals(List.of(2L, 1L, 3L), ids(board.top(Category.PIM, 10)));
+        }
+
+        @Test
+        @DisplayName("The check's SQL sort ranks rows exactly as the board does")
+        void sortMatchesBoard() {
+            // Small ranges, so nearly every comparison is decided by a tie-break
+            Random random = new Random(42);
+            List<PlayerStats> rows = new ArrayList<>();
+            for (long id = 1; id <= 400; id++) {
+                rows.add(row(id, 1 + random.nextInt(3), random.nextInt(4), random.nextInt(4), 2 * random.nextInt(3)));
+            }
+            Board board = new Board();
+            board.replaceAll(rows);
+
+            for (Category category : Category.values()) {
+                List<Long> sql = rows.stream()
+                        .sorted(asComparator(category.sort("playerId")))
+                        .map(PlayerStats::getPlayerId)
+                        .toList();
+                assertEquals(sql, ids(board.top(category, rows.size())), category.name());
+            }
+        }
+
+        @Test
+        @DisplayName("Category names are case-insensitive and penaltyMinutes means PIM")
+        void fromParam() {
+            assertEquals(Category.POINTS, Category.fromParam(" Points "));
+            assertEquals(Category.PIM, Category.fromParam("penaltyMinutes"));
+            assertThrows(IllegalArgumentException.class, () -> Category.fromParam("saves"));
+            assertThrows(IllegalArgumentException.class, () -> Category.fromParam(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Board updates")
+    class Updates {
+
+        @Test
+        @DisplayName("A replaced line moves in every category and leaves no copy behind")
+        void replaceMoves() {
+            Board board = new Board();
+            board.replaceAll(List.of(row(1, 5, 1, 1, 0), row(2, 5, 3, 3, 10)));
+
+            board.replace(Set.of(1L), List.of(row(1, 6, 9, 4, 20)));
+
+            for (Category category : Category.values()) {
+                List<Line> top = board.top(category, 10);
+                assertEquals(2, top.size(), category.name());
+                assertEquals(1L, top.get(0).playerId(), category.name());
+            }
+        }
+
+        @Test
+        @DisplayName("A player with no row any more is dropped from every category")
+        void replaceDrops() {
+            Board board = new Board();
+            board.replaceAll(List.of(row(1, 5, 1, 1, 0), row(2, 5, 3, 3, 10), row(3, 5, 0, 0, 0)));
+
+            board.replace(Set.of(2L, 3L), List.of(row(3, 6, 1, 0, 0)));
+
+            for (Category category : Category.values()) {
+                List<Long> top = ids(board.top(category, 10));
+                assertEquals(2, top.size(), category.name());
+                assertFalse(top.contains(2L), category.name());
+            }
+        }
+
+        @Test
+        @DisplayName("replaceAll starts over, and top stops at the limit")
+        void replaceAllAndLimit() {
+            Board board = new Board();
+            board.replaceAll(List.of(row(1, 5, 1, 1, 0), row(2, 5, 3, 3, 10), row(3, 5, 0, 0, 0)));
+            assertEquals(List.of(2L, 1L), ids(board.top(Category.POINTS, 2)));
+
+            board.replaceAll(List.of(row(4, 1, 1, 0, 0)));
+            assertEquals(List.of(4L), ids(board.top(Category.POINTS, 10)));
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package com.obhl.stats.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.obhl.stats.config.InternalServiceAuthentication;
+import com.obhl.stats.dto.PlayerUpsertDto;
+import com.obhl.stats.dto.PlayerUpsertDto.Status;
+import com.obhl.stats.model.Player;
+import com.obhl.stats.repository.PlayerBatchWriter;
+import com.obhl.stats.repository.PlayerRepository;
+
+/**
+ * Plain JUnit, no Spring, no database. The row checks are pure; {@code upsert} runs against an
+ * in-memory stand-in for the two queries it makes (the existing-player lookup and the batch
+ * insert), which is all it needs to decide what each row becomes. The insert itself is covered
+ * against H2 by PlayerBatchWriterTest.
+ */
+class PlayerUpsertServiceTest {
+
+    private static final Long SEASON = 7L;
+    private static final Authentication INTERNAL = new InternalServiceAuthentication();
+
+    /** Players the lookup can find, standing in for the players table. */
+    private final List<Player> stored = new ArrayList<>();
+    private final List<Player> inserted = new ArrayList<>();
+    private final List<Player> updated = new ArrayList<>();
+    private long nextId = 1000;
+
+    private final PlayerRepository playerRepository = (PlayerRepository) Proxy.newProxyInstance(
+            PlayerRepository.class.getClassLoader(), new Class<?>[] { PlayerRepository.class },
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findByEmailKeysAndSeasons" -> lookUp((String[]) args[0], (Long[]) args[1]);
+                case "saveAll" -> {
+                    updated.addAll(cast(args[0]));
+                    yield args[0];
+                }
+                case "flush" -> null;
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+
+    private final PlayerBatchWriter playerBatchWriter = new PlayerBatchWriter(null) {
+        @Override
+        public List<Player> insertAll(List<Player> players) {
+            players.forEach(p -> p.setId(nextId++));
+            inserted.addAll(players);
+            return players;
+        }
+    };
+
+    private final PlayerUpsertService service = new PlayerUpsertService(playerRepository, playerBatchWriter);
+
+    @SuppressWarnings("unchecked")
+    private static Collection<Player> cast(Object players) {
+        return (Collection<Player>) players;
+    }
+
+    /** The lookup query's matching rule: emails trimmed and case-folded, seasons equal. */
+    private List<Player> lookUp(String[] emails, Long[] seasonIds) {
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < emails.length; i++) {
+            keys.add(emails[i].trim().toLowerCase(Locale.ROOT) + "|" + seasonIds[i]);
+        }
+        return stored.stream()
+                .filter(p -> keys.contains(p.getEmail().trim().toLowerCase(Locale.ROOT) + "|" + p.getSeasonId()))
+                .toList();
+    }
+
+    private static Authentication role(String role) {
+        return new UsernamePasswordAuthenticationToken("user", null, List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+    }
+
+    /** A row from alternating keys and values; values may be null, as they can be in JSON. */
+    private static Map<String, Object> row(Object... keysAndValues) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            row.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return row;
+    }
+
+    /** A complete new player. */
+    private static Map<String, Object> newPlayer(String email) {
+        return row("email", email, "seasonId", SEASON, "firstName", "Pat", "lastName", "Quinn", "position", "F");
+    }
+
+    private Player existing(long id, String email, String position) {
+        Player player = new Player();
+        player.setId(id);
+        player.setEmail(email);
+        player.setSeasonId(SEASON);
+        player.setFirstName("Sam");
+        player.setLastName("Reed");
+        player.setPosition(position);
+        player.setJerseyNumber(12);
+        player.setDraftPick(3);
+        stored.add(player);
+        return player;
+    }
+
+    private PlayerUpsertDto.Response upsert(Authentication authentication, Set<String> createOnly,
+            List<Map<String, Object>> rows) {
+        return service.upsert(rows, createOnly, authentication);
+    }
+
+    private static List<Status> statuses(PlayerUpsertDto.Response response) {
+        return response.getResults().stream().map(PlayerUpsertDto.Result::getStatus).toList();
+    }
+
+    @Nested
+    @DisplayName("Column checks")
+    class Invalid {
+
+        private Player valid() {
+            Player player = new Player();
+            player.setEmail("pat@example.com");
+            player.setFirstName("Pat");
+            player.setLastName("Quinn");
+            player.setPosition("D");
+            player.setShoots("N/A");
+            player.setHometown("Madison");
+            player.setJerseyNumber(99);
+            player.setSkillRating(0);
+            return player;
+        }
+
+        private final Set<String> all = Set.of("email", "firstName", "lastName", "position", "shoots", "hometown",
+                "isActive", "jerseyNumber", "skillRating");
+
+        @Test
+        @DisplayName("A player inside every constraint passes")
+        void passes() {
+            assertNull(PlayerUpsertService.invalid(valid(), all));
+        }
+
+        @Test
+        @DisplayName("Only the fields that were sent are checked")
+        void onlySentFields() {
+            Player player = valid();
+            player.setFirstName(null);
+            player.setJerseyNumber(0);
+
+            assertNull(PlayerUpsertService.invalid(player, Set.of("lastName", "position")));
+            assertEquals("firstName cannot be null; jerseyNumber must be between 1 and 99",
+                    PlayerUpsertService.invalid(player, all));
+        }
+
+        @Test
+        @DisplayName("Lengths, NOT NULL, CHECK values and ranges")
+        void eachConstraint() {
+            Player player = valid();
+            player.setEmail(null);
+            player.setLastName("x".repeat(51));
+            player.setShoots("B");
+            player.setHometown("x".repeat(101));
+            player.setIsActive(null);
+            player.setSkillRating(11);
+
+            assertEquals("email cannot be null; lastName is longer than 50 characters; shoots must be L, R or N/A; "
+                    + "hometown is longer than 100 characters; isActive cannot be null; "
+                    + "skillRating must be between 0 and 10", PlayerUpsertService.invalid(player, all));
+        }
+
+        @Test
+        @DisplayName("Position must fit its column before it is checked against F, D and G")
+        void position() {
+            Player player = valid();
+            player.setPosition("W");
+            assertEquals("position must be F, D or G", PlayerUpsertService.invalid(player, Set.of("position")));
+
+            player.setPosition("GOALTENDER!");
+            assertEquals("position is longer than 10 characters",
+                    PlayerUpsertService.invalid(player, Set.of("position")));
+
+            player.setPosition(null);
+            assertEquals("position cannot be null", PlayerUpsertService.invalid(player, Set.of("position")));
+        }
+
+        @Test
+        @DisplayName("Nullable columns accept null")
+        void nullable() {
+            Player player = valid();
+            player.setShoots(null);
+            player.setHometown(null);
+            player.setJerseyNumber(null);
+            player.setSkillRating(null);
+
+            assertNull(PlayerUpsertService.invalid(player, all));
+        }
+    }
+
+    @Nested
+    @DisplayName("Upsert")
+    class Upsert {
+
+        @Test
+        @DisplayName("Unmatched rows are created, matched ones updated, results in request order")
+        void createAndUpdate() {
+            Player match = existing(5L, "Sam@Example.com", "D");
+
+            PlayerUpsertDto.Response response = upsert(INTERNAL, Set.of(), List.of(
+                    newPlayer("pat@example.com"),
+                    row("email", " sam@example.com ", "seasonId", SEASON, "jerseyNumber", 44)));
+
+            assertEquals(1, response.getCreated());
+            assertEquals(1, response.getUpdated());
+            assertEquals(0, response.getFailed());
+            assertEquals(List.of(Status.CREATED, Status.UPDATED), statuses(response));
+            assertEquals(inserted.get(0).getId(), response.getResults().get(0).getPlayerId());
+            assertEquals(5L, response.getResults().get(1).getPlayerId());
+            assertEquals(44, match.getJerseyNumber());
+            assertEquals("Sam", match.getFirstName());
+            assertEquals(List.of(match), updated);
+        }
+
+        @Test
+        @DisplayName("Bad rows fail on their own and the rest still land")
+        void perRowFailures() {
+            List<Map<String, Object>> rows = new ArrayList<>(List.of(
+                    newPlayer("a@example.com"),
+                    row("email", "b@example.com", "seasonId", SEASON, "jerseyNumber", "ten"),
+                    row("email", "c@example.com"),
+                    newPlayer(" A@EXAMPLE.COM"),
+                    row("email", "d@example.com", "seasonId", SEASON, "firstName", "Dee"),
+                    row("email", "e@example.com", "seasonId", SEASON, "firstName", "Eve", "lastName", "Ash",
+                            "position", "F", "jerseyNumber", 100),
+                    newPlayer("f@example.com")));
+            rows.add(1, null);
+
+            PlayerUpsertDto.Response response = upsert(INTERNAL, Set.of(), rows);
+
+            assertEquals(List.of(Status.CREATED, Status.FAILED, Status.FAILED, Status.FAILED, Status.FAILED,
+                    Status.FAILED, Status.FAILED, Status.CREATED), statuses(response));
+            List<String> errors = response.getResults().stream().map(PlayerUpsertDto.Result::getError).toList();
+            assertEquals("Empty row", errors.get(1));
+            assertTrue(errors.get(2).startsWith("Invalid field value: "), errors.get(2));
+            assertEquals("email and seasonId are required", errors.get(3));
+            assertEquals("Same email and season as row 0", errors.get(4));
+            assertEquals("firstName, lastName and position are required for a new player", errors.get(5));
+            assertEquals("jerseyNumber must be between 1 and 99", errors.get(6));
+            assertEquals(2, response.getCreated());
+            assertEquals(6, response.getFailed());
+            assertEquals(List.of("a@example.com", "f@example.com"), inserted.stream().map(Player::getEmail).toList());
+        }
+
+        @Test
+        @DisplayName("A bad value in an update fails the row and leaves the player as it was")
+        void badUpdate() {
+            Player match = existing(5L, "sam@example.com", "D");
+
+            PlayerUpsertDto.Response response = upsert(INTERNAL, Set.of(), List.of(
+                    row("email", "sam@example.com", "seasonId", SEASON, "lastName", "x".repeat(51), "jerseyNumber", 9)));
+
+            assertEquals(List.of(Status.FAILED), statuses(response));
+            assertEquals("lastName is longer than 50 characters", response.getResults().get(0).getError());
+            assertEquals("Reed", match.getLastName());
+            assertEquals(12, match.getJerseyNumber());
+            assertEquals(List.of(), updated);
+        }
+
+        @Test
+        @DisplayName("createOnly fields set a new player but never touch an existing one")
+        void createOnly() {
+            Player match = existing(5L, "sam@example.com", "D");
+            Set<String> createOnly = Set.of("draftPick", "isActive");
+
+            upsert(INTERNAL, createOnly, List.of(
+                    row("email", "sam@example.com", "seasonId", SEASON, "draftPick", 17, "isActive", false,
+                            "teamId", 40),
+                    row("email", "new@example.com", "seasonId", SEASON, "firstName", "Nia", "lastName", "Cole",
+                            "position", "G", "draftPick", 18, "isActive", false)));
+
+            assertEquals(3, match.getDraftPick());
+            assertTrue(match.getIsActive());
+            assertEquals(40L, match.getTeamId());
+            assertEquals(18, inserted.get(0).getDraftPick());
+            assertEquals(false, inserted.get(0).getIsActive());
+        }
+
+        @Test
+        @DisplayName("Skill ratings need the caller's permission, judged on the stored position for an update")
+        void skillRating() {
+            existing(5L, "goalie@example.com", "G");
+            existing(6L, "skater@example.com", "F");
+            Map<String, Object> newGoalie = newPlayer("g2@example.com");
+            newGoalie.put("position", "G");
+            newGoalie.put("skillRating", 8);
+            Map<String, Object> newSkater = newPlayer("f2@example.com");
+            newSkater.put("skillRating", 8);
+
+            PlayerUpsertDto.Response response = upsert(role("GOALIE_COORDINATOR"), Set.of(), List.of(
+                    // Stored as a goalie: allowed, even though the row claims another position
+                    row("email", "goalie@example.com", "seasonId", SEASON, "skillRating", 7, "position", "F"),
+                    row("email", "skater@example.com", "seasonId", SEASON, "skillRating", 7),
+                    newGoalie,
+                    newSkater));
+
+            assertEquals(List.of(Status.UPDATED, Status.FAILED, Status.CREATED, Status.FAILED), statuses(response));
+            assertEquals("Not allowed to set this player's skill rating", response.getResults().get(1).getError());
+            assertEquals("Not allowed to set this player's skill rating", response.getResults().get(3).getError());
+        }
+
+        @Test
+        @DisplayName("A create-only skill rating needs no permission to skip on an update")
+        void skillRatingCreateOnly() {
+            Player match = existing(6L, "skater@example.com", "F");
+            match.setSkillRating(4);
+
+            PlayerUpsertDto.Response response = upsert(null, Set.of("skillRating"), List.of(
+                    row("email", "skater@example.com", "seasonId", SEASON, "skillRating", 9, "hometown", "Verona")));
+
+            assertEquals(List.of(Status.UPDATED), statuses(response));
+            assertEquals(4, match.getSkillRating());
+            assertEquals("Verona", match.getHometown());
+        }
+
+        @Test
+        @DisplayName("More than the batch limit is refused outright")
+        void tooMany() {
+            List<Map<String, Object>> rows = Collections.nCopies(PlayerUpsertService.MAX_BATCH_SIZE + 1,
+                    newPlayer("pat@example.com"));
+
+            assertThrows(IllegalArgumentException.class, () -> upsert(INTERNAL, Set.of(), rows));
+            assertEquals(List.of(), inserted);
+        }
+
+        @Test
+        @DisplayName("An empty batch is a no-op")
+        void empty() {
+            PlayerUpsertDto.Response response = upsert(INTERNAL, Set.of(), List.of());
+
+            assertEquals(0, response.getCreated());
+            assertEquals(0, response.getUpdated());
+            assertEquals(0, response.getFailed());
+            assertTrue(response.getResults().isEmpty());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+-- Migration: Create player_stats_ledger table
+-- Version: 059
+-- Description: Records which games' deltas have been applied to player_stats, so a
+-- finalize that is retried (or two finalizes racing on the same game) cannot count a
+-- player's line twice.
+--
+-- One row per (game, player). direction holds the LAST thing done to that player's
+-- line for that game: APPLY when finalized, REVERT when unfinalized. A delta is only
+-- applied when it flips the direction -- replaying an APPLY over an APPLY is a no-op,
+-- and so is a REVERT over a REVERT. Both the ledger flip and the player_stats upsert
+-- happen in one statement (see PlayerStatsRepository#incrementAllForGames), so the
+-- ledger can never say APPLY for a delta that did not land.
+--
+-- Games finalized before this table existed have no row; unfinalizing one inserts a
+-- REVERT row and reverts as before.
+
+CREATE TABLE IF NOT EXISTS player_stats_ledger (
+    id BIGSERIAL PRIMARY KEY,
+    game_id BIGINT NOT NULL,
+    player_id BIGINT NOT NULL,
+    season_id BIGINT NOT NULL,
+    direction VARCHAR(10) NOT NULL,
+    recorded_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uq_player_stats_ledger_game_player UNIQUE (game_id, player_id),
+    CONSTRAINT chk_player_stats_ledger_direction CHECK (direction IN ('APPLY', 'REVERT'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_player_stats_ledger_season ON player_stats_ledger(season_id);
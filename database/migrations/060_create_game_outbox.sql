@@ -0,0 +1,43 @@
+-- Migration: Create game_outbox table
+-- Version: 060
+-- Description: Transactional outbox for the side effects of finalizing / unfinalizing a
+-- game in game-service.
+--
+-- finalizeGame used to call api-gateway (team standings) and stats-service (player
+-- stats) synchronously inside the game transaction, so the scorekeeper waited on both
+-- and a failure halfway left standings and stats half-updated. Now the deltas are
+-- computed inside the game transaction and written here in that same transaction;
+-- OutboxDispatcher delivers them afterwards with retry and exponential backoff.
+--
+-- Delivery is at-least-once. PLAYER_STATS rows are idempotent on the stats-service
+-- side (player_stats_ledger, migration 059) and are delivered strictly in id order per
+-- game, because an APPLY/REVERT pair must not be reordered. TEAM_STATS rows are plain
+-- additive deltas, one row per team, so they may go in any order.
+--
+-- A row that exhausts its retries is parked as DEAD and, for PLAYER_STATS, holds back
+-- later rows for the same game until someone looks at it.
+
+CREATE TABLE IF NOT EXISTS game_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    game_id BIGINT NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    -- TEAM_STATS: the team the delta applies to. PLAYER_STATS: null (payload holds every player).
+    target_id BIGINT,
+    payload TEXT NOT NULL,
+    status VARCHAR(10) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    delivered_at TIMESTAMP,
+
+    CONSTRAINT chk_game_outbox_event_type CHECK (event_type IN ('TEAM_STATS', 'PLAYER_STATS')),
+    CONSTRAINT chk_game_outbox_status CHECK (status IN ('PENDING', 'DELIVERED', 'DEAD'))
+);
+
+-- The dispatcher's only question: "what is due?"
+CREATE INDEX IF NOT EXISTS idx_game_outbox_due
+    ON game_outbox (next_attempt_at, id) WHERE status = 'PENDING';
+
+-- Per-game ordering check for PLAYER_STATS rows.
+CREATE INDEX IF NOT EXISTS idx_game_outbox_game ON game_outbox (game_id, id);
@@ -0,0 +1,9 @@
+-- Migration: Keyset indexes for the paginated game listing
+-- Version: 061
+-- Description: GET /games/page walks games in (game_date, id) order, optionally within one
+-- season. These indexes let each page start at the cursor instead of sorting the whole
+-- table; the remaining filters (team, status, game type, week) are checked on the rows
+-- the index walk returns.
+
+CREATE INDEX IF NOT EXISTS idx_games_date_id ON games (game_date, id);
+CREATE INDEX IF NOT EXISTS idx_games_season_date_id ON games (season_id, game_date, id);
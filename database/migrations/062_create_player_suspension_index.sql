@@ -0,0 +1,46 @@
+-- Migration: Create player_suspension_index table and rebuild penalty_tracking from events
+-- Version: 062
+-- Description: Pending suspensions, one row per player, so "is this player suspended?" is a
+-- primary-key lookup instead of a scan of their penalty_tracking history.
+--
+-- penalty_tracking used to be incremented by the penalty *validation* call, so a penalty
+-- that was validated but never saved, or saved and later deleted, left the count wrong.
+-- From this version game-service maintains it from penalty events as they are written and
+-- removed (see PenaltyIndex), and keeps this table in step. The counts are rebuilt from
+-- game_events here so both start out consistent.
+
+CREATE TABLE IF NOT EXISTS player_suspension_index (
+    player_id BIGINT PRIMARY KEY,
+    -- The game whose penalties (with the previous game's) triggered the suspension
+    suspended_after_game_id BIGINT NOT NULL,
+    penalty_total INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Rebuild per-game penalty counts from the events themselves
+INSERT INTO penalty_tracking (player_id, game_id, penalty_count, created_at, updated_at)
+SELECT player_id, game_id, COUNT(*), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+FROM game_events
+WHERE LOWER(event_type) = 'penalty' AND player_id IS NOT NULL
+GROUP BY player_id, game_id
+ON CONFLICT (player_id, game_id) DO UPDATE
+    SET penalty_count = EXCLUDED.penalty_count,
+        updated_at = CURRENT_TIMESTAMP;
+
+UPDATE penalty_tracking pt
+SET penalty_count = 0, updated_at = CURRENT_TIMESTAMP
+WHERE NOT EXISTS (
+    SELECT 1 FROM game_events e
+    WHERE e.player_id = pt.player_id AND e.game_id = pt.game_id AND LOWER(e.event_type) = 'penalty');
+
+-- Seed pending suspensions from each player's most recent tracking row, which is what
+-- PenaltyValidator.isPlayerSuspended used to read
+INSERT INTO player_suspension_index (player_id, suspended_after_game_id, penalty_total)
+SELECT player_id, game_id, penalty_count
+FROM (
+    SELECT DISTINCT ON (player_id) player_id, game_id, penalty_count, is_suspended_next_game
+    FROM penalty_tracking
+    ORDER BY player_id, created_at DESC
+) latest
+WHERE latest.is_suspended_next_game
+ON CONFLICT (player_id) DO NOTHING;
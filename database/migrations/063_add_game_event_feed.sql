@@ -0,0 +1,44 @@
+-- Migration: Per-game event sequence and tombstones for the incremental event feed
+-- Version: 063
+-- Description: GET /games/{id}/events/changes?since=N returns only the events created or
+-- edited after version N, plus the ids of events deleted since then. Each game counts its
+-- own event writes in games.event_seq; every create or edit stamps the event with the next
+-- value, and every delete leaves a row in game_event_tombstones stamped the same way.
+--
+-- Existing events are numbered in id order per game, so a client starting from 0 receives
+-- them all and the first new write continues from the count.
+
+ALTER TABLE games ADD COLUMN IF NOT EXISTS event_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE game_events ADD COLUMN IF NOT EXISTS seq BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS game_event_tombstones (
+    event_id BIGINT PRIMARY KEY,
+    game_id BIGINT NOT NULL,
+    seq BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_tombstone_game FOREIGN KEY (game_id) REFERENCES games(id) ON DELETE CASCADE
+);
+
+UPDATE game_events e
+SET seq = numbered.rn
+FROM (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY game_id ORDER BY id) AS rn
+    FROM game_events
+) numbered
+WHERE e.id = numbered.id;
+
+UPDATE games g
+SET event_seq = counted.last_seq
+FROM (
+    SELECT game_id, MAX(seq) AS last_seq
+    FROM game_events
+    GROUP BY game_id
+) counted
+WHERE g.id = counted.game_id;
+
+CREATE INDEX IF NOT EXISTS idx_events_game_seq ON game_events (game_id, seq);
+CREATE INDEX IF NOT EXISTS idx_tombstones_game_seq ON game_event_tombstones (game_id, seq);
+
+COMMENT ON COLUMN games.event_seq IS 'Last value handed out by the game''s event sequence (see game_events.seq)';
+COMMENT ON COLUMN game_events.seq IS 'Game event sequence value of the last create or edit of this event';
@@ -0,0 +1,29 @@
+-- Migration: Frozen box scores for completed games
+-- Version: 064
+-- Description: finalizeGame writes one game_box_scores row holding the game's box score as a
+-- compact JSON document -- per-period goals, the goal and penalty summaries, per-player
+-- points and the game's awards -- so a completed game's recap is a single-row lookup
+-- instead of a re-aggregation of game_events. unfinalizeGame deletes it.
+--
+-- Player ids are frozen with the document. The names the recap shows live in
+-- stats-service, and finalize makes no remote calls (migration 060), so player_names is
+-- filled once afterwards by a BOX_SCORE_NAMES outbox row. Until then it is NULL and the
+-- client falls back to the rosters.
+--
+-- The document only changes in two ways: awards may still be handed out after the final
+-- horn, which rewrites its awards section, and an event edited on a completed game drops
+-- the row (reads compute the box score live until the game is finalized again).
+
+CREATE TABLE IF NOT EXISTS game_box_scores (
+    game_id BIGINT PRIMARY KEY,
+    document TEXT NOT NULL,
+    player_names TEXT,
+    frozen_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    names_resolved_at TIMESTAMP,
+
+    CONSTRAINT fk_box_score_game FOREIGN KEY (game_id) REFERENCES games(id) ON DELETE CASCADE
+);
+
+ALTER TABLE game_outbox DROP CONSTRAINT IF EXISTS chk_game_outbox_event_type;
+ALTER TABLE game_outbox ADD CONSTRAINT chk_game_outbox_event_type
+    CHECK (event_type IN ('TEAM_STATS', 'PLAYER_STATS', 'BOX_SCORE_NAMES'));
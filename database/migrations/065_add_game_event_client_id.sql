@@ -0,0 +1,14 @@
+-- Migration: Client-generated ids on game events
+-- Version: 065
+-- Description: Scorekeepers on flaky rink Wi-Fi queue events on the device and upload them
+-- later, one period at a time, through POST /games/{id}/events/batch. Each queued event
+-- carries an id the client generated when it was recorded; the batch (and the single-event
+-- POST, when given one) skips any client id the game already has, so an upload that timed
+-- out after committing can simply be sent again.
+--
+-- Nullable: events entered before this, and by clients that don't send one, have none.
+
+ALTER TABLE game_events ADD COLUMN IF NOT EXISTS client_id VARCHAR(64);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_game_events_client_id
+    ON game_events (game_id, client_id) WHERE client_id IS NOT NULL;
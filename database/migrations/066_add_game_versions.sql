@@ -0,0 +1,13 @@
+-- Migration: Optimistic-locking versions on games and game events
+-- Version: 066
+-- Description: Game and GameEvent carry a JPA @Version. Every JPA update checks that the row
+-- still has the version it was read at and bumps it, so two writers that read the same game
+-- can no longer both save: the later one fails instead of silently overwriting a goal the
+-- other just added. Event writes that move the score are retried against the fresh row
+-- (OptimisticRetry); absolute writes such as a manual score save return 409 to the client.
+--
+-- games.event_seq (migration 063) is not the version: it counts event writes for the change
+-- feed, is bumped by plain SQL, and is deliberately not mapped on Game.
+
+ALTER TABLE games ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE game_events ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,49 @@
+-- Migration: Create career_stats table
+-- Version: 067
+-- Description: One row per person with their totals across every season, so all-time
+-- leaderboards are a page of one indexed table instead of a sum over every season's
+-- player_stats.
+--
+-- players rows are per season, so a person is identified by their normalized email,
+-- lower(trim(email)) -- the same bridge everything else uses between seasons. The key is
+-- never served; rows are shown through latest_player_id (their most recent season's player).
+--
+-- stats-service keeps these rows current: every write to player_stats recomputes the
+-- touched people's rows from player_stats in the same transaction (CareerStatsService),
+-- as do player email changes and deletes. The backfill below starts them out consistent.
+
+CREATE TABLE IF NOT EXISTS career_stats (
+    email_key VARCHAR(255) PRIMARY KEY,
+    latest_player_id BIGINT NOT NULL,
+    seasons_played INTEGER NOT NULL DEFAULT 0,
+    games_played INTEGER NOT NULL DEFAULT 0,
+    goals INTEGER NOT NULL DEFAULT 0,
+    assists INTEGER NOT NULL DEFAULT 0,
+    points INTEGER NOT NULL DEFAULT 0,
+    penalty_minutes INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- One per leaderboard category, in the order the leaderboard pages through it
+CREATE INDEX IF NOT EXISTS idx_career_stats_points
+    ON career_stats (points DESC, goals DESC, games_played, latest_player_id);
+CREATE INDEX IF NOT EXISTS idx_career_stats_goals
+    ON career_stats (goals DESC, points DESC, games_played, latest_player_id);
+CREATE INDEX IF NOT EXISTS idx_career_stats_assists
+    ON career_stats (assists DESC, points DESC, games_played, latest_player_id);
+CREATE INDEX IF NOT EXISTS idx_career_stats_pim
+    ON career_stats (penalty_minutes DESC, points DESC, games_played, latest_player_id);
+
+-- Finding every season of one person
+CREATE INDEX IF NOT EXISTS idx_players_email_key ON players (lower(trim(email)));
+
+INSERT INTO career_stats (email_key, latest_player_id, seasons_played, games_played, goals,
+                          assists, points, penalty_minutes)
+SELECT lower(trim(p.email)),
+       (array_agg(p.id ORDER BY ps.season_id DESC, p.id DESC))[1],
+       COUNT(DISTINCT ps.season_id),
+       SUM(ps.games_played), SUM(ps.goals), SUM(ps.assists), SUM(ps.points), SUM(ps.penalty_minutes)
+FROM players p
+JOIN player_stats ps ON ps.player_id = p.id
+GROUP BY lower(trim(p.email))
+ON CONFLICT (email_key) DO NOTHING;
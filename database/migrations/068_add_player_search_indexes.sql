@@ -0,0 +1,20 @@
+-- Migration: Trigram indexes for player search
+-- Version: 068
+-- Description: GET /players/search matches name prefixes and misspellings (pg_trgm's
+-- word-similarity operator <%) on first name, last name and the full name, and email
+-- prefixes for staff. Trigram GIN indexes serve both LIKE 'prefix%' and <%, so a search
+-- stays an index lookup however many seasons of player rows pile up.
+--
+-- pg_trgm ships with Postgres; creating it needs a role allowed to create extensions
+-- (the database owner on Postgres 13+).
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_players_first_name_trgm
+    ON players USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_players_last_name_trgm
+    ON players USING gin (lower(last_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_players_full_name_trgm
+    ON players USING gin (lower(first_name || ' ' || last_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_players_email_trgm
+    ON players USING gin (lower(email) gin_trgm_ops);
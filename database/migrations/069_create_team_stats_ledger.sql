@@ -0,0 +1,40 @@
+-- Migration: Create team_stats_ledger table and lease outbox rows while in flight
+-- Version: 069
+-- Description: Makes standings deltas from the game outbox idempotent, and lets the
+-- dispatcher deliver without holding row locks.
+--
+-- The outbox delivers at least once, so a TEAM_STATS delta can arrive twice: after a
+-- read timeout on a call api-gateway did apply, or when recording the delivery fails
+-- after the call succeeded. The teams columns are plain counters, so the second copy
+-- counted the game again. team_stats_ledger is the player_stats_ledger of migration 059
+-- for teams: one row per (game, team) holding the last direction applied, and a delta
+-- only lands when it flips that direction. The flip and the increment commit together
+-- in api-gateway (TeamService#applyGameStats).
+--
+-- Games finalized before this table existed have no row; unfinalizing one inserts a
+-- REVERT row and reverts as before.
+--
+-- IN_FLIGHT: OutboxDispatcher now claims due rows in a short transaction, marks them
+-- IN_FLIGHT with next_attempt_at as the lease expiry, and calls the other services with
+-- no transaction open. A row whose dispatcher died mid-delivery becomes due again when
+-- its lease runs out -- one more reason every delivery must be idempotent.
+
+CREATE TABLE IF NOT EXISTS team_stats_ledger (
+    id BIGSERIAL PRIMARY KEY,
+    game_id BIGINT NOT NULL,
+    team_id BIGINT NOT NULL,
+    direction VARCHAR(10) NOT NULL,
+    recorded_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uq_team_stats_ledger_game_team UNIQUE (game_id, team_id),
+    CONSTRAINT chk_team_stats_ledger_direction CHECK (direction IN ('APPLY', 'REVERT'))
+);
+
+ALTER TABLE game_outbox DROP CONSTRAINT IF EXISTS chk_game_outbox_status;
+ALTER TABLE game_outbox ADD CONSTRAINT chk_game_outbox_status
+    CHECK (status IN ('PENDING', 'IN_FLIGHT', 'DELIVERED', 'DEAD'));
+
+-- Expired leases are picked up by the same "what is due?" scan as pending rows.
+DROP INDEX IF EXISTS idx_game_outbox_due;
+CREATE INDEX IF NOT EXISTS idx_game_outbox_due
+    ON game_outbox (next_attempt_at, id) WHERE status IN ('PENDING', 'IN_FLIGHT');
@@ -1,4 +1,4 @@
-import { useCallback, useEffect, useMemo, useState } from 'react';
+import { useCallback, useEffect, useMemo, useRef, useState } from 'react';
 import { Link, useBlocker, useLocation, useNavigate, useParams } from 'react-router-dom';
 import { useAuth } from '../contexts/AuthContext';
 import api from '../services/api';
@@ -45,6 +45,10 @@ function LiveScoreEntry(props) {
 
     // State for game data (loaded from prop or route param)
     const [game, setGame] = useState(propGame || null);
+    // The game's version the scores on screen are based on. Score saves and the finalize send it,
+    // so a write from another device in between comes back as a 409 instead of being overwritten.
+    // This device's own goals, edits and deletes move it too; syncGameVersion picks those up.
+    const gameVersion = useRef(propGame?.version ?? null);
 
     // Derived from the loaded game so a tournament game gets its own period model even when the
     // caller did not pass one — the scorekeeper opens these by URL, not only from a tournament page.
@@ -188,6 +192,7 @@ function LiveScoreEntry(props) {
                     };
 
                     setGame(enrichedGame);
+                    gameVersion.current = enrichedGame.version;
                     setHomeScore(enrichedGame.homeScore || 0);
                     setAwayScore(enrichedGame.awayScore || 0);
                     setGameFinalized(enrichedGame.status === 'completed');
@@ -357,9 +362,31 @@ function LiveScoreEntry(props) {
         }
     };
 
+    // Backend events as last synced, by id, plus the feed version they are current to. Each
+    // load only fetches what changed since then; the merged list is then mapped as before.
+    const eventFeed = useRef({ gameId: null, version: 0, byId: new Map() });
+
+    const syncEvents = async () => {
+        let feed = eventFeed.current;
+        if (feed.gameId !== game.id) {
+            feed = eventFeed.current = { gameId: game.id, version: 0, byId: new Map() };
+        }
+        const changes = await api.getGameEventChanges(game.id, feed.version);
+        if (!changes || changes.version === feed.version) return null;
+
+        if (changes.reset) feed.byId.clear();
+        changes.deletedEventIds.forEach(id => feed.byId.delete(id));
+        changes.events.forEach(be => feed.byId.set(be.id, be));
+        feed.version = changes.version;
+
+        return [...feed.byId.values()].sort((a, b) =>
+            (a.period - b.period) || (a.timeMinutes - b.timeMinutes)
+            || (a.timeSeconds - b.timeSeconds) || (a.id - b.id));
+    };
+
     const loadEvents = async () => {
         try {
-            const backendEvents = await api.getGameEvents(game.id);
+            const backendEvents = await syncEvents();
             if (backendEvents && backendEvents.length > 0) {
                 // Map backend events back to the frontend format
                 const mappedEvents = backendEvents.map((be) => {
@@ -372,6 +399,7 @@ function LiveScoreEntry(props) {
                     return {
                         id: be.id,
                         backendId: be.id,
+                        backendVersion: be.version,
                         type: be.eventType,
                         period: rules.intToLabel(be.period),
                         time: timeStr,
@@ -389,6 +417,8 @@ function LiveScoreEntry(props) {
                     };
                 });
 
+                // Events still waiting to upload aren't on the server yet; keep them on screen and in the score
+                mappedEvents.push(...pendingUploads.current.map(p => p.event));
                 setEvents(mappedEvents);
 
                 // Recalculate scores from events to ensure consistency
@@ -490,6 +520,16 @@ function LiveScoreEntry(props) {
         if (onGameUpdated) onGameUpdated({ ...game, status: 'in_progress' });
     };
 
+    // After this device's own event writes, which change the game row (score, status) server-side
+    const syncGameVersion = async () => {
+        try {
+            const fresh = await api.getGame(game.id);
+            if (fresh) gameVersion.current = fresh.version;
+        } catch (error) {
+            console.warn('Could not refresh the game version:', error);
+        }
+    };
+
     // Brief "Saved" confirmation for actions that persist immediately (goal/penalty
     // add, event edit, period change) — shorter than the manual-save toast since
     // these can fire in quick succession during live scoring.
@@ -652,28 +692,88 @@ function LiveScoreEntry(props) {
         };
     };
 
-    const saveEventToBackend = async (event) => {
+    // Events that could not be sent because the rink Wi-Fi dropped, in the order they were
+    // recorded. They go up together in one batch call once the connection is back; each carries a
+    // client id, so a batch that timed out after the server applied it is safe to send again.
+    const pendingUploads = useRef([]);
+    const [pendingUploadCount, setPendingUploadCount] = useState(0);
+    const uploading = useRef(false);
+
+    const newClientId = () => (crypto.randomUUID ? crypto.randomUUID() : `${Date.now()}-${Math.random().toString(36).slice(2)}`);
+
+    // fetch() rejects with a TypeError when the request never reached the server
+    const isOffline = (error) => !navigator.onLine || error instanceof TypeError;
+
+    const flushPendingUploads = async () => {
+        if (uploading.current || pendingUploads.current.length === 0 || !game) return false;
+        uploading.current = true;
+        const batch = pendingUploads.current.slice();
         try {
-            const eventDto = { gameId: game.id, ...buildEventDto(event) };
-            const created = await api.saveGameEvent(game.id, eventDto);
-            // Attach the real backend id so this event can be updated/deleted without a reload
-            if (created && created.id) {
-                setEvents(prev => prev.map(e => e.id === event.id ? { ...e, backendId: created.id } : e));
-            }
+            const result = await api.syncGameEvents(game.id, batch.map(p => p.dto));
+            const idByClientId = new Map(result.results.map(r => [r.clientId, r.eventId]));
+            const localToBackend = new Map(batch.map(p => [p.event.id, idByClientId.get(p.dto.clientId)]));
+            pendingUploads.current = pendingUploads.current.slice(batch.length);
+            setPendingUploadCount(pendingUploads.current.length);
+            // New events start at version 0
+            setEvents(prev => prev.map(e => localToBackend.has(e.id) ? { ...e, backendId: localToBackend.get(e.id), backendVersion: 0 } : e));
+            markGameStarted();
+            await syncGameVersion();
+            flashAutoSaved();
             return true;
         } catch (error) {
-            console.error('Error saving event:', error);
-            alert('Failed to save event to backend. It will remain locally until page refresh.');
-            // Note: We don't remove it from local state so user doesn't lose data
-            // In a real app we might mark it as "unsaved" in UI
+            // Still offline: keep the queue for the next 'online' event or the next save
+            console.warn('Offline event upload failed, will retry:', error);
             return false;
+        } finally {
+            uploading.current = false;
+        }
+    };
+
+    useEffect(() => {
+        const handleOnline = () => { flushPendingUploads(); };
+        window.addEventListener('online', handleOnline);
+        return () => window.removeEventListener('online', handleOnline);
+    }, [game?.id]);
+
+    const saveEventToBackend = async (event) => {
+        const eventDto = { gameId: game.id, clientId: newClientId(), ...buildEventDto(event) };
+        // Anything already queued goes first, so the server sees events in recording order
+        if (pendingUploads.current.length === 0) {
+            try {
+                const created = await api.saveGameEvent(game.id, eventDto);
+                // Attach the real backend id so this event can be updated/deleted without a reload
+                if (created && created.id) {
+                    setEvents(prev => prev.map(e => e.id === event.id ? { ...e, backendId: created.id, backendVersion: created.version } : e));
+                }
+                await syncGameVersion();
+                return true;
+            } catch (error) {
+                if (!isOffline(error)) {
+                    console.error('Error saving event:', error);
+                    alert('Failed to save event to backend. It will remain locally until page refresh.');
+                    // Note: We don't remove it from local state so user doesn't lose data
+                    return false;
+                }
+            }
         }
+        pendingUploads.current.push({ event, dto: eventDto });
+        setPendingUploadCount(pendingUploads.current.length);
+        return flushPendingUploads();
     };
 
     const updateEventOnBackend = async (event) => {
+        const queued = pendingUploads.current.find(p => p.event.id === event.id);
+        if (queued) {
+            // Not uploaded yet: upload the edited version instead, under the same client id
+            queued.event = event;
+            queued.dto = { gameId: game.id, clientId: queued.dto.clientId, ...buildEventDto(event) };
+            return true;
+        }
         if (!event.backendId) return true; // never made it to the backend in the first place — nothing to update there
         try {
-            await api.updateGameEvent(game.id, event.backendId, buildEventDto(event));
+            const updated = await api.updateGameEvent(game.id, event.backendId, buildEventDto(event), event.backendVersion);
+            setEvents(prev => prev.map(e => e.id === event.id ? { ...e, backendVersion: updated.version } : e));
+            await syncGameVersion();
             return true;
         } catch (error) {
             console.error('Error updating event:', error);
@@ -801,10 +901,13 @@ function LiveScoreEntry(props) {
                 await api.deleteGameEvent(game.id, event.backendId);
                 // Reload from backend so score, goal counts, and jersey labels stay in sync
                 await loadEvents();
+                await syncGameVersion();
                 setIsDirty(false);
                 flashAutoSaved();
             } else {
-                // Event never made it to the backend (failed auto-save) — just drop it locally
+                // Event never made it to the backend (failed auto-save, or still queued) — just drop it locally
+                pendingUploads.current = pendingUploads.current.filter(p => p.event.id !== event.id);
+                setPendingUploadCount(pendingUploads.current.length);
                 setEvents(prev => prev.filter(e => e.id !== event.id));
                 if (event.type === 'goal') {
                     if (event.team === 'home') setHomeScore(prev => Math.max(0, prev - 1));
@@ -830,6 +933,7 @@ function LiveScoreEntry(props) {
         setIsStarting(true);
         try {
             await api.startGame(game.id);
+            await syncGameVersion();
             setGameStarted(true);
             if (onGameUpdated) {
                 onGameUpdated({ ...game, status: 'in_progress' });
@@ -862,7 +966,8 @@ function LiveScoreEntry(props) {
 
         try {
             // Save final score to backend with OT flag (forfeits override the score server-side)
-            const finalized = await api.finalizeGame(game.id, homeScore, awayScore, endedInOT, forfeitTeamId);
+            const finalized = await api.finalizeGame(game.id, homeScore, awayScore, endedInOT, forfeitTeamId, gameVersion.current);
+            gameVersion.current = finalized?.version ?? gameVersion.current;
             setGameFinalized(true);
             setIsDirty(false); // No longer dirty after finalize
             setShowSuccessMessage(true);
@@ -973,7 +1078,8 @@ function LiveScoreEntry(props) {
         setCurrentPeriod(nextPeriod);
 
         try {
-            await api.updateGameScore(game.id, homeScore, awayScore, rules.labelToInt(nextPeriod));
+            const saved = await api.updateGameScore(game.id, homeScore, awayScore, rules.labelToInt(nextPeriod), gameVersion.current);
+            gameVersion.current = saved.version;
             markGameStarted();
             flashAutoSaved();
         } catch (error) {
@@ -1037,7 +1143,8 @@ function LiveScoreEntry(props) {
     const saveGame = async () => {
         setSavingDraft(true);
         try {
-            await api.updateGameScore(game.id, homeScore, awayScore);
+            const saved = await api.updateGameScore(game.id, homeScore, awayScore, undefined, gameVersion.current);
+            gameVersion.current = saved.version;
             setIsDirty(false);
             // Sync with parent immediately
             if (onDirtyChange) onDirtyChange(false);
@@ -1795,6 +1902,15 @@ function LiveScoreEntry(props) {
                 </div>
             )}
 
+            {pendingUploadCount > 0 && !showSaveSuccess && (
+                <div className="success-toast save-toast sk-offline-toast">
+                    <div className="success-icon">📡</div>
+                    <div className="success-text">
+                        <strong>Offline</strong>
+                        <p>{pendingUploadCount} {pendingUploadCount === 1 ? 'event is' : 'events are'} saved on this device and will upload when the connection returns.</p>
+                    </div>
+                </div>
+            )}
             {showSaveSuccess && (
                 <div className="success-toast save-toast">
                     <div className="success-icon">💾</div>
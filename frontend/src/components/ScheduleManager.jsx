@@ -65,7 +65,7 @@ const ScheduleManager = () => {
     const [hasPendingChanges, setHasPendingChanges] = useState(false);
     const [pendingChanges, setPendingChanges] = useState({
         addedGames: [],      // Games created locally (not yet in DB)
-        editedGames: {},     // Map of gameId -> updated game data
+        editedGames: {},     // Map of gameId -> updated game data, with the version it was edited from
         deletedGameIds: []   // IDs of games to delete from DB
     });
     const [confirmModal, setConfirmModal] = useState({
@@ -287,15 +287,22 @@ const ScheduleManager = () => {
                         await axios.delete(`${API_BASE_URL}/games/${gameId}`);
                     }
 
-                    // 2. Create new games
-                    for (const game of pendingChanges.addedGames) {
-                        const { id, ...gameData } = game; // Remove temp ID
-                        await axios.post(`${API_BASE_URL}/games`, gameData);
+                    // 2. Create new games, in one request
+                    if (pendingChanges.addedGames.length > 0) {
+                        const newGames = pendingChanges.addedGames.map(({ id, ...gameData }) => gameData); // Remove temp IDs
+                        await axios.post(`${API_BASE_URL}/games/bulk`, newGames);
                     }
 
-                    // 3. Update edited games
+                    // 3. Update edited games. A 409 means someone else changed the game after it was
+                    // loaded here; skip it and let the reload below show what it is now.
+                    const conflicts = [];
                     for (const [gameId, gameData] of Object.entries(pendingChanges.editedGames)) {
-                        await axios.patch(`${API_BASE_URL}/games/${gameId}`, gameData);
+                        try {
+                            await axios.patch(`${API_BASE_URL}/games/${gameId}`, gameData);
+                        } catch (error) {
+                            if (error.response?.status !== 409) throw error;
+                            conflicts.push(gameId);
+                        }
                     }
 
                     // Clear pending changes
@@ -308,7 +315,13 @@ const ScheduleManager = () => {
                     // Reload games from DB
                     await fetchGames(selectedSeason);
 
-                    showMessage('success', 'Schedule saved successfully!');
+                    if (conflicts.length > 0) {
+                        showMessage('error', `${conflicts.length} edited game(s) were changed by someone else `
+                            + 'since you opened the schedule, so your edits to them were not saved. '
+                            + 'They have been reloaded; make those edits again.');
+                    } else {
+                        showMessage('success', 'Schedule saved successfully!');
+                    }
                 } catch (error) {
                     showMessage('error', error.response?.data || 'Failed to save schedule');
                 } finally {
@@ -444,7 +457,7 @@ const ScheduleManager = () => {
                 ...prev,
                 editedGames: {
                     ...prev.editedGames,
-                    [editingGame.id]: gameData
+                    [editingGame.id]: { ...gameData, version: editingGame.version }
                 }
             }));
         }
@@ -549,7 +562,8 @@ const ScheduleManager = () => {
                         awayTeamId: updated.awayTeamId,
                         gameDate: updated.gameDate,
                         rink: updated.rink,
-                        week: updated.week
+                        week: updated.week,
+                        version: updated.version
                     }
                 }
             }));
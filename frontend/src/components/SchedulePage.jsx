@@ -3,6 +3,7 @@ import { useEffect, useState } from 'react';
 import { Link, useNavigate } from 'react-router-dom';
 import PlayoffBracket from './PlayoffBracket';
 import { resolveTeamColor } from '../constants/teamColors';
+import { subscribeLiveScores } from '../utils/liveScores';
 import heroBg from '../assets/images/buzzard-full.jpg';
 import './SchedulePage.css';
 
@@ -73,6 +74,29 @@ const SchedulePage = () => {
         }
     }, [selectedSeason]);
 
+    // Scores arrive as they're entered, instead of the page going stale until a reload
+    useEffect(() => {
+        if (!selectedSeason) return undefined;
+        return subscribeLiveScores(
+            (update) => {
+                if (update.seasonId !== selectedSeason) return;
+                setGames(prev => prev.map(g => (g.id === update.gameId
+                    ? {
+                        ...g,
+                        homeScore: update.homeScore,
+                        awayScore: update.awayScore,
+                        period: update.period,
+                        status: update.status,
+                        endedInOT: update.endedInOT
+                    }
+                    : g)));
+            },
+            // The stream couldn't replay what was missed: reload the games, keeping the view as is
+            () => axios.get(`/games-api/games?seasonId=${selectedSeason}`)
+                .then(response => setGames(response.data))
+                .catch(error => console.error('Failed to reload games:', error)));
+    }, [selectedSeason]);
+
     const fetchSeasons = async () => {
         try {
             const response = await axios.get('/api/v1/seasons');
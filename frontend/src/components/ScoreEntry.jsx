@@ -25,7 +25,7 @@ function ScoreEntry({ game, onBack, onScoreUpdated }) {
             setSaving(true);
             setMessage(null);
 
-            await api.updateGameScore(game.id, homeScore, awayScore);
+            await api.updateGameScore(game.id, homeScore, awayScore, undefined, game.version);
 
             setMessage({ type: 'success', text: 'Score updated successfully!' });
 
@@ -51,15 +51,40 @@ function GameRecap() {
             };
             setGame(enrichedGame);
 
-            const [homePlayers, awayPlayers] = await Promise.all([
-                api.getPlayers({ teamId: gameData.homeTeamId, seasonId: gameData.seasonId }),
-                api.getPlayers({ teamId: gameData.awayTeamId, seasonId: gameData.seasonId }),
-            ]);
-            const allPlayers = [...homePlayers, ...awayPlayers];
+            // A completed game's box score is frozen at finalization: one lookup, with the player
+            // names already resolved. Anything else (or a snapshot still waiting on names) falls
+            // back to the rosters and the raw event list.
+            const boxScore = gameData.status === 'completed'
+                ? await api.getGameBoxScore(gameData.id).catch(() => null)
+                : null;
+            let playerById = boxScore?.players
+                ? (id) => boxScore.players[id]
+                : null;
+            if (!playerById) {
+                const [homePlayers, awayPlayers] = await Promise.all([
+                    api.getPlayers({ teamId: gameData.homeTeamId, seasonId: gameData.seasonId }),
+                    api.getPlayers({ teamId: gameData.awayTeamId, seasonId: gameData.seasonId }),
+                ]);
+                const allPlayers = [...homePlayers, ...awayPlayers];
+                playerById = (id) => allPlayers.find(p => Number(p.id) === Number(id));
+            }
 
-            const backendEvents = await api.getGameEvents(gameData.id);
-            if (backendEvents && backendEvents.length > 0) {
-                const mapped = backendEvents.map((be) => {
+            const rawEvents = boxScore
+                ? [
+                    ...boxScore.boxScore.goals.map(g => ({
+                        id: g.eventId, eventType: 'goal', period: g.period, timeMinutes: g.timeMinutes,
+                        timeSeconds: g.timeSeconds, teamId: g.teamId, playerId: g.scorerId,
+                        assist1PlayerId: g.assist1Id, assist2PlayerId: g.assist2Id, description: g.description,
+                    })),
+                    ...boxScore.boxScore.penalties.map(p => ({
+                        id: p.eventId, eventType: 'penalty', period: p.period, timeMinutes: p.timeMinutes,
+                        timeSeconds: p.timeSeconds, teamId: p.teamId, playerId: p.playerId,
+                        penaltyMinutes: p.minutes, description: p.description,
+                    })),
+                ]
+                : await api.getGameEvents(gameData.id);
+            if (rawEvents && rawEvents.length > 0) {
+                const mapped = rawEvents.map((be) => {
                     const isHome = Number(be.teamId) === Number(gameData.homeTeamId);
                     const periodMap = { 1: '1', 2: '2', 3: '3', 4: 'OT', 5: 'SO' };
                     const timeStr = `${String(be.timeMinutes || 0).padStart(2, '0')}:${String(be.timeSeconds || 0).padStart(2, '0')}`;
@@ -67,9 +92,9 @@ function GameRecap() {
                         const name = initial ? `${p.firstName[0]}. ${p.lastName}` : `${p.firstName} ${p.lastName}`;
                         return p.jerseyNumber != null && p.jerseyNumber !== '' ? `#${p.jerseyNumber} ${name}` : name;
                     };
-                    const mainPlayer = allPlayers.find(p => Number(p.id) === Number(be.playerId));
-                    const assist1 = allPlayers.find(p => Number(p.id) === Number(be.assist1PlayerId));
-                    const assist2 = allPlayers.find(p => Number(p.id) === Number(be.assist2PlayerId));
+                    const mainPlayer = be.playerId != null ? playerById(be.playerId) : null;
+                    const assist1 = be.assist1PlayerId != null ? playerById(be.assist1PlayerId) : null;
+                    const assist2 = be.assist2PlayerId != null ? playerById(be.assist2PlayerId) : null;
                     const assists = [];
                     if (assist1) assists.push(fmtName(assist1, true));
                     if (assist2) assists.push(fmtName(assist2, true));
@@ -174,6 +174,12 @@ const api = {
         return request(url);
     },
 
+    // Ranked name search, forgiving typos; one result per person unless seasonId is given
+    async searchPlayers(q, { seasonId, page = 0, size = 20 } = {}) {
+        const queryString = new URLSearchParams({ q, page, size, ...(seasonId && { seasonId }) }).toString();
+        return request(`/players/search?${queryString}`);
+    },
+
     // ============================================
     // TEAMS API
     // ============================================
@@ -233,18 +239,25 @@ const api = {
         return request(`${GAME_SERVICE_URL}/games/${gameId}`);
     },
 
-    async updateGame(gameId, data) {
+    // `version` is the game's version the change is based on; the server answers 409 if the game
+    // has changed since. Shift signups set one staff slot and hold no copy of the game, so without
+    // a version this reads the current one first.
+    async updateGame(gameId, data, version) {
         const GAME_SERVICE_URL = '/games-api';
+        if (version === undefined) {
+            version = (await request(`${GAME_SERVICE_URL}/games/${gameId}`)).version;
+        }
         return request(`${GAME_SERVICE_URL}/games/${gameId}`, {
             method: 'PATCH',
-            body: JSON.stringify(data)
+            body: JSON.stringify({ ...data, version })
         });
     },
 
-    async updateGameScore(gameId, homeScore, awayScore, period) {
+    // `version` is the game's version the score on screen came from (409 if it has changed since).
+    async updateGameScore(gameId, homeScore, awayScore, period, version) {
         return request(`/games/${gameId}/score`, {
             method: 'PATCH',
-            body: JSON.stringify({ homeScore, awayScore, period })
+            body: JSON.stringify({ homeScore, awayScore, period, version })
         });
     },
 
@@ -261,27 +274,51 @@ const api = {
         });
     },
 
+    // Events recorded offline, in recording order, each with a client-generated `clientId`.
+    // Applied in one transaction; client ids the game already has are skipped, so resending
+    // after a timeout is safe. Returns { version, homeScore, awayScore, results: [{ clientId,
+    // eventId, status }] }.
+    async syncGameEvents(gameId, events) {
+        return request(`/games/${gameId}/events/batch`, {
+            method: 'POST',
+            body: JSON.stringify({ events })
+        });
+    },
+
     async getGameEvents(gameId) {
         return request(`/games/${gameId}/events`);
     },
 
+    // Events created, edited or deleted after `since` — pass back the previous response's
+    // `version`, starting from 0. Returns { version, reset, events, deletedEventIds }.
+    async getGameEventChanges(gameId, since = 0) {
+        return request(`/games/${gameId}/events/changes?since=${since}`);
+    },
+
+    // { frozen, frozenAt, boxScore, players }: a completed game's box score as frozen at
+    // finalization, or computed from its events. `players` maps ids to names; null until resolved.
+    async getGameBoxScore(gameId) {
+        return request(`/games/${gameId}/box-score`);
+    },
+
     async deleteGameEvent(gameId, eventId) {
         return request(`/games/${gameId}/events/${eventId}`, {
             method: 'DELETE'
         });
     },
 
-    async updateGameEvent(gameId, eventId, event) {
+    // `version` is the event's version as last loaded (409 if it has changed since).
+    async updateGameEvent(gameId, eventId, event, version) {
         return request(`/games/${gameId}/events/${eventId}`, {
             method: 'PATCH',
-            body: JSON.stringify(event)
+            body: JSON.stringify({ ...event, version })
         });
     },
 
-    async finalizeGame(gameId, homeScore, awayScore, endedInOT = false, forfeitTeamId = null) {
+    async finalizeGame(gameId, homeScore, awayScore, endedInOT = false, forfeitTeamId = null, version) {
         return request(`/games/${gameId}/finalize`, {
             method: 'POST',
-            body: JSON.stringify({ homeScore, awayScore, endedInOT, forfeitTeamId })
+            body: JSON.stringify({ homeScore, awayScore, endedInOT, forfeitTeamId, version })
         });
     },
 
@@ -731,6 +768,33 @@ const api = {
         return request(`/stats/players?seasonId=${seasonId}`);
     },
 
+    // Top players in one category: 'points', 'goals', 'assists' or 'pim'
+    async getStatLeaders(seasonId, category = 'points', limit = 10) {
+        const queryString = new URLSearchParams({ seasonId, category, limit }).toString();
+        return request(`/stats/leaders?${queryString}`);
+    },
+
+    // All-time leaders, one page at a time; players are matched across seasons by email
+    async getCareerLeaders(category = 'points', page = 0, size = 25) {
+        const queryString = new URLSearchParams({ category, page, size }).toString();
+        return request(`/stats/career/leaders?${queryString}`);
+    },
+
+    // Career totals plus every season's line, for any of the player's season player ids
+    async getPlayerCareer(playerId) {
+        return request(`/stats/career/players/${playerId}`);
+    },
+
+    // Recompute a season's player stats from game events (ADMIN). Dry run by default;
+    // returns a job to poll with getPlayerStatsRebuild.
+    async rebuildPlayerStats(seasonId, dryRun = true) {
+        return request(`/games/season/${seasonId}/stats-rebuild?dryRun=${dryRun}`, { method: 'POST' });
+    },
+
+    async getPlayerStatsRebuild(jobId) {
+        return request(`/games/stats-rebuild/${jobId}`);
+    },
+
     async generatePreview() {
         return request('/users/generate-preview');
     },
@@ -952,6 +1016,7 @@ export const {
     login,
     logout,
     getPlayers,
+    searchPlayers,
     getTeams,
     getStandings,
     getTeam,
@@ -968,6 +1033,11 @@ export const {
     deleteSeason,
     getPlayerStats,
     getPlayerStatsBulk,
+    getStatLeaders,
+    getCareerLeaders,
+    getPlayerCareer,
+    rebuildPlayerStats,
+    getPlayerStatsRebuild,
     scorekeeperSignup,
     getUserRoles,
     updateUserRoles,
@@ -1018,6 +1088,7 @@ export const {
     getProfile,
     updateProfile,
     getGameEvents,
+    getGameBoxScore,
     getPlayerDashboard,
     getUserPublicName,
     checkPlayerProfileExists,
@@ -1026,6 +1097,7 @@ export const {
     deletePlayer,
     updateGameScore,
     saveGameEvent,
+    syncGameEvents,
     finalizeGame,
     unfinalizeGame,
     validatePenalty,
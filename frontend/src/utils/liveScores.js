@@ -0,0 +1,26 @@
+// Live score stream: score, period and status changes pushed by the gateway as Server-Sent
+// Events, so a page showing scores doesn't have to poll for them.
+//
+// EventSource reconnects by itself and sends the last event id it saw, and the server
+// replays what was missed. When it can't (too long away, or game-service restarted) it
+// sends `reset` instead — refetch whatever scores are on screen.
+
+/**
+ * @param {(update: {gameId, seasonId, homeTeamId, awayTeamId, homeScore, awayScore, period, status, endedInOT}) => void} onScore
+ * @param {() => void} [onReset]
+ * @returns {() => void} closes the stream
+ */
+export function subscribeLiveScores(onScore, onReset) {
+    if (typeof EventSource === 'undefined') return () => {};
+
+    const source = new EventSource('/api/v1/games/live');
+    source.addEventListener('score', (e) => {
+        try {
+            onScore(JSON.parse(e.data));
+        } catch (error) {
+            console.error('Bad live score event:', error);
+        }
+    });
+    source.addEventListener('reset', () => onReset && onReset());
+    return () => source.close();
+}